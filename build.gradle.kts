@@ -35,6 +35,8 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+	// Reactor Flux SSE 스트림 (Spring MVC 위에서 Flux 반환)
+	implementation("io.projectreactor:reactor-core")
 
 	// Openfeign QueryDSL
 	implementation("io.github.openfeign.querydsl:querydsl-core:7.1")
@@ -0,0 +1,9 @@
+package org.com.drop.domain.auction.auction.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuctionProperties.class)
+public class AuctionConfig {
+}
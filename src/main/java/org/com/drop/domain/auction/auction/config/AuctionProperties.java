@@ -0,0 +1,46 @@
+package org.com.drop.domain.auction.auction.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drop.auction")
+public record AuctionProperties(
+	@DefaultValue Timer timer,
+	@DefaultValue Batch batch,
+	@DefaultValue Stats stats
+) {
+
+	/**
+	 * 경매 시작/종료 타이머 설정
+	 *
+	 * @param tick 타이머 휠 한 칸의 간격. 시작/종료는 예정 시각보다 최대 tick만큼 늦게 반영된다.
+	 * @param wheelSize 단계마다의 버킷 수. 마감이 tick * wheelSize 이상 남은 경매는 위 단계 버킷에 들어간다.
+	 */
+	public record Timer(
+		@DefaultValue("50ms") Duration tick,
+		@DefaultValue("64") int wheelSize
+	) {
+	}
+
+	/**
+	 * 경매 시작/마감 묶음 처리 설정
+	 *
+	 * @param chunkSize 한 트랜잭션에서 시작하거나 마감하는 최대 경매 수
+	 */
+	public record Batch(
+		@DefaultValue("500") int chunkSize
+	) {
+	}
+
+	/**
+	 * 집계 컬럼(currentPrice, bidCount, popularityScore) 설정
+	 *
+	 * @param backfill 기동 시 모든 상태의 경매 집계 컬럼을 한 번 채운다. 컬럼 추가 전 데이터가 채워지면 꺼도 된다.
+	 */
+	public record Stats(
+		@DefaultValue("true") boolean backfill
+	) {
+	}
+}
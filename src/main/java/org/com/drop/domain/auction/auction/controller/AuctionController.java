@@ -235,7 +235,7 @@ public class AuctionController {
 	// ==================== 실시간 SSE ====================
 
 	/**
-	 * 실시간 최고가 SSE 스트림
+	 * 실시간 경매 SSE 스트림 (최고가, 입찰 수, 상태 변경, 종료 연장, 낙찰, 서버 시각)
 	 * GET /api/v1/auctions/{auctionId}/bid-stream
 	 */
 	@GetMapping(
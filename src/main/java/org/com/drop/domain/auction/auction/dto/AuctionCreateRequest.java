@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -31,6 +32,15 @@ public record AuctionCreateRequest(
 
 	@NotNull
 	@Future
-	LocalDateTime endAt
+	LocalDateTime endAt,
+
+	// 마감 연장(선택): 종료 몇 초 전부터(최대 1시간)의 입찰에 몇 초씩(최대 10분) 늦출지
+	@Positive
+	@Max(3600)
+	Integer softCloseWindowSeconds,
+
+	@Positive
+	@Max(600)
+	Integer softCloseExtensionSeconds
 ) { }
 
@@ -0,0 +1,13 @@
+package org.com.drop.domain.auction.auction.dto;
+
+import java.time.LocalDateTime;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+
+public record AuctionSchedule(
+	Long id,
+	Auction.AuctionStatus status,
+	LocalDateTime startAt,
+	LocalDateTime endAt
+) {
+}
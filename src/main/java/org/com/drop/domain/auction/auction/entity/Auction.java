@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import org.com.drop.domain.auction.product.entity.Product;
 import org.com.drop.global.exception.ErrorCode;
 import org.com.drop.global.exception.ServiceException;
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +20,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,9 +29,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "auctions", indexes = {@Index(name = "idx_auction_product_id", columnList = "productId"),
-	@Index(name = "idx_auction_start_at", columnList = "startAt"),
-	@Index(name = "idx_auction_end_at", columnList = "endAt"),
-	@Index(name = "idx_auction_status", columnList = "status")})
+	@Index(name = "idx_auction_status_start_at", columnList = "status, startAt"),
+	@Index(name = "idx_auction_status_end_at", columnList = "status, endAt"),
+	@Index(name = "idx_auction_status_popularity", columnList = "status, popularityScore, id"),
+	@Index(name = "idx_auction_popularity", columnList = "popularityScore, id")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -69,8 +72,25 @@ public class Auction {
 	@Builder.Default
 	private Integer bidCount = 0;
 
+	// 인기 점수 = 입찰 수 + 상품 북마크 수 (입찰/북마크 쓰기 경로에서 함께 갱신)
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	@Builder.Default
+	private Integer popularityScore = 0;
+
+	// 마감 연장(soft close): 종료 softCloseWindowSeconds초 전부터 들어온 입찰마다 종료 시각을
+	// softCloseExtensionSeconds초씩 늦춘다. 둘 다 비어 있으면 연장하지 않는다.
+	private Integer softCloseWindowSeconds;
+
+	private Integer softCloseExtensionSeconds;
+
 	private LocalDateTime deletedAt;
 
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long version;
+
 	public enum AuctionStatus { SCHEDULED, LIVE, ENDED, CANCELLED }
 
 	public Auction(
@@ -90,10 +110,12 @@ public class Auction {
 		this.endAt = endAt;
 		this.status = status;
 		this.bidCount = 0;
+		this.popularityScore = 0;
 	}
 
 	public void increaseBidCount() {
 		this.bidCount++;
+		this.popularityScore++;
 	}
 
 	public void end(LocalDateTime now) {
@@ -111,11 +133,43 @@ public class Auction {
 		this.status = AuctionStatus.ENDED;
 	}
 
+	public void configureSoftClose(Integer windowSeconds, Integer extensionSeconds) {
+		if ((windowSeconds == null) != (extensionSeconds == null)) {
+			throw new ServiceException(ErrorCode.AUCTION_INVALID_SOFT_CLOSE, "마감 연장 구간과 연장 시간은 함께 입력해야 합니다.");
+		}
+		this.softCloseWindowSeconds = windowSeconds;
+		this.softCloseExtensionSeconds = extensionSeconds;
+	}
 
-	public void start(LocalDateTime now) {
-		if (this.status == AuctionStatus.SCHEDULED) {
-			this.status = AuctionStatus.LIVE;
+	/**
+	 * 마감 연장 구간 안에 들어온 입찰이면 종료 시각을 늦춘다.
+	 *
+	 * @return 종료 시각이 늦춰졌으면 true
+	 */
+	public boolean extendEndAtIfSniped(LocalDateTime bidAt) {
+		LocalDateTime extended = softClosedEndAt(endAt, bidAt, softCloseWindowSeconds, softCloseExtensionSeconds);
+		if (extended.equals(endAt)) {
+			return false;
 		}
+		this.endAt = extended;
+		return true;
+	}
+
+	/**
+	 * bidAt 입찰을 받은 뒤의 종료 시각. 연장 규칙이 없거나 연장 구간 밖이면 endAt을 그대로 돌려준다.
+	 * 메모리에 경매 상태를 두는 입찰 경로도 같은 규칙을 쓰도록 정적으로 둔다.
+	 */
+	public static LocalDateTime softClosedEndAt(
+		LocalDateTime endAt,
+		LocalDateTime bidAt,
+		Integer windowSeconds,
+		Integer extensionSeconds
+	) {
+		if (windowSeconds == null || extensionSeconds == null
+			|| bidAt.isBefore(endAt.minusSeconds(windowSeconds))) {
+			return endAt;
+		}
+		return endAt.plusSeconds(extensionSeconds);
 	}
 
 	public void updateCurrentPrice(Long bidAmount) {
@@ -128,5 +182,11 @@ public class Auction {
 		if (this.currentPrice == null) {
 			this.currentPrice = this.startPrice;
 		}
+		if (this.bidCount == null) {
+			this.bidCount = 0;
+		}
+		if (this.popularityScore == null) {
+			this.popularityScore = this.bidCount;
+		}
 	}
 }
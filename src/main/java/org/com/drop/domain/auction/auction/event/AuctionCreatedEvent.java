@@ -0,0 +1,12 @@
+package org.com.drop.domain.auction.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매가 등록되었을 때 발행한다. 시작/종료 타이머 등록에 쓴다.
+ */
+public record AuctionCreatedEvent(
+	Long auctionId,
+	LocalDateTime startAt,
+	LocalDateTime endAt) {
+}
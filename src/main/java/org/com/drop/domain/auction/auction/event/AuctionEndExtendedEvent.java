@@ -0,0 +1,11 @@
+package org.com.drop.domain.auction.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 직전 입찰로 경매 종료 시각이 늦춰졌을 때 발행한다.
+ */
+public record AuctionEndExtendedEvent(
+	Long auctionId,
+	LocalDateTime endAt) {
+}
@@ -0,0 +1,8 @@
+package org.com.drop.domain.auction.auction.event;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+
+public record AuctionStatusChangedEvent(
+	Long auctionId,
+	Auction.AuctionStatus status) {
+}
@@ -0,0 +1,7 @@
+package org.com.drop.domain.auction.auction.event;
+
+public record AuctionWinnerDecidedEvent(
+	Long auctionId,
+	Long winnerId,
+	Long finalPrice) {
+}
@@ -4,11 +4,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.com.drop.domain.auction.auction.dto.AuctionSchedule;
 import org.com.drop.domain.auction.auction.entity.Auction;
 import org.com.drop.domain.auction.product.entity.Product;
 import org.com.drop.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,11 +24,176 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
 
 	boolean existsByProductSellerAndStatus(User seller, Auction.AuctionStatus status);
 
-	List<Auction> findAllByStatusAndStartAtBefore(Auction.AuctionStatus status, LocalDateTime now);
+	/**
+	 * 시작/종료 타이머를 다시 채울 때 쓴다. 엔티티 대신 시각만 읽는다.
+	 */
+	@Query("""
+		SELECT new org.com.drop.domain.auction.auction.dto.AuctionSchedule(a.id, a.status, a.startAt, a.endAt)
+		FROM Auction a
+		WHERE a.status IN :statuses AND a.deletedAt IS NULL
+		""")
+	List<AuctionSchedule> findSchedulesByStatusIn(@Param("statuses") List<Auction.AuctionStatus> statuses);
 
-	List<Auction> findAllByStatusAndEndAtBefore(Auction.AuctionStatus status, LocalDateTime now);
+	/**
+	 * 시작 시각이 지난 예정 경매 id를 잠그고 읽는다. idx_auction_status_start_at 인덱스 범위만 읽는다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT a.id FROM Auction a
+		WHERE a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.SCHEDULED
+		AND a.startAt <= :now
+		ORDER BY a.startAt ASC
+		""")
+	List<Long> findDueToStartIdsForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+	/**
+	 * 주어진 경매 중 시작할 수 있는 경매 id를 잠그고 읽는다. 이미 시작됐거나 시작 시각 전인 경매는 빠진다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT a.id FROM Auction a
+		WHERE a.id IN :ids
+		AND a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.SCHEDULED
+		AND a.startAt <= :now
+		""")
+	List<Long> findStartableIdsForUpdate(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE Auction a
+		SET a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.LIVE,
+			a.version = a.version + 1
+		WHERE a.id IN :ids
+		""")
+	int startAll(@Param("ids") List<Long> ids);
+
+	/**
+	 * 종료 시각이 지난 진행 중 경매 id를 id 순서로 읽는다.
+	 */
+	@Query("""
+		SELECT a.id FROM Auction a
+		WHERE a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.LIVE
+		AND a.endAt <= :now AND a.id > :afterId
+		ORDER BY a.id ASC
+		""")
+	List<Long> findDueToCloseIds(@Param("now") LocalDateTime now, @Param("afterId") Long afterId, Limit limit);
+
+	/**
+	 * 마감 대상 경매를 잠그고 읽는다. 잠금을 기다린 뒤에는 최신 상태로 다시 걸러지므로 이미 마감된 경매는 빠진다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT a FROM Auction a
+		WHERE a.id IN :ids
+		AND a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.LIVE
+		AND a.endAt <= :now
+		""")
+	List<Auction> findClosableForUpdate(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+	@Query("SELECT a.id, p.seller.id FROM Auction a JOIN a.product p WHERE a.id IN :ids")
+	List<Object[]> findSellerIdsByIdIn(@Param("ids") List<Long> ids);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE Auction a
+		SET a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.ENDED,
+			a.version = a.version + 1
+		WHERE a.id IN :ids
+		""")
+	int endAll(@Param("ids") List<Long> ids);
 
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("SELECT a FROM Auction a WHERE a.id = :id")
 	Optional<Auction> findByIdWithPessimisticLock(@Param("id") Long id);
+
+	@Query("SELECT a FROM Auction a JOIN FETCH a.product p JOIN FETCH p.seller WHERE a.id = :id")
+	Optional<Auction> findByIdWithSeller(@Param("id") Long id);
+
+	/**
+	 * 승인된 입찰 묶음을 반영한다. 현재가는 더 높은 경우에만 올리고 (비동기 반영 시 순서 역전 방지),
+	 * 입찰 수와 인기 점수는 반영된 입찰 수만큼 늘린다. 이미 마감된 경매에는 반영하지 않고 0을 반환한다.
+	 */
+	@Modifying
+	@Query("""
+		UPDATE Auction a
+		SET a.currentPrice = CASE WHEN a.currentPrice < :price THEN :price ELSE a.currentPrice END,
+			a.bidCount = a.bidCount + :count,
+			a.popularityScore = a.popularityScore + :count,
+			a.version = a.version + 1
+		WHERE a.id = :id
+		AND a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.LIVE
+		""")
+	int applyAcceptedBids(@Param("id") Long id, @Param("price") Integer price, @Param("count") Integer count);
+
+	/**
+	 * 낙관적 입찰: 진행 중이고 최소 입찰 단위를 만족할 때만 현재가를 올린다. 반영된 row 수를 반환한다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE Auction a
+		SET a.currentPrice = :price, a.bidCount = a.bidCount + 1, a.popularityScore = a.popularityScore + 1,
+			a.version = a.version + 1
+		WHERE a.id = :id
+		AND a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.LIVE
+		AND a.endAt > :now
+		AND a.currentPrice + a.minBidStep <= :price
+		""")
+	int compareAndSetCurrentPrice(
+		@Param("id") Long id,
+		@Param("price") Integer price,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 마감 연장: 진행 중이고 지금 종료 시각보다 늦을 때만 종료 시각을 늦춘다 (비동기 반영 시 순서 역전 방지).
+	 */
+	@Modifying
+	@Query("""
+		UPDATE Auction a
+		SET a.endAt = :endAt, a.version = a.version + 1
+		WHERE a.id = :id
+		AND a.status = org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus.LIVE
+		AND a.endAt < :endAt
+		""")
+	int extendEndAt(@Param("id") Long id, @Param("endAt") LocalDateTime endAt);
+
+	/**
+	 * 북마크 추가/삭제를 해당 상품 경매의 인기 점수에 반영한다.
+	 */
+	@Modifying
+	@Query("""
+		UPDATE Auction a
+		SET a.popularityScore = a.popularityScore + :delta, a.version = a.version + 1
+		WHERE a.product.id = :productId
+		""")
+	int addPopularityScore(@Param("productId") Long productId, @Param("delta") Integer delta);
+
+	@Query("""
+		SELECT a FROM Auction a JOIN FETCH a.product
+		WHERE a.status IN :statuses AND a.id > :afterId
+		ORDER BY a.id ASC
+		""")
+	List<Auction> findStatsTargets(
+		@Param("statuses") List<Auction.AuctionStatus> statuses,
+		@Param("afterId") Long afterId,
+		Limit limit
+	);
+
+	/**
+	 * 집계 컬럼 보정: 읽은 시점 이후 다른 쓰기가 없었을 때(version 일치)만 덮어쓴다.
+	 */
+	@Modifying
+	@Query("""
+		UPDATE Auction a
+		SET a.currentPrice = :currentPrice, a.bidCount = :bidCount, a.popularityScore = :popularityScore,
+			a.version = a.version + 1
+		WHERE a.id = :id AND a.version = :version
+		""")
+	int overwriteStats(
+		@Param("id") Long id,
+		@Param("version") Long version,
+		@Param("currentPrice") Integer currentPrice,
+		@Param("bidCount") Integer bidCount,
+		@Param("popularityScore") Integer popularityScore
+	);
 }
@@ -1,15 +1,18 @@
 package org.com.drop.domain.auction.auction.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.com.drop.domain.auction.auction.dto.AuctionCreateRequest;
 import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionCreatedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
 import org.com.drop.domain.auction.auction.repository.AuctionRepository;
 import org.com.drop.domain.auction.product.entity.Product;
 import org.com.drop.domain.auction.product.service.ProductService;
 import org.com.drop.domain.user.entity.User;
-import org.com.drop.global.exception.ErrorCode;
-import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 public class AuctionService {
 	private final ProductService productService;
 	private final AuctionRepository auctionRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
 	public Auction addAuction(AuctionCreateRequest request, User actor) {
 		Product product = productService.findProductById(request.product_id());
 		productService.validUser(product.getSeller().getId(), actor);
@@ -31,22 +36,42 @@ public class AuctionService {
 			request.startAt(),
 			request.endAt(),
 			Auction.AuctionStatus.SCHEDULED);
-		return auctionRepository.save(auction);
+		auction.configureSoftClose(request.softCloseWindowSeconds(), request.softCloseExtensionSeconds());
+		Auction saved = auctionRepository.save(auction);
+		eventPublisher.publishEvent(new AuctionCreatedEvent(saved.getId(), saved.getStartAt(), saved.getEndAt()));
+		return saved;
 	}
 
+	/**
+	 * 시작 시각이 지난 예정 경매를 limit개까지 한 번의 UPDATE로 시작한다.
+	 *
+	 * @return 이번에 시작한 경매 id
+	 */
 	@Transactional
-	public void startAuction(Long auctionId) {
-		Auction auction = auctionRepository.findById(auctionId)
-			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다." ));
-
-		auction.start(LocalDateTime.now());
+	public List<Long> startDueAuctions(int limit) {
+		return start(auctionRepository.findDueToStartIdsForUpdate(LocalDateTime.now(), Limit.of(limit)));
 	}
 
+	/**
+	 * 주어진 경매 중 시작 시각이 지난 예정 경매만 한 번의 UPDATE로 시작한다.
+	 * 타이머와 정기 점검이 겹쳐 여러 번 호출돼도 한 번만 반영된다.
+	 *
+	 * @return 이번에 시작한 경매 id
+	 */
 	@Transactional
-	public void endAuction(Long auctionId) {
-		Auction auction = auctionRepository.findById(auctionId)
-			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다." ));
+	public List<Long> startAuctions(List<Long> auctionIds) {
+		return start(auctionRepository.findStartableIdsForUpdate(auctionIds, LocalDateTime.now()));
+	}
 
-		auction.expire();
+	private List<Long> start(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return auctionIds;
+		}
+		auctionRepository.startAll(auctionIds);
+		// 입찰 상태 캐시 무효화와 SSE 상태 이벤트는 경매마다 커밋 후 처리된다.
+		for (Long auctionId : auctionIds) {
+			eventPublisher.publishEvent(new AuctionStatusChangedEvent(auctionId, Auction.AuctionStatus.LIVE));
+		}
+		return auctionIds;
 	}
 }
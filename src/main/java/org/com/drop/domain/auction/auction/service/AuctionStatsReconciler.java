@@ -0,0 +1,95 @@
+package org.com.drop.domain.auction.auction.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매의 집계 컬럼(currentPrice, bidCount, popularityScore)을 bids 테이블 기준으로 보정한다.
+ * 쓰기 경로에서 누락/중복 반영이 생겨도 다음 보정 주기에 원래 값으로 돌아온다.
+ * REDIS 입찰 모드에서 아직 DB에 반영되지 않은 입찰이 있는 경매는 건너뛰고 다음 주기에 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionStatsReconciler {
+
+	// 입찰이 들어오는 진행 중 경매만 확인한다. 종료된 경매는 진행 중일 때 마지막으로 보정된 값을 유지한다.
+	private static final List<Auction.AuctionStatus> TARGET_STATUSES = List.of(Auction.AuctionStatus.LIVE);
+	private static final List<Auction.AuctionStatus> ALL_STATUSES = List.of(Auction.AuctionStatus.values());
+
+	private final AuctionRepository auctionRepository;
+	private final BidRepository bidRepository;
+	private final RedisBidAdmissionStore bidAdmissionStore;
+
+	/**
+	 * afterId 다음부터 size개의 진행 중 경매를 보정하고 마지막으로 확인한 경매 ID를 반환한다. 더 없으면 null.
+	 */
+	@Transactional
+	public Long reconcileChunk(Long afterId, int size) {
+		return reconcile(TARGET_STATUSES, afterId, size);
+	}
+
+	/**
+	 * 상태와 관계없이 afterId 다음부터 size개의 경매를 보정한다. 집계 컬럼이 생기기 전의 경매를 채우는 데 쓴다.
+	 */
+	@Transactional
+	public Long backfillChunk(Long afterId, int size) {
+		return reconcile(ALL_STATUSES, afterId, size);
+	}
+
+	private Long reconcile(List<Auction.AuctionStatus> statuses, Long afterId, int size) {
+		List<Auction> auctions = auctionRepository.findStatsTargets(statuses, afterId, Limit.of(size));
+		if (auctions.isEmpty()) {
+			return null;
+		}
+		Set<Long> queued = bidAdmissionStore.queuedAuctionIds();
+
+		Map<Long, Object[]> summaries = new HashMap<>();
+		for (Object[] row : bidRepository.summarizeByAuctionIdIn(auctions.stream().map(Auction::getId).toList())) {
+			summaries.put((Long)row[0], row);
+		}
+
+		int repaired = 0;
+		for (Auction auction : auctions) {
+			if (queued.contains(auction.getId())) {
+				continue;
+			}
+			Object[] summary = summaries.get(auction.getId());
+			int bidCount = summary != null ? ((Long)summary[1]).intValue() : 0;
+			int currentPrice = summary != null ? ((Long)summary[2]).intValue() : auction.getStartPrice();
+			int bookmarkCount = auction.getProduct().getBookmarkCount() != null
+				? auction.getProduct().getBookmarkCount() : 0;
+			int popularityScore = bidCount + bookmarkCount;
+
+			if (auction.getBidCount() == bidCount
+				&& auction.getCurrentPrice() == currentPrice
+				&& auction.getPopularityScore() == popularityScore) {
+				continue;
+			}
+
+			// 읽은 뒤 다른 입찰이 반영됐다면 version이 바뀌어 덮어쓰지 않고 다음 주기에 다시 확인한다.
+			repaired += auctionRepository.overwriteStats(
+				auction.getId(), auction.getVersion(), currentPrice, bidCount, popularityScore
+			);
+		}
+
+		if (repaired > 0) {
+			log.warn("[AUCTION STATS] 집계 컬럼 보정 count={}, range=({}, {}]",
+				repaired, afterId, auctions.getLast().getId());
+		}
+		return auctions.getLast().getId();
+	}
+}
@@ -0,0 +1,191 @@
+package org.com.drop.domain.auction.auction.timer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.com.drop.domain.auction.auction.config.AuctionProperties;
+import org.com.drop.domain.auction.auction.dto.AuctionSchedule;
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionCreatedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.auction.service.AuctionService;
+import org.com.drop.domain.auction.bid.service.AuctionClosePipeline;
+import org.com.drop.global.lease.SchedulerLease;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 시작/종료 타이머.
+ * 예정 경매의 startAt, 진행 중인 경매의 endAt을 {@link HierarchicalTimerWheel}에 걸어 두고 그 시각에 바로 상태를 바꾼다.
+ * <ul>
+ *     <li>기동 시 DB에서 예정/진행 중인 경매를 읽어 다시 채우고, 새로 등록된 경매는 커밋 후 추가한다.</li>
+ *     <li>마감 연장으로 종료 시각이 늦춰지면 커밋 후 새 종료 시각에 다시 건다. 이전 시각의 타이머는 그대로 두고 마감에서 걸러진다.</li>
+ *     <li>휠은 전용 스레드 하나가 tick마다 돌리고, 만료된 경매의 시작/종료 트랜잭션은 가상 스레드에서 실행한다.</li>
+ *     <li>같은 tick에 시작/종료 시각이 된 경매는 모아서 한 번의 UPDATE로 시작하고, {@link AuctionClosePipeline}으로 한 번에 마감한다.</li>
+ *     <li>아직 반영되지 않은 입찰이 남아 마감하지 못한 경매는 잠시 뒤에 다시 마감한다.</li>
+ *     <li>모든 인스턴스가 같은 타이머를 갖지만, (경매, 시작/종료, 예정 시각)마다 임대를 얻은 인스턴스 하나만 실행한다.</li>
+ *     <li>시작/마감은 상태와 시각을 다시 확인하므로 중복으로 울리거나 종료 시각이 늦춰진 뒤 울려도 안전하다.</li>
+ * </ul>
+ * 타이머는 인스턴스 메모리에만 있으므로 빠진 경매는 AuctionScheduler의 정기 점검이 처리한다.
+ */
+@Slf4j
+@Component
+public class AuctionTimer {
+
+	// 모든 인스턴스의 타이머가 tick 몇 개 안에 울리므로 그 사이만 중복을 막으면 된다.
+	private static final Duration LEASE_TTL = Duration.ofMinutes(1);
+	// 입찰 반영 스케줄러가 남은 입찰을 반영할 만큼 기다렸다가 다시 마감한다.
+	private static final Duration CLOSE_RETRY_DELAY = Duration.ofSeconds(1);
+
+	private final AuctionRepository auctionRepository;
+	private final AuctionService auctionService;
+	private final AuctionClosePipeline auctionClosePipeline;
+	private final AuctionProperties auctionProperties;
+	private final SchedulerLease schedulerLease;
+
+	private final ScheduledExecutorService tickExecutor = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("auction-timer").daemon().factory());
+	private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("auction-timer-", 0).factory());
+	private final HierarchicalTimerWheel<Task> wheel;
+
+	public AuctionTimer(
+		AuctionRepository auctionRepository,
+		AuctionService auctionService,
+		AuctionClosePipeline auctionClosePipeline,
+		AuctionProperties auctionProperties,
+		SchedulerLease schedulerLease
+	) {
+		this.auctionRepository = auctionRepository;
+		this.auctionService = auctionService;
+		this.auctionClosePipeline = auctionClosePipeline;
+		this.auctionProperties = auctionProperties;
+		this.schedulerLease = schedulerLease;
+		this.wheel = new HierarchicalTimerWheel<>(
+			auctionProperties.timer().tick().toMillis(),
+			auctionProperties.timer().wheelSize(),
+			System.currentTimeMillis());
+	}
+
+	@PostConstruct
+	public void start() {
+		long tickMs = auctionProperties.timer().tick().toMillis();
+		tickExecutor.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rehydrate() {
+		List<AuctionSchedule> schedules = auctionRepository.findSchedulesByStatusIn(
+			List.of(Auction.AuctionStatus.SCHEDULED, Auction.AuctionStatus.LIVE));
+		for (AuctionSchedule schedule : schedules) {
+			if (schedule.status() == Auction.AuctionStatus.SCHEDULED) {
+				schedule(schedule.id(), Type.START, schedule.startAt());
+			}
+			schedule(schedule.id(), Type.END, schedule.endAt());
+		}
+		log.info("[AUCTION TIMER] 타이머 복구 auctions={}", schedules.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAuctionCreated(AuctionCreatedEvent event) {
+		schedule(event.auctionId(), Type.START, event.startAt());
+		schedule(event.auctionId(), Type.END, event.endAt());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onEndExtended(AuctionEndExtendedEvent event) {
+		schedule(event.auctionId(), Type.END, event.endAt());
+	}
+
+	/**
+	 * at에 경매를 시작/종료하도록 예약한다. 이미 지난 시각이면 바로 실행한다.
+	 */
+	public void schedule(Long auctionId, Type type, LocalDateTime at) {
+		long deadlineMs = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		Task task = new Task(auctionId, type, deadlineMs);
+		if (!wheel.add(task, deadlineMs)) {
+			fire(List.of(task));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		tickExecutor.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	private void tick() {
+		try {
+			List<Task> expired = new ArrayList<>();
+			wheel.advance(System.currentTimeMillis(), expired::add);
+			if (!expired.isEmpty()) {
+				fire(expired);
+			}
+		} catch (RuntimeException e) {
+			// 예외가 밖으로 나가면 이후 tick이 더 이상 실행되지 않는다.
+			log.warn("경매 타이머 처리 실패", e);
+		}
+	}
+
+	private void fire(List<Task> tasks) {
+		workers.execute(() -> {
+			List<Long> starting = new ArrayList<>();
+			List<Long> closing = new ArrayList<>();
+			for (Task task : tasks) {
+				if (!schedulerLease.tryAcquire(task.leaseKey(), LEASE_TTL)) {
+					continue;
+				}
+				if (task.type() == Type.START) {
+					starting.add(task.auctionId());
+				} else {
+					closing.add(task.auctionId());
+				}
+			}
+			if (!starting.isEmpty()) {
+				start(starting);
+			}
+			if (!closing.isEmpty()) {
+				LocalDateTime retryAt = LocalDateTime.now().plus(CLOSE_RETRY_DELAY);
+				auctionClosePipeline.close(closing).forEach(auctionId -> schedule(auctionId, Type.END, retryAt));
+			}
+		});
+	}
+
+	private void start(List<Long> auctionIds) {
+		int chunkSize = auctionProperties.batch().chunkSize();
+		for (int from = 0; from < auctionIds.size(); from += chunkSize) {
+			List<Long> chunk = auctionIds.subList(from, Math.min(from + chunkSize, auctionIds.size()));
+			try {
+				auctionService.startAuctions(chunk);
+			} catch (RuntimeException e) {
+				log.warn("경매 시작 실패 auctionIds={}", chunk, e);
+			}
+		}
+	}
+
+	public enum Type {
+		START, END
+	}
+
+	private record Task(Long auctionId, Type type, long deadlineMs) {
+
+		String leaseKey() {
+			return "auction-timer:" + type + ":" + auctionId + ":" + deadlineMs;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package org.com.drop.domain.auction.auction.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이머 휠.
+ * 0단계는 tick 간격 버킷 wheelSize개, i단계는 tick * wheelSize^i 간격 버킷 wheelSize개로 이루어진다.
+ * 먼 마감은 위 단계의 큰 버킷에 들어갔다가 그 버킷 구간에 들어서는 순간 아래 단계로 내려오므로,
+ * 작업 수나 마감까지 남은 시간과 관계없이 tick마다 버킷 몇 개만 확인한다.
+ * 만료는 마감 시각보다 이르지 않고, 늦어도 tick 하나 이내다.
+ */
+class HierarchicalTimerWheel<T> {
+
+	private final long tickMs;
+	private final int wheelSize;
+	private final List<List<List<Entry<T>>>> levels = new ArrayList<>();
+	// 마지막으로 처리한 0단계 버킷의 시작 시각
+	private long currentMs;
+	private int size;
+
+	HierarchicalTimerWheel(long tickMs, int wheelSize, long startMs) {
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.currentMs = Math.floorDiv(startMs, tickMs) * tickMs;
+	}
+
+	/**
+	 * @return 이미 마감이 지나 휠에 넣지 않았으면 false (호출자가 바로 실행한다)
+	 */
+	synchronized boolean add(T task, long deadlineMs) {
+		// 일찍 만료되지 않도록 마감을 tick 경계로 올림한다.
+		long slot = Math.ceilDiv(deadlineMs, tickMs);
+		if (slot <= currentMs / tickMs) {
+			return false;
+		}
+		place(new Entry<>(task, slot * tickMs));
+		size++;
+		return true;
+	}
+
+	/**
+	 * nowMs까지 tick을 하나씩 진행하며 만료된 작업을 expired로 넘긴다.
+	 */
+	synchronized void advance(long nowMs, Consumer<T> expired) {
+		while (currentMs + tickMs <= nowMs) {
+			currentMs += tickMs;
+			// 위 단계부터 현재 구간에 들어선 버킷을 아래 단계로 내린다.
+			long levelTick = tickMs;
+			int cascadeTop = 0;
+			for (int level = 1; level < levels.size(); level++) {
+				levelTick *= wheelSize;
+				if (currentMs % levelTick != 0) {
+					break;
+				}
+				cascadeTop = level;
+			}
+			for (int level = cascadeTop; level >= 1; level--) {
+				List<Entry<T>> bucket = bucket(level, currentMs);
+				List<Entry<T>> moved = new ArrayList<>(bucket);
+				bucket.clear();
+				for (Entry<T> entry : moved) {
+					place(entry);
+				}
+			}
+
+			List<Entry<T>> due = bucket(0, currentMs);
+			if (!due.isEmpty()) {
+				List<Entry<T>> fired = new ArrayList<>(due);
+				due.clear();
+				size -= fired.size();
+				fired.forEach(entry -> expired.accept(entry.task()));
+			}
+		}
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	private void place(Entry<T> entry) {
+		long levelTick = tickMs;
+		for (int level = 0; ; level++) {
+			if (level == levels.size()) {
+				levels.add(newLevel());
+			}
+			if (entry.deadlineMs() / levelTick - currentMs / levelTick < wheelSize) {
+				bucket(level, entry.deadlineMs()).add(entry);
+				return;
+			}
+			levelTick *= wheelSize;
+		}
+	}
+
+	private List<Entry<T>> bucket(int level, long timeMs) {
+		long levelTick = tickMs;
+		for (int i = 0; i < level; i++) {
+			levelTick *= wheelSize;
+		}
+		return levels.get(level).get((int)Math.floorMod(timeMs / levelTick, (long)wheelSize));
+	}
+
+	private List<List<Entry<T>>> newLevel() {
+		List<List<Entry<T>>> buckets = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			buckets.add(new ArrayList<>());
+		}
+		return buckets;
+	}
+
+	private record Entry<T>(T task, long deadlineMs) {
+	}
+}
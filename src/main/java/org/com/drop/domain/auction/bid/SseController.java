@@ -2,6 +2,7 @@ package org.com.drop.domain.auction.bid;
 
 import org.com.drop.domain.auction.bid.service.SseService;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,4 +25,12 @@ public class SseController {
 		return sseService.subscribe(auctionId);
 	}
 
+	/**
+	 * Reactor Flux 기반 최고가 스트림. 이벤트 형식은 /sse/auctions/{auctionId}와 같다.
+	 */
+	@GetMapping(value = "/v2/auctions/{auctionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<Object>> streamAuction(@PathVariable Long auctionId) {
+		return sseService.stream(auctionId);
+	}
+
 }
@@ -0,0 +1,101 @@
+package org.com.drop.domain.auction.bid.bidevent;
+
+import java.nio.charset.StandardCharsets;
+
+import org.com.drop.domain.auction.bid.service.SseService;
+import org.com.drop.global.sse.SseFanoutMode;
+import org.com.drop.global.sse.SseProperties;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 스트림 이벤트를 경매를 보고 있는 모든 인스턴스의 SSE 구독자에게 전달한다.
+ * REDIS 모드에서는 경매별 채널로 한 번만 발행하고, 각 인스턴스는 패턴 구독으로 메시지를 받아
+ * 자기 노드에 붙은 연결에만 전송한다.
+ * <ul>
+ *     <li>sse:auction:{auctionId}:price - "최고가:입찰 수"</li>
+ *     <li>sse:auction:{auctionId}:event - "이벤트 이름:JSON" (상태 변경, 종료 연장, 낙찰)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionEventFanout implements MessageListener {
+
+	public static final String CHANNEL_PATTERN = "sse:auction:*";
+	private static final String CHANNEL_PREFIX = "sse:auction:";
+	private static final String PRICE_SUFFIX = ":price";
+	private static final String EVENT_SUFFIX = ":event";
+	private static final String DELIMITER = ":";
+
+	private final SseService sseService;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final SseProperties sseProperties;
+
+	/**
+	 * @param bidCount 이 최고가 변경에 포함된 입찰 수
+	 */
+	public void publishBid(Long auctionId, Long price, int bidCount) {
+		if (publish(auctionId, PRICE_SUFFIX, price + DELIMITER + bidCount)) {
+			return;
+		}
+		sseService.notifyHighestPrice(auctionId, price);
+		sseService.notifyBidCount(auctionId, bidCount);
+	}
+
+	/**
+	 * @param data JSON으로 직렬화된 이벤트 데이터
+	 */
+	public void publishEvent(Long auctionId, String name, String data) {
+		if (publish(auctionId, EVENT_SUFFIX, name + DELIMITER + data)) {
+			return;
+		}
+		sseService.sendEvent(auctionId, name, data);
+	}
+
+	private boolean publish(Long auctionId, String suffix, String body) {
+		if (sseProperties.fanout() != SseFanoutMode.REDIS) {
+			return false;
+		}
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + auctionId + suffix, body);
+			return true;
+		} catch (RuntimeException e) {
+			// 발행 실패 시 최소한 현재 노드의 구독자에게는 전달한다.
+			log.warn("경매 이벤트 발행 실패, 로컬 전송으로 대체: auctionId={}, body={}", auctionId, body, e);
+			return false;
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			int delimiter = body.indexOf(DELIMITER);
+			if (channel.endsWith(PRICE_SUFFIX)) {
+				Long auctionId = auctionId(channel, PRICE_SUFFIX);
+				// 입찰 수가 없는 이전 형식("최고가")도 처리한다.
+				sseService.notifyHighestPrice(auctionId,
+					Long.valueOf(delimiter < 0 ? body : body.substring(0, delimiter)));
+				if (delimiter >= 0) {
+					sseService.notifyBidCount(auctionId, Integer.parseInt(body.substring(delimiter + 1)));
+				}
+			} else if (channel.endsWith(EVENT_SUFFIX)) {
+				sseService.sendEvent(auctionId(channel, EVENT_SUFFIX),
+					body.substring(0, delimiter), body.substring(delimiter + 1));
+			}
+		} catch (RuntimeException e) {
+			log.warn("경매 이벤트 처리 실패: channel={}, body={}", channel, body, e);
+		}
+	}
+
+	private static Long auctionId(String channel, String suffix) {
+		return Long.valueOf(channel.substring(CHANNEL_PREFIX.length(), channel.length() - suffix.length()));
+	}
+}
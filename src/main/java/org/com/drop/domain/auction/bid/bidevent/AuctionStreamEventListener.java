@@ -0,0 +1,54 @@
+package org.com.drop.domain.auction.bid.bidevent;
+
+import java.util.Map;
+
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionWinnerDecidedEvent;
+import org.com.drop.domain.auction.bid.service.SseService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 경매 상태 변경/종료 연장/낙찰을 경매 SSE 스트림으로 보낸다.
+ * 클라이언트는 마감 직전에도 상세/최고가 API를 다시 조회하지 않고 이 이벤트로 화면을 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionStreamEventListener {
+
+	private final AuctionEventFanout auctionEventFanout;
+	private final ObjectMapper objectMapper;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleStatusChanged(AuctionStatusChangedEvent event) {
+		publish(event.auctionId(), SseService.STATUS_EVENT, Map.of("status", event.status().name()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleEndExtended(AuctionEndExtendedEvent event) {
+		publish(event.auctionId(), SseService.EXTENSION_EVENT, Map.of("endAt", event.endAt()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleWinnerDecided(AuctionWinnerDecidedEvent event) {
+		publish(event.auctionId(), SseService.WINNER_EVENT,
+			Map.of("winnerId", event.winnerId(), "finalPrice", event.finalPrice()));
+	}
+
+	private void publish(Long auctionId, String name, Map<String, Object> data) {
+		try {
+			auctionEventFanout.publishEvent(auctionId, name, objectMapper.writeValueAsString(data));
+		} catch (JsonProcessingException e) {
+			log.warn("경매 이벤트 직렬화 실패: auctionId={}, event={}", auctionId, name, e);
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package org.com.drop.domain.auction.bid.bidevent;
 
-import org.com.drop.domain.auction.bid.service.SseService;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -12,11 +11,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BidEventListener {
 
-	private final SseService sseService;
+	private final AuctionEventFanout auctionEventFanout;
 
 	@Async
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleBidSuccess(BidSuccessEvent event) {
-		sseService.notifyHighestPrice(event.auctionId(), event.newhighestBid());
+		auctionEventFanout.publishBid(event.auctionId(), event.newhighestBid(), event.bidCount());
 	}
 }
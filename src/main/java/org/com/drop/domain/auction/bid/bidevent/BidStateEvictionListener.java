@@ -0,0 +1,27 @@
+package org.com.drop.domain.auction.bid.bidevent;
+
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
+import org.com.drop.domain.auction.bid.service.BidSequencer;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 상태가 DB에서 바뀌면 입찰 모드별로 들고 있는 경매 상태를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidStateEvictionListener {
+
+	private final RedisBidAdmissionStore bidAdmissionStore;
+	private final BidSequencer bidSequencer;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleStatusChanged(AuctionStatusChangedEvent event) {
+		bidAdmissionStore.evict(event.auctionId());
+		bidSequencer.invalidate(event.auctionId());
+	}
+}
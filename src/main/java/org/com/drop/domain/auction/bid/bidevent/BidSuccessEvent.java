@@ -1,6 +1,10 @@
 package org.com.drop.domain.auction.bid.bidevent;
 
+/**
+ * @param bidCount 이 이벤트에 포함된 입찰 수 (묶음 저장이면 같은 경매에 함께 저장된 입찰 수)
+ */
 public record BidSuccessEvent(
 	Long auctionId,
-	Long newhighestBid) {
+	Long newhighestBid,
+	int bidCount) {
 }
@@ -0,0 +1,33 @@
+package org.com.drop.domain.auction.bid.config;
+
+import java.util.concurrent.Executors;
+
+import org.com.drop.domain.auction.bid.bidevent.AuctionEventFanout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * drop.sse.fanout=redis 일 때만 경매 이벤트 채널을 구독한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "drop.sse", name = "fanout", havingValue = "redis")
+public class AuctionEventFanoutConfig {
+
+	@Bean
+	public RedisMessageListenerContainer auctionEventListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		AuctionEventFanout auctionEventFanout
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		// 같은 경매의 가격이 역순으로, 상태 변경과 낙찰이 뒤바뀌어 전달되지 않도록 메시지는 한 스레드에서 순서대로 처리한다.
+		container.setTaskExecutor(Executors.newSingleThreadExecutor(
+			Thread.ofVirtual().name("sse-fanout").factory()));
+		container.addMessageListener(auctionEventFanout, new PatternTopic(AuctionEventFanout.CHANNEL_PATTERN));
+		return container;
+	}
+}
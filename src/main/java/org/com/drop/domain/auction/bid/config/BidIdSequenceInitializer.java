@@ -0,0 +1,37 @@
+package org.com.drop.domain.auction.bid.config;
+
+import org.com.drop.domain.auction.bid.entity.Bid;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입찰 ID를 AUTO_INCREMENT에서 pooled 시퀀스(bids_seq 테이블)로 바꾼 뒤,
+ * 기존 bids 행과 ID가 겹치지 않도록 시퀀스 값을 현재 최대 ID + 할당 크기 이상으로 맞춘다.
+ * 웹 서버가 요청을 받기 전에 끝나야 하므로 싱글톤 생성 직후(서버 기동 전)에 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test")
+public class BidIdSequenceInitializer implements SmartInitializingSingleton {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		try {
+			int updated = jdbcTemplate.update(
+				"UPDATE bids_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + ? + 1 FROM bids))",
+				Bid.ID_ALLOCATION_SIZE
+			);
+			log.info("[BID ID] bids_seq 정렬 완료 rows={}", updated);
+		} catch (RuntimeException e) {
+			log.warn("[BID ID] bids_seq 정렬 실패 - 시퀀스 테이블이 없거나 지원하지 않는 DB입니다.", e);
+		}
+	}
+}
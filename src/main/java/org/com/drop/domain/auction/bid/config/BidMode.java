@@ -0,0 +1,15 @@
+package org.com.drop.domain.auction.bid.config;
+
+/**
+ * 입찰 처리 방식
+ */
+public enum BidMode {
+	/** 경매 row 비관적 락(SELECT ... FOR UPDATE) */
+	LOCK,
+	/** 조건부 UPDATE(compare-and-set) 후 충돌 시 재시도 */
+	OPTIMISTIC,
+	/** Redis 원자 스크립트로 입찰 승인 후 DB 비동기 반영 */
+	REDIS,
+	/** 경매별 단일 스레드 메일박스에서 메모리 검증 후 묶음 저장 */
+	SEQUENCER
+}
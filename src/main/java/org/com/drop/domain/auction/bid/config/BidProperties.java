@@ -0,0 +1,60 @@
+package org.com.drop.domain.auction.bid.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drop.bid")
+public record BidProperties(
+	@DefaultValue("LOCK") BidMode mode,
+	@DefaultValue Redis redis,
+	@DefaultValue Optimistic optimistic,
+	@DefaultValue Sequencer sequencer,
+	@DefaultValue GroupCommit groupCommit
+) {
+
+	/**
+	 * REDIS 모드 설정
+	 *
+	 * @param flushBatchSize 한 번에 DB로 반영할 최대 입찰 수
+	 * @param maxAttempts 입찰 자체의 문제로 반영에 실패한 입찰을 dead-letter 큐로 옮기기 전까지의 시도 횟수
+	 */
+	public record Redis(
+		@DefaultValue("500") int flushBatchSize,
+		@DefaultValue("3") int maxAttempts
+	) {
+	}
+
+	/**
+	 * OPTIMISTIC 모드 설정
+	 *
+	 * @param maxRetries 충돌 시 재시도 횟수 (최초 시도 제외)
+	 */
+	public record Optimistic(
+		@DefaultValue("3") int maxRetries
+	) {
+	}
+
+	/**
+	 * SEQUENCER 모드 설정
+	 *
+	 * @param maxBatchSize 메일박스에서 한 번에 검증/저장할 최대 입찰 수
+	 * @param timeoutMs 입찰 요청이 결과를 기다리는 최대 시간
+	 */
+	public record Sequencer(
+		@DefaultValue("100") int maxBatchSize,
+		@DefaultValue("5000") long timeoutMs
+	) {
+	}
+
+	/**
+	 * 승인된 입찰 묶음 저장(group commit) 설정
+	 *
+	 * @param windowMs 첫 입찰이 들어온 뒤 같은 묶음으로 모으는 최대 시간
+	 * @param maxBids 한 묶음의 최대 입찰 수
+	 */
+	public record GroupCommit(
+		@DefaultValue("10") long windowMs,
+		@DefaultValue("500") int maxBids
+	) {
+	}
+}
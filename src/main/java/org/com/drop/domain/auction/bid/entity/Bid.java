@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,6 +25,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "bids", indexes = {
 	@Index(name = "idx_bid_auction_id", columnList = "auction_id"),
+	@Index(name = "idx_bid_auction_amount", columnList = "auction_id, bid_amount"),
 	@Index(name = "idx_bid_user_id", columnList = "user_id")
 })
 @Getter
@@ -32,8 +34,12 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Bid {
 
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	// IDENTITY는 JDBC 배치 insert를 막기 때문에 pooled 시퀀스(MySQL에서는 bids_seq 테이블)로 ID를 미리 할당한다.
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bid_id_generator")
+	@SequenceGenerator(name = "bid_id_generator", sequenceName = "bids_seq", allocationSize = ID_ALLOCATION_SIZE)
 	private Long id;
 
 	// 어떤 경매에 대한 입찰인지 옥션id
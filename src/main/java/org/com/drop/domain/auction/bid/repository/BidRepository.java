@@ -23,6 +23,23 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 	@Query("SELECT b.auction.id, COUNT(b) FROM Bid b WHERE b.auction IN :auctions GROUP BY b.auction.id")
 	List<Object[]> countByAuctionIn(@Param("auctions") List<Auction> auctions);
 
+	@Query("SELECT b.auction.id, COUNT(b), MAX(b.bidAmount) FROM Bid b WHERE b.auction.id IN :auctionIds "
+		+ "GROUP BY b.auction.id")
+	List<Object[]> summarizeByAuctionIdIn(@Param("auctionIds") List<Long> auctionIds);
+
+	/**
+	 * 경매별 최고 입찰 (경매 id, 입찰자 id, 금액). 같은 최고가가 여럿이면 먼저 들어온 입찰이 앞에 온다.
+	 * 최고가는 idx_bid_auction_amount 인덱스로 경매마다 한 번에 찾는다.
+	 */
+	@Query("""
+		SELECT b.auction.id, b.bidder.id, b.bidAmount
+		FROM Bid b
+		WHERE b.auction.id IN :auctionIds
+		AND b.bidAmount = (SELECT MAX(b2.bidAmount) FROM Bid b2 WHERE b2.auction.id = b.auction.id)
+		ORDER BY b.id ASC
+		""")
+	List<Object[]> findTopBidsByAuctionIdIn(@Param("auctionIds") List<Long> auctionIds);
+
 	@Query(
 		value = """
 				SELECT b FROM Bid b
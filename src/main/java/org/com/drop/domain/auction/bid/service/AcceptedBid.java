@@ -0,0 +1,16 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 승인은 끝났지만 아직 DB에 반영되지 않은 입찰
+ * extendedEndAt은 이 입찰로 마감이 연장됐을 때의 새 종료 시각이다 (연장되지 않았으면 null).
+ */
+public record AcceptedBid(
+	Long auctionId,
+	Long userId,
+	Long bidAmount,
+	LocalDateTime createdAt,
+	LocalDateTime extendedEndAt
+) {
+}
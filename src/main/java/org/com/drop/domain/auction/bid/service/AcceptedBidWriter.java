@@ -0,0 +1,80 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.bidevent.BidSuccessEvent;
+import org.com.drop.domain.auction.bid.entity.Bid;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미 승인된 입찰을 한 트랜잭션으로 DB에 반영한다.
+ * 경매 row를 먼저 갱신해 잠그므로, 마감과 겹치면 마감이 이 입찰까지 보고 낙찰자를 정하거나
+ * 이미 마감된 경매라 반영하지 못하고 전체가 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AcceptedBidWriter {
+
+	private final BidRepository bidRepository;
+	private final AuctionRepository auctionRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public void write(List<AcceptedBid> acceptedBids) {
+		Map<Long, Long> highestByAuction = new LinkedHashMap<>();
+		Map<Long, Integer> countByAuction = new HashMap<>();
+		Map<Long, LocalDateTime> endAtByAuction = new HashMap<>();
+
+		for (AcceptedBid accepted : acceptedBids) {
+			highestByAuction.merge(accepted.auctionId(), accepted.bidAmount(), Math::max);
+			countByAuction.merge(accepted.auctionId(), 1, Integer::sum);
+			if (accepted.extendedEndAt() != null) {
+				endAtByAuction.merge(accepted.auctionId(), accepted.extendedEndAt(),
+					(left, right) -> left.isAfter(right) ? left : right);
+			}
+		}
+
+		highestByAuction.forEach((auctionId, price) -> {
+			if (auctionRepository.applyAcceptedBids(auctionId, Math.toIntExact(price),
+				countByAuction.get(auctionId)) == 0) {
+				throw new ServiceException(ErrorCode.AUCTION_ALREADY_ENDED,
+					"이미 마감된 경매의 입찰은 반영할 수 없습니다. auctionId: %d", auctionId);
+			}
+		});
+
+		List<Bid> bids = new ArrayList<>(acceptedBids.size());
+		for (AcceptedBid accepted : acceptedBids) {
+			bids.add(Bid.builder()
+				.auction(auctionRepository.getReferenceById(accepted.auctionId()))
+				.bidder(userRepository.getReferenceById(accepted.userId()))
+				.bidAmount(accepted.bidAmount())
+				.createdAt(accepted.createdAt())
+				.build());
+		}
+		bidRepository.saveAll(bids);
+
+		highestByAuction.forEach((auctionId, price) -> {
+			eventPublisher.publishEvent(new BidSuccessEvent(auctionId, price, countByAuction.get(auctionId)));
+			LocalDateTime endAt = endAtByAuction.get(auctionId);
+			if (endAt != null && auctionRepository.extendEndAt(auctionId, endAt) > 0) {
+				eventPublisher.publishEvent(new AuctionEndExtendedEvent(auctionId, endAt));
+			}
+		});
+	}
+}
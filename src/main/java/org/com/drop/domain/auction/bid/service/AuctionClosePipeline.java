@@ -0,0 +1,111 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.com.drop.domain.auction.auction.config.AuctionProperties;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.store.AdmissionClosure;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마감할 경매 id를 chunkSize개씩 나눠 {@link AuctionCloseService}로 마감한다.
+ * 묶음 트랜잭션이 실패하면 (낙찰자 중복 등) 그 묶음만 경매별 {@link WinnerService#finalizeAuction}으로 다시 처리한다.
+ * <p>
+ * 승인과 DB 반영이 나뉜 입찰 모드는 최고 입찰을 고르기 전에 입찰 접수를 닫고 남은 입찰이 반영됐는지 확인한다.
+ * <ul>
+ *     <li>REDIS: Redis의 종료 시각까지 지난 경매만 접수를 닫는다. 아직 반영되지 않은 입찰이 남은 경매는
+ *     마감하지 않고 돌려주며, 입찰 반영 스케줄러가 그 입찰을 반영한 뒤에 다시 마감한다.</li>
+ *     <li>SEQUENCER: 메일박스에 먼저 들어온 입찰이 모두 저장된 뒤에 마감한다.</li>
+ * </ul>
+ * 접수를 닫지 못한 묶음은 이번에 마감하지 않고 다음 sweep에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionClosePipeline {
+
+	private final AuctionCloseService auctionCloseService;
+	private final WinnerService winnerService;
+	private final AuctionProperties auctionProperties;
+	private final BidProperties bidProperties;
+	private final RedisBidAdmissionStore admissionStore;
+	private final BidSequencer bidSequencer;
+
+	/**
+	 * @return 접수는 닫았지만 남은 입찰이 반영되지 않아 이번에 마감하지 않은 경매 id
+	 */
+	public List<Long> close(List<Long> auctionIds) {
+		List<Long> pending = new ArrayList<>();
+		int chunkSize = auctionProperties.batch().chunkSize();
+		for (int from = 0; from < auctionIds.size(); from += chunkSize) {
+			List<Long> chunk = closeAdmission(
+				auctionIds.subList(from, Math.min(from + chunkSize, auctionIds.size())), pending);
+			if (chunk.isEmpty()) {
+				continue;
+			}
+			try {
+				auctionCloseService.closeChunk(chunk);
+			} catch (RuntimeException e) {
+				log.warn("[AUCTION CLOSE] 묶음 마감 실패, 경매별로 다시 처리합니다. size={}", chunk.size(), e);
+				chunk.forEach(this::closeOne);
+			}
+		}
+		return pending;
+	}
+
+	/**
+	 * @return 이번에 마감할 경매 id
+	 */
+	private List<Long> closeAdmission(List<Long> chunk, List<Long> pending) {
+		try {
+			return switch (bidProperties.mode()) {
+				case REDIS -> closeRedisAdmission(chunk, pending);
+				case SEQUENCER -> closeSequencerAdmission(chunk);
+				default -> chunk;
+			};
+		} catch (RuntimeException e) {
+			log.warn("[AUCTION CLOSE] 입찰 접수 마감 실패, 다음에 마감합니다. size={}", chunk.size(), e);
+			return List.of();
+		}
+	}
+
+	private List<Long> closeRedisAdmission(List<Long> chunk, List<Long> pending) {
+		AdmissionClosure closure = admissionStore.closeAdmission(chunk, LocalDateTime.now());
+		pending.addAll(closure.pendingIds());
+		return closure.closedIds();
+	}
+
+	private List<Long> closeSequencerAdmission(List<Long> chunk) {
+		CompletableFuture<?>[] closing = chunk.stream()
+			.map(bidSequencer::closeAdmission)
+			.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(closing).get(bidProperties.sequencer().timeoutMs(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return List.of();
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("[AUCTION CLOSE] 메일박스 입찰 처리 대기 실패, 다음에 마감합니다. size={}", chunk.size(), e);
+			return List.of();
+		}
+		return chunk;
+	}
+
+	private void closeOne(Long auctionId) {
+		try {
+			winnerService.finalizeAuction(auctionId);
+		} catch (RuntimeException e) {
+			log.warn("[AUCTION CLOSE] 경매 마감 실패 auctionId={}", auctionId, e);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionWinnerDecidedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.notification.service.NotificationService;
+import org.com.drop.domain.winner.domain.Winner;
+import org.com.drop.domain.winner.repository.WinnerBulkRepository;
+import org.com.drop.domain.winner.repository.WinnerRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종료 시각이 지난 경매 묶음을 한 트랜잭션으로 마감한다.
+ * 경매 수와 관계없이 잠금 조회, 최고 입찰 조회, 낙찰자 INSERT, 상태 UPDATE가 각각 한 번씩만 나간다.
+ * 상태 변경/낙찰 이벤트와 알림은 경매(낙찰자)마다 발행하고, 각 리스너가 커밋 후 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionCloseService {
+
+	private final AuctionRepository auctionRepository;
+	private final BidRepository bidRepository;
+	private final WinnerRepository winnerRepository;
+	private final WinnerBulkRepository winnerBulkRepository;
+	private final NotificationService notificationService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * @return 이번에 마감한 경매 수 (이미 마감됐거나 종료 시각이 늦춰진 경매는 건너뛴다)
+	 */
+	@Transactional
+	public int closeChunk(List<Long> auctionIds) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Auction> auctions = auctionRepository.findClosableForUpdate(auctionIds, now);
+		if (auctions.isEmpty()) {
+			return 0;
+		}
+		List<Long> ids = auctions.stream().map(Auction::getId).toList();
+
+		Map<Long, Long> sellerIds = toMap(auctionRepository.findSellerIdsByIdIn(ids));
+		Map<Long, Long> existingWinnerIds = toMap(winnerRepository.findIdsByAuctionIdIn(ids));
+		Map<Long, Object[]> topBids = new HashMap<>();
+		for (Object[] row : bidRepository.findTopBidsByAuctionIdIn(ids)) {
+			topBids.putIfAbsent((Long)row[0], row);
+		}
+
+		List<Winner> winners = new ArrayList<>();
+		Set<Long> winnerAuctionIds = new HashSet<>();
+		for (Auction auction : auctions) {
+			Long id = auction.getId();
+			Object[] topBid = topBids.get(id);
+			if (topBid == null || existingWinnerIds.containsKey(id)) {
+				continue;
+			}
+			winnerAuctionIds.add(id);
+			winners.add(Winner.builder()
+				.auction(auction)
+				.sellerId(sellerIds.get(id))
+				.userId((Long)topBid[1])
+				.finalPrice((Long)topBid[2])
+				.winTime(now)
+				.build());
+		}
+		if (!winners.isEmpty()) {
+			winnerBulkRepository.insertAll(winners);
+		}
+		auctionRepository.endAll(ids);
+
+		for (Long id : ids) {
+			eventPublisher.publishEvent(new AuctionStatusChangedEvent(id, Auction.AuctionStatus.ENDED));
+			Object[] topBid = topBids.get(id);
+			if (topBid == null) {
+				notificationService.addNotification(sellerIds.get(id), "경매가 유찰되었습니다.");
+				continue;
+			}
+			if (!winnerAuctionIds.contains(id)) {
+				continue;
+			}
+			Long userId = (Long)topBid[1];
+			eventPublisher.publishEvent(new AuctionWinnerDecidedEvent(id, userId, (Long)topBid[2]));
+			notificationService.addNotification(userId, "경매가 낙찰되었습니다.");
+			notificationService.addNotification(sellerIds.get(id), "경매가 낙찰되었습니다.");
+		}
+
+		log.info("[AUCTION CLOSE] 경매 마감 count={}, winners={}", ids.size(), winners.size());
+		return ids.size();
+	}
+
+	private static Map<Long, Long> toMap(List<Object[]> rows) {
+		Map<Long, Long> map = new HashMap<>(rows.size() * 2);
+		for (Object[] row : rows) {
+			map.put((Long)row[0], (Long)row[1]);
+		}
+		return map;
+	}
+}
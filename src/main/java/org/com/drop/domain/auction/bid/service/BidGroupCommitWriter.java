@@ -0,0 +1,152 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인된 입찰을 짧은 구간(windowMs) 또는 최대 개수(maxBids)만큼 모아 한 트랜잭션으로 저장한다.
+ * 여러 경매에서 동시에 들어온 입찰이 하나의 배치 insert와 경매별 UPDATE 한 번으로 반영되고,
+ * 제출한 쪽은 자기 입찰이 포함된 묶음이 커밋된 뒤에 결과를 받는다.
+ * 묶음 저장이 실패하면 제출(경매 메일박스 하나의 입찰)마다 따로 저장해, 스스로 실패한 제출만 실패시킨다.
+ * 종료 시에는 새 제출을 거절하고, 이미 받은 입찰은 모두 저장한 뒤 결과를 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidGroupCommitWriter {
+
+	private static final long IDLE_POLL_MS = 100;
+	private static final long SHUTDOWN_WAIT_MS = 5_000;
+
+	private final AcceptedBidWriter acceptedBidWriter;
+	private final BidProperties bidProperties;
+
+	private final BlockingQueue<GroupRequest> queue = new LinkedBlockingQueue<>();
+	private volatile boolean running;
+	private Thread committer;
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		committer = Thread.ofVirtual().name("bid-group-commit").start(this::run);
+	}
+
+	/**
+	 * 저장 중인 묶음을 끊지 않도록 인터럽트 대신 종료 표시 후 기다리고, 큐에 남은 입찰은 여기서 마저 저장한다.
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		try {
+			committer.join(SHUTDOWN_WAIT_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		List<GroupRequest> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			commit(remaining);
+		}
+	}
+
+	public CompletableFuture<Void> submit(List<AcceptedBid> bids) {
+		GroupRequest request = new GroupRequest(bids, new CompletableFuture<>());
+		queue.add(request);
+		// 종료 처리가 큐를 비운 뒤에 들어온 입찰은 저장되지 않으므로 바로 실패시킨다.
+		if (!running && queue.remove(request)) {
+			request.committed().completeExceptionally(new IllegalStateException("입찰 저장기가 종료되었습니다."));
+		}
+		return request.committed();
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				List<GroupRequest> group = collectGroup();
+				if (!group.isEmpty()) {
+					commit(group);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private List<GroupRequest> collectGroup() throws InterruptedException {
+		BidProperties.GroupCommit config = bidProperties.groupCommit();
+
+		List<GroupRequest> group = new ArrayList<>();
+		GroupRequest first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			return group;
+		}
+		group.add(first);
+		int bidCount = first.bids().size();
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.windowMs());
+		while (bidCount < config.maxBids()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				break;
+			}
+			GroupRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			group.add(next);
+			bidCount += next.bids().size();
+		}
+		return group;
+	}
+
+	private void commit(List<GroupRequest> group) {
+		List<AcceptedBid> bids = new ArrayList<>();
+		group.forEach(request -> bids.addAll(request.bids()));
+
+		try {
+			acceptedBidWriter.write(bids);
+		} catch (RuntimeException e) {
+			if (group.size() == 1) {
+				log.error("[BID GROUP COMMIT] 입찰 저장 실패 bids={}", bids.size(), e);
+				group.getFirst().committed().completeExceptionally(e);
+				return;
+			}
+			log.warn("[BID GROUP COMMIT] 묶음 저장 실패, 제출마다 다시 저장합니다. requests={}, bids={}",
+				group.size(), bids.size(), e);
+			group.forEach(this::commitEach);
+			return;
+		}
+		group.forEach(request -> request.committed().complete(null));
+	}
+
+	private void commitEach(GroupRequest request) {
+		try {
+			acceptedBidWriter.write(request.bids());
+		} catch (RuntimeException e) {
+			log.error("[BID GROUP COMMIT] 입찰 저장 실패 auctionId={}, bids={}",
+				request.bids().getFirst().auctionId(), request.bids().size(), e);
+			request.committed().completeExceptionally(e);
+			return;
+		}
+		request.committed().complete(null);
+	}
+
+	private record GroupRequest(
+		List<AcceptedBid> bids,
+		CompletableFuture<Void> committed
+	) {
+	}
+}
@@ -0,0 +1,14 @@
+package org.com.drop.domain.auction.bid.service;
+
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+
+/**
+ * 입찰 처리 방식별 구현체. {@code drop.bid.mode} 설정값으로 선택된다.
+ */
+public interface BidPlacementStrategy {
+
+	BidMode mode();
+
+	BidResponseDto place(Long auctionId, Long userId, Long bidAmount);
+}
@@ -0,0 +1,304 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매별 단일 작성자(single-writer) 메일박스.
+ * 같은 경매의 입찰은 하나의 메일박스에 쌓여 한 번에 한 스레드만 순서대로 처리하고,
+ * 현재가/최소 입찰 단위 검증은 메모리의 경매 상태로 수행한 뒤 승인된 입찰을 {@link BidGroupCommitWriter}로 넘겨
+ * 다른 경매의 입찰과 함께 묶어서 저장한다.
+ * 서로 다른 경매의 메일박스는 가상 스레드에서 병렬로 처리된다.
+ *
+ * 메모리 상태는 이 인스턴스가 해당 경매의 유일한 입찰 처리자라는 전제에서만 유효하다.
+ *
+ * 대기 시간을 넘긴 요청이 결과를 취소하면 그 입찰은 검증/저장하지 않는다.
+ * 이미 처리를 시작한 입찰은 취소되지 않으므로, 호출자는 취소에 실패하면 결과를 끝까지 기다려야 한다.
+ *
+ * 마감은 {@link #closeAdmission}으로 메일박스에 들어가 앞선 입찰이 모두 저장된 뒤에 처리되므로,
+ * 마감이 최고 입찰을 고를 때 메모리에만 있는 입찰이 남지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidSequencer {
+
+	private final AuctionRepository auctionRepository;
+	private final BidGroupCommitWriter bidGroupCommitWriter;
+	private final BidProperties bidProperties;
+
+	private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public CompletableFuture<BidResponseDto> submit(Long auctionId, Long userId, Long bidAmount) {
+		PendingBid pending = new PendingBid(userId, bidAmount, LocalDateTime.now(), new PendingResult());
+		// 입찰 추가와 유휴 메일박스 제거가 겹치지 않도록 맵 안에서 추가한다.
+		Mailbox mailbox = mailboxes.compute(auctionId, (id, existing) -> {
+			Mailbox target = existing != null ? existing : new Mailbox(id);
+			target.inbox.add(pending);
+			return target;
+		});
+		schedule(mailbox);
+		return pending.result();
+	}
+
+	/**
+	 * 마감 직전에 호출한다. 먼저 들어온 입찰을 모두 처리/저장한 뒤, 종료 시각이 지났으면 이후 입찰을 받지 않는다.
+	 * 메일박스가 없으면 처리할 입찰도 없으므로 바로 끝난다.
+	 */
+	public CompletableFuture<Void> closeAdmission(Long auctionId) {
+		CloseRequest request = new CloseRequest(new CompletableFuture<>());
+		Mailbox mailbox = mailboxes.computeIfPresent(auctionId, (id, existing) -> {
+			existing.inbox.add(request);
+			return existing;
+		});
+		if (mailbox == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		schedule(mailbox);
+		return request.closed();
+	}
+
+	/**
+	 * DB에서 경매 상태가 바뀌었을 때 다음 처리 시 다시 읽도록 표시한다. 처리 중이 아니면 메일박스를 바로 비운다.
+	 */
+	public void invalidate(Long auctionId) {
+		Mailbox mailbox = mailboxes.get(auctionId);
+		if (mailbox != null) {
+			mailbox.stale = true;
+			removeIfIdle(mailbox);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private void schedule(Mailbox mailbox) {
+		if (mailbox.running.compareAndSet(false, true)) {
+			executor.execute(() -> drain(mailbox));
+		}
+	}
+
+	private void drain(Mailbox mailbox) {
+		try {
+			List<Command> batch = pollBatch(mailbox);
+			while (!batch.isEmpty()) {
+				process(mailbox, batch);
+				batch = pollBatch(mailbox);
+			}
+		} finally {
+			mailbox.running.set(false);
+			if (!mailbox.inbox.isEmpty()) {
+				schedule(mailbox);
+			} else if (mailbox.state != null && mailbox.state.status != Auction.AuctionStatus.LIVE) {
+				removeIfIdle(mailbox);
+			}
+		}
+	}
+
+	private void removeIfIdle(Mailbox mailbox) {
+		mailboxes.computeIfPresent(mailbox.auctionId, (id, existing) ->
+			existing == mailbox && !mailbox.running.get() && mailbox.inbox.isEmpty() ? null : existing);
+	}
+
+	private List<Command> pollBatch(Mailbox mailbox) {
+		int max = bidProperties.sequencer().maxBatchSize();
+		List<Command> batch = new ArrayList<>();
+		Command command;
+		while (batch.size() < max && (command = mailbox.inbox.poll()) != null) {
+			batch.add(command);
+		}
+		return batch;
+	}
+
+	private void process(Mailbox mailbox, List<Command> batch) {
+		List<CloseRequest> closing = new ArrayList<>();
+		try {
+			if (mailbox.state == null || mailbox.stale) {
+				mailbox.stale = false;
+				mailbox.state = load(mailbox.auctionId);
+			}
+		} catch (RuntimeException e) {
+			for (Command command : batch) {
+				if (command instanceof PendingBid pending) {
+					pending.result().completeExceptionally(e);
+				} else {
+					closing.add((CloseRequest)command);
+				}
+			}
+			closing.forEach(close -> close.closed().complete(null));
+			return;
+		}
+
+		AuctionState state = mailbox.state;
+		List<PendingBid> acceptedPending = new ArrayList<>();
+		List<AcceptedBid> accepted = new ArrayList<>();
+
+		for (Command command : batch) {
+			if (command instanceof CloseRequest close) {
+				if (state.status == Auction.AuctionStatus.LIVE && !state.endAt.isAfter(LocalDateTime.now())) {
+					state.status = Auction.AuctionStatus.ENDED;
+				}
+				closing.add(close);
+				continue;
+			}
+			PendingBid pending = (PendingBid)command;
+			if (!pending.result().claim()) {
+				continue;
+			}
+			ServiceException rejection = validate(state, pending);
+			if (rejection != null) {
+				pending.result().completeExceptionally(rejection);
+				continue;
+			}
+			state.currentPrice = pending.bidAmount();
+			LocalDateTime endAt = Auction.softClosedEndAt(state.endAt, pending.requestedAt(),
+				state.softCloseWindowSeconds, state.softCloseExtensionSeconds);
+			LocalDateTime extendedEndAt = endAt.equals(state.endAt) ? null : endAt;
+			state.endAt = endAt;
+			acceptedPending.add(pending);
+			accepted.add(new AcceptedBid(mailbox.auctionId, pending.userId(), pending.bidAmount(),
+				pending.requestedAt(), extendedEndAt));
+		}
+
+		if (!accepted.isEmpty()) {
+			commit(mailbox, acceptedPending, accepted);
+		}
+		// 앞선 입찰의 저장이 끝난 뒤에 마감을 진행시킨다.
+		closing.forEach(close -> close.closed().complete(null));
+	}
+
+	private void commit(Mailbox mailbox, List<PendingBid> acceptedPending, List<AcceptedBid> accepted) {
+		try {
+			bidGroupCommitWriter.submit(accepted).join();
+		} catch (RuntimeException e) {
+			log.error("[BID SEQUENCER] 입찰 저장 실패 auctionId={}, size={}", mailbox.auctionId, accepted.size(), e);
+			mailbox.stale = true;
+			ServiceException failure = new ServiceException(ErrorCode.INTERNAL_SERVER_ERROR,
+				"입찰 저장 중 오류가 발생했습니다. auctionId: %d", mailbox.auctionId);
+			acceptedPending.forEach(pending -> pending.result().completeExceptionally(failure));
+			return;
+		}
+
+		for (PendingBid pending : acceptedPending) {
+			pending.result().complete(
+				BidResponseDto.of(mailbox.auctionId, true, pending.bidAmount(), pending.requestedAt())
+			);
+		}
+	}
+
+	private ServiceException validate(AuctionState state, PendingBid pending) {
+		if (state.status != Auction.AuctionStatus.LIVE) {
+			return new ServiceException(ErrorCode.AUCTION_NOT_LIVE, "진행 중인 경매가 아닙니다.");
+		}
+		if (state.endAt.isBefore(pending.requestedAt())) {
+			return new ServiceException(ErrorCode.AUCTION_ALREADY_ENDED, "이미 경매가 종료되었거나, 즉시 구매가 완료되었습니다.");
+		}
+		if (state.sellerId.equals(pending.userId())) {
+			return new ServiceException(ErrorCode.AUCTION_BIDDER_CANNOT_BE_OWNER, "경매 상품의 판매자는 입찰할 수 없습니다.");
+		}
+		if (pending.bidAmount() < state.currentPrice + state.minBidStep) {
+			return new ServiceException(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW,
+				"입찰 금액이 현재 최고가보다 낮거나 최소 입찰 단위를 충족하지 못했습니다.");
+		}
+		return null;
+	}
+
+	private AuctionState load(Long auctionId) {
+		Auction auction = auctionRepository.findByIdWithSeller(auctionId)
+			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다."));
+
+		AuctionState state = new AuctionState();
+		state.status = auction.getStatus();
+		state.endAt = auction.getEndAt();
+		state.sellerId = auction.getProduct().getSeller().getId();
+		state.currentPrice = auction.getCurrentPrice();
+		state.minBidStep = auction.getMinBidStep();
+		state.softCloseWindowSeconds = auction.getSoftCloseWindowSeconds();
+		state.softCloseExtensionSeconds = auction.getSoftCloseExtensionSeconds();
+		return state;
+	}
+
+	/**
+	 * 메일박스에 들어온 순서대로 처리되는 입찰 또는 마감 요청
+	 */
+	private sealed interface Command permits PendingBid, CloseRequest {
+	}
+
+	private record PendingBid(
+		Long userId,
+		Long bidAmount,
+		LocalDateTime requestedAt,
+		PendingResult result
+	) implements Command {
+	}
+
+	private record CloseRequest(
+		CompletableFuture<Void> closed
+	) implements Command {
+	}
+
+	/**
+	 * 메일박스가 처리를 시작(claim)하기 전에만 취소할 수 있는 입찰 결과
+	 */
+	private static class PendingResult extends CompletableFuture<BidResponseDto> {
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return claim() && super.cancel(mayInterruptIfRunning);
+		}
+	}
+
+	/**
+	 * 메일박스 처리 스레드만 읽고 쓰는 경매 상태
+	 */
+	private static class AuctionState {
+		private Auction.AuctionStatus status;
+		private LocalDateTime endAt;
+		private Long sellerId;
+		private long currentPrice;
+		private long minBidStep;
+		private Integer softCloseWindowSeconds;
+		private Integer softCloseExtensionSeconds;
+	}
+
+	private static class Mailbox {
+		private final Long auctionId;
+		private final Queue<Command> inbox = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean running = new AtomicBoolean();
+		private volatile boolean stale;
+		private volatile AuctionState state;
+
+		private Mailbox(Long auctionId) {
+			this.auctionId = auctionId;
+		}
+	}
+}
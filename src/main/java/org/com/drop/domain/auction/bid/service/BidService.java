@@ -1,24 +1,16 @@
 package org.com.drop.domain.auction.bid.service;
 
-import java.time.LocalDateTime;
+import java.util.List;
 
-import org.com.drop.domain.auction.auction.entity.Auction;
-import org.com.drop.domain.auction.auction.repository.AuctionRepository;
-import org.com.drop.domain.auction.bid.bidevent.BidSuccessEvent;
+import org.com.drop.domain.auction.bid.config.BidProperties;
 import org.com.drop.domain.auction.bid.dto.request.BidRequestDto;
 import org.com.drop.domain.auction.bid.dto.response.BidHistoryResponse;
 import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
 import org.com.drop.domain.auction.bid.entity.Bid;
 import org.com.drop.domain.auction.bid.repository.BidRepository;
-import org.com.drop.domain.user.entity.User;
-import org.com.drop.domain.user.repository.UserRepository;
-import org.com.drop.global.exception.ErrorCode;
-import org.com.drop.global.exception.ServiceException;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,63 +19,14 @@ import lombok.RequiredArgsConstructor;
 public class BidService {
 
 	private final BidRepository bidRepository;
-	private final UserRepository userRepository;
-	private final AuctionRepository auctionRepository;
-	private final ApplicationEventPublisher eventPublisher;
+	private final BidProperties bidProperties;
+	private final List<BidPlacementStrategy> placementStrategies;
 
-	@Transactional
+	/**
+	 * 입찰. 실제 처리는 drop.bid.mode 에 해당하는 {@link BidPlacementStrategy}가 담당한다.
+	 */
 	public BidResponseDto placeBid(Long auctionId, Long userId, BidRequestDto requestDto) {
-
-		Auction auction = auctionRepository.findByIdWithPessimisticLock(auctionId)
-			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다." ));
-
-		User bidder = userRepository.findById(userId)
-			.orElseThrow(() -> new ServiceException(ErrorCode.USER_NOT_FOUND, "해당 사용자를 찾을 수 없습니다."));
-
-		Long bidAmount = requestDto.bidAmount();
-		LocalDateTime now = LocalDateTime.now();
-
-		if (auction.getStatus() != Auction.AuctionStatus.LIVE) {
-			throw new ServiceException(ErrorCode.AUCTION_NOT_LIVE, "진행 중인 경매가 아닙니다." );
-		}
-
-		if (auction.getEndAt().isBefore(now)) {
-			throw new ServiceException(ErrorCode.AUCTION_ALREADY_ENDED, "이미 경매가 종료되었거나, 즉시 구매가 완료되었습니다.");
-		}
-
-		if (auction.getProduct().getSeller().getId().equals(bidder.getId())) {
-			throw new ServiceException(ErrorCode.AUCTION_BIDDER_CANNOT_BE_OWNER, "경매 상품의 판매자는 입찰할 수 없습니다.");
-		}
-
-		long currentHighest = auction.getCurrentPrice();
-		long minRequired = currentHighest + auction.getMinBidStep();
-
-		if (bidAmount < minRequired) {
-			throw new ServiceException(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW,
-				"입찰 금액이 현재 최고가보다 낮거나 최소 입찰 단위를 충족하지 못했습니다." );
-		}
-
-		Bid bid = Bid.builder()
-			.auction(auction)
-			.bidder(bidder)
-			.bidAmount(bidAmount)
-			.createdAt(now)
-			.build();
-
-		bidRepository.save(bid);
-
-		boolean isHighestBidder = true;
-
-		auction.updateCurrentPrice(bidAmount);
-
-		eventPublisher.publishEvent(new BidSuccessEvent(auctionId, bidAmount));
-
-		return BidResponseDto.of(
-			auction.getId(),
-			isHighestBidder,
-			bidAmount,
-			bid.getCreatedAt()
-		);
+		return resolveStrategy().place(auctionId, userId, requestDto.bidAmount());
 	}
 
 	public Page<BidHistoryResponse> getBidHistory(Long auctionId, Pageable pageable) {
@@ -91,4 +34,13 @@ public class BidService {
 		return bidsPage.map(BidHistoryResponse::from);
 
 	}
+
+	private BidPlacementStrategy resolveStrategy() {
+		for (BidPlacementStrategy strategy : placementStrategies) {
+			if (strategy.mode() == bidProperties.mode()) {
+				return strategy;
+			}
+		}
+		throw new IllegalStateException("지원하지 않는 입찰 모드입니다: " + bidProperties.mode());
+	}
 }
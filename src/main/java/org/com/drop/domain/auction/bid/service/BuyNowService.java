@@ -3,6 +3,8 @@ package org.com.drop.domain.auction.bid.service;
 import java.time.LocalDateTime;
 
 import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionWinnerDecidedEvent;
 import org.com.drop.domain.auction.auction.repository.AuctionRepository;
 import org.com.drop.domain.auction.bid.dto.request.BuyNowRequestDto;
 import org.com.drop.domain.auction.bid.dto.response.BuyNowResponseDto;
@@ -13,6 +15,7 @@ import org.com.drop.domain.winner.domain.Winner;
 import org.com.drop.domain.winner.repository.WinnerRepository;
 import org.com.drop.global.exception.ErrorCode;
 import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,7 @@ public class BuyNowService {
 	private final UserRepository userRepository;
 	private final WinnerRepository winnerRepository;
 	private final NotificationService notificationService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public BuyNowResponseDto buyNow(Long auctionId, Long userId, BuyNowRequestDto requestDto) {
@@ -71,6 +75,9 @@ public class BuyNowService {
 
 		Winner savedWinner = winnerRepository.save(winner);
 		auction.end(now);
+		eventPublisher.publishEvent(new AuctionStatusChangedEvent(auctionId, auction.getStatus()));
+		eventPublisher.publishEvent(
+			new AuctionWinnerDecidedEvent(auctionId, savedWinner.getUserId(), savedWinner.getFinalPrice()));
 
 		notificationService.addNotification(buyer, "즉시구매 성공하였습니다.");
 		notificationService.addNotification(auction.getProduct().getSeller(), "경매가 낙찰되었습니다.");
@@ -0,0 +1,98 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.bidevent.BidSuccessEvent;
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.domain.auction.bid.entity.Bid;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 row 비관적 락 기반 입찰 (기본 모드)
+ */
+@Component
+@RequiredArgsConstructor
+public class LockBidPlacement implements BidPlacementStrategy {
+
+	private final BidRepository bidRepository;
+	private final UserRepository userRepository;
+	private final AuctionRepository auctionRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public BidMode mode() {
+		return BidMode.LOCK;
+	}
+
+	@Override
+	@Transactional
+	public BidResponseDto place(Long auctionId, Long userId, Long bidAmount) {
+
+		Auction auction = auctionRepository.findByIdWithPessimisticLock(auctionId)
+			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다." ));
+
+		User bidder = userRepository.findById(userId)
+			.orElseThrow(() -> new ServiceException(ErrorCode.USER_NOT_FOUND, "해당 사용자를 찾을 수 없습니다."));
+
+		LocalDateTime now = LocalDateTime.now();
+
+		if (auction.getStatus() != Auction.AuctionStatus.LIVE) {
+			throw new ServiceException(ErrorCode.AUCTION_NOT_LIVE, "진행 중인 경매가 아닙니다." );
+		}
+
+		if (auction.getEndAt().isBefore(now)) {
+			throw new ServiceException(ErrorCode.AUCTION_ALREADY_ENDED, "이미 경매가 종료되었거나, 즉시 구매가 완료되었습니다.");
+		}
+
+		if (auction.getProduct().getSeller().getId().equals(bidder.getId())) {
+			throw new ServiceException(ErrorCode.AUCTION_BIDDER_CANNOT_BE_OWNER, "경매 상품의 판매자는 입찰할 수 없습니다.");
+		}
+
+		long currentHighest = auction.getCurrentPrice();
+		long minRequired = currentHighest + auction.getMinBidStep();
+
+		if (bidAmount < minRequired) {
+			throw new ServiceException(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW,
+				"입찰 금액이 현재 최고가보다 낮거나 최소 입찰 단위를 충족하지 못했습니다." );
+		}
+
+		Bid bid = Bid.builder()
+			.auction(auction)
+			.bidder(bidder)
+			.bidAmount(bidAmount)
+			.createdAt(now)
+			.build();
+
+		bidRepository.save(bid);
+
+		boolean isHighestBidder = true;
+
+		auction.updateCurrentPrice(bidAmount);
+		auction.increaseBidCount();
+		if (auction.extendEndAtIfSniped(now)) {
+			eventPublisher.publishEvent(new AuctionEndExtendedEvent(auctionId, auction.getEndAt()));
+		}
+
+		eventPublisher.publishEvent(new BidSuccessEvent(auctionId, bidAmount, 1));
+
+		return BidResponseDto.of(
+			auction.getId(),
+			isHighestBidder,
+			bidAmount,
+			bid.getCreatedAt()
+		);
+	}
+}
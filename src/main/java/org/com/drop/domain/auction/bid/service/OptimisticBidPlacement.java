@@ -0,0 +1,137 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.bidevent.BidSuccessEvent;
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.domain.auction.bid.entity.Bid;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조건부 UPDATE(compare-and-set) 기반 입찰.
+ * 락 없이 읽고 검증한 뒤 한 번의 UPDATE로 현재가를 올리며, 그 사이 다른 입찰이 먼저 반영되면
+ * 새 트랜잭션에서 다시 읽고 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticBidPlacement implements BidPlacementStrategy {
+
+	private static final String METRIC_ATTEMPTS = "bid.optimistic.attempts";
+	private static final String METRIC_CONFLICTS = "bid.optimistic.conflicts";
+	private static final String METRIC_EXHAUSTED = "bid.optimistic.exhausted";
+
+	private final AuctionRepository auctionRepository;
+	private final BidRepository bidRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final BidProperties bidProperties;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public BidMode mode() {
+		return BidMode.OPTIMISTIC;
+	}
+
+	@Override
+	public BidResponseDto place(Long auctionId, Long userId, Long bidAmount) {
+		int maxAttempts = bidProperties.optimistic().maxRetries() + 1;
+
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			meterRegistry.counter(METRIC_ATTEMPTS).increment();
+
+			BidResponseDto response = transactionTemplate.execute(
+				status -> tryPlace(auctionId, userId, bidAmount)
+			);
+			if (response != null) {
+				return response;
+			}
+
+			meterRegistry.counter(METRIC_CONFLICTS).increment();
+			log.debug("입찰 충돌 - auctionId={}, attempt={}/{}", auctionId, attempt, maxAttempts);
+		}
+
+		meterRegistry.counter(METRIC_EXHAUSTED).increment();
+		throw new ServiceException(ErrorCode.AUCTION_BID_CONFLICT, "입찰 재시도 횟수를 초과했습니다. auctionId: %d", auctionId);
+	}
+
+	/**
+	 * 한 번의 시도. 검증에 실패하면 예외, 다른 입찰과 충돌하면 null을 반환한다.
+	 */
+	private BidResponseDto tryPlace(Long auctionId, Long userId, Long bidAmount) {
+		Auction auction = auctionRepository.findByIdWithSeller(auctionId)
+			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다."));
+
+		User bidder = userRepository.findById(userId)
+			.orElseThrow(() -> new ServiceException(ErrorCode.USER_NOT_FOUND, "해당 사용자를 찾을 수 없습니다."));
+
+		LocalDateTime now = LocalDateTime.now();
+
+		if (auction.getStatus() != Auction.AuctionStatus.LIVE) {
+			throw new ServiceException(ErrorCode.AUCTION_NOT_LIVE, "진행 중인 경매가 아닙니다.");
+		}
+
+		if (auction.getEndAt().isBefore(now)) {
+			throw new ServiceException(ErrorCode.AUCTION_ALREADY_ENDED, "이미 경매가 종료되었거나, 즉시 구매가 완료되었습니다.");
+		}
+
+		if (auction.getProduct().getSeller().getId().equals(bidder.getId())) {
+			throw new ServiceException(ErrorCode.AUCTION_BIDDER_CANNOT_BE_OWNER, "경매 상품의 판매자는 입찰할 수 없습니다.");
+		}
+
+		if (bidAmount < (long)auction.getCurrentPrice() + auction.getMinBidStep()) {
+			throw new ServiceException(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW,
+				"입찰 금액이 현재 최고가보다 낮거나 최소 입찰 단위를 충족하지 못했습니다.");
+		}
+
+		int updated = auctionRepository.compareAndSetCurrentPrice(auctionId, bidAmount.intValue(), now);
+		if (updated == 0) {
+			return null;
+		}
+
+		Bid bid = Bid.builder()
+			.auction(auction)
+			.bidder(bidder)
+			.bidAmount(bidAmount)
+			.createdAt(now)
+			.build();
+
+		bidRepository.save(bid);
+
+		if (auction.getSoftCloseWindowSeconds() != null) {
+			extendEndAtIfSniped(auctionId, now);
+		}
+
+		eventPublisher.publishEvent(new BidSuccessEvent(auctionId, bidAmount, 1));
+
+		return BidResponseDto.of(auctionId, true, bidAmount, bid.getCreatedAt());
+	}
+
+	/**
+	 * 조건부 UPDATE가 이미 경매 row를 잠갔으므로, 다른 입찰이 늦춘 종료 시각까지 다시 읽어 그 기준으로 연장한다.
+	 */
+	private void extendEndAtIfSniped(Long auctionId, LocalDateTime now) {
+		Auction auction = auctionRepository.findByIdWithPessimisticLock(auctionId)
+			.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다."));
+		if (auction.extendEndAtIfSniped(now)) {
+			eventPublisher.publishEvent(new AuctionEndExtendedEvent(auctionId, auction.getEndAt()));
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.time.LocalDateTime;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.domain.auction.bid.store.BidAdmissionResult;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 원자 스크립트 기반 입찰.
+ * 승인/거절은 Redis에서 끝나고, 승인된 입찰만 BidFlushScheduler가 모아서 DB에 반영한다.
+ * DB는 경매 상태가 Redis에 아직 없을 때 한 번 조회한다.
+ * 마감이 연장된 입찰은 마감/타이머가 옛 종료 시각을 보지 않도록 연장된 종료 시각만 바로 DB에 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBidPlacement implements BidPlacementStrategy {
+
+	private final RedisBidAdmissionStore admissionStore;
+	private final AuctionRepository auctionRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public BidMode mode() {
+		return BidMode.REDIS;
+	}
+
+	@Override
+	public BidResponseDto place(Long auctionId, Long userId, Long bidAmount) {
+		LocalDateTime now = LocalDateTime.now();
+
+		BidAdmissionResult result = admissionStore.admit(auctionId, userId, bidAmount, now);
+
+		if (result == BidAdmissionResult.NOT_LOADED) {
+			Auction auction = auctionRepository.findByIdWithSeller(auctionId)
+				.orElseThrow(() -> new ServiceException(ErrorCode.AUCTION_NOT_FOUND, "요청하신 상품 ID를 찾을 수 없습니다."));
+			admissionStore.prime(auction, now);
+			result = admissionStore.admit(auctionId, userId, bidAmount, now);
+		}
+
+		switch (result) {
+			case ACCEPTED:
+				return BidResponseDto.of(auctionId, true, bidAmount, now);
+			case EXTENDED:
+				persistExtendedEndAt(auctionId);
+				return BidResponseDto.of(auctionId, true, bidAmount, now);
+			case NOT_LIVE:
+				throw new ServiceException(ErrorCode.AUCTION_NOT_LIVE, "진행 중인 경매가 아닙니다.");
+			case ENDED:
+				throw new ServiceException(ErrorCode.AUCTION_ALREADY_ENDED, "이미 경매가 종료되었거나, 즉시 구매가 완료되었습니다.");
+			case OWNER:
+				throw new ServiceException(ErrorCode.AUCTION_BIDDER_CANNOT_BE_OWNER, "경매 상품의 판매자는 입찰할 수 없습니다.");
+			case TOO_LOW:
+				throw new ServiceException(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW,
+					"입찰 금액이 현재 최고가보다 낮거나 최소 입찰 단위를 충족하지 못했습니다.");
+			default:
+				throw new ServiceException(ErrorCode.INTERNAL_SERVER_ERROR, "입찰 상태를 불러오지 못했습니다. auctionId: %d",
+					auctionId);
+		}
+	}
+
+	/**
+	 * 입찰은 이미 승인됐으므로 저장에 실패해도 응답은 그대로 두고, 큐의 입찰이 반영될 때 다시 저장된다.
+	 */
+	private void persistExtendedEndAt(Long auctionId) {
+		try {
+			LocalDateTime endAt = admissionStore.endAt(auctionId);
+			if (endAt == null) {
+				return;
+			}
+			transactionTemplate.executeWithoutResult(status -> {
+				if (auctionRepository.extendEndAt(auctionId, endAt) > 0) {
+					eventPublisher.publishEvent(new AuctionEndExtendedEvent(auctionId, endAt));
+				}
+			});
+		} catch (RuntimeException e) {
+			log.warn("[BID REDIS] 연장된 종료 시각 저장 실패, 입찰 반영 때 다시 저장합니다. auctionId={}", auctionId, e);
+		}
+	}
+}
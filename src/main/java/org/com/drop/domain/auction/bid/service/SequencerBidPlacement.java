@@ -0,0 +1,69 @@
+package org.com.drop.domain.auction.bid.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매별 메일박스({@link BidSequencer}) 기반 입찰. DB 락 없이 경매 단위로 순서를 보장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequencerBidPlacement implements BidPlacementStrategy {
+
+	private final BidSequencer bidSequencer;
+	private final BidProperties bidProperties;
+
+	@Override
+	public BidMode mode() {
+		return BidMode.SEQUENCER;
+	}
+
+	@Override
+	public BidResponseDto place(Long auctionId, Long userId, Long bidAmount) {
+		CompletableFuture<BidResponseDto> result = bidSequencer.submit(auctionId, userId, bidAmount);
+		try {
+			return result.get(bidProperties.sequencer().timeoutMs(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			if (result.cancel(false)) {
+				throw new ServiceException(ErrorCode.AUCTION_BID_CONFLICT, "입찰 대기 시간을 초과했습니다. auctionId: %d",
+					auctionId);
+			}
+			// 메일박스가 이미 처리를 시작한 입찰은 취소되지 않으므로, 실패로 응답하지 않고 저장 결과를 기다린다.
+			return await(result, auctionId);
+		} catch (ExecutionException e) {
+			throw unwrap(e, auctionId);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceException(ErrorCode.INTERNAL_SERVER_ERROR, "입찰 처리가 중단되었습니다. auctionId: %d", auctionId);
+		}
+	}
+
+	private BidResponseDto await(CompletableFuture<BidResponseDto> result, Long auctionId) {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			throw unwrap(e, auctionId);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceException(ErrorCode.INTERNAL_SERVER_ERROR, "입찰 처리가 중단되었습니다. auctionId: %d", auctionId);
+		}
+	}
+
+	private ServiceException unwrap(ExecutionException e, Long auctionId) {
+		if (e.getCause() instanceof ServiceException serviceException) {
+			return serviceException;
+		}
+		return new ServiceException(ErrorCode.INTERNAL_SERVER_ERROR, "입찰 처리 중 오류가 발생했습니다. auctionId: %d", auctionId);
+	}
+}
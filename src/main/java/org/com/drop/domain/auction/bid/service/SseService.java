@@ -1,60 +1,174 @@
 package org.com.drop.domain.auction.bid.service;
 
-import java.io.IOException;
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.com.drop.global.sse.ReactiveSseHub;
+import org.com.drop.global.sse.SseConnection;
+import org.com.drop.global.sse.SseFrame;
+import org.com.drop.global.sse.SseWriterPool;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * 경매 SSE 스트림. 이벤트 종류는 다음과 같다.
+ * <ul>
+ *     <li>highestPrice - 최고가 (tick마다 경매별 최신 값 하나)</li>
+ *     <li>bidCount - 직전 bidCount 이벤트 이후 새로 들어온 입찰 수 (tick마다 합산)</li>
+ *     <li>status - 경매 상태 변경 {"status"}</li>
+ *     <li>extension - 종료 시각 연장 {"endAt"}</li>
+ *     <li>winner - 낙찰 {"winnerId", "finalPrice"}</li>
+ *     <li>serverTime - 서버 시각(epoch millis). 클라이언트는 이 값으로 남은 시간 카운트다운을 보정한다.</li>
+ * </ul>
+ */
 @Service
+@RequiredArgsConstructor
 public class SseService {
 
-	private final Map<Long, List<SseEmitter>> sseEmitters = new ConcurrentHashMap<>();
+	public static final String STATUS_EVENT = "status";
+	public static final String EXTENSION_EVENT = "extension";
+	public static final String WINNER_EVENT = "winner";
+	private static final String PRICE_EVENT = "highestPrice";
+	private static final String BID_COUNT_EVENT = "bidCount";
+	private static final String SERVER_TIME_EVENT = "serverTime";
+	private static final String STREAM = "auction";
+	private static final String TOPIC_PREFIX = "auction:";
+
+	private final SseWriterPool sseWriterPool;
+	private final ReactiveSseHub reactiveSseHub;
+
+	private final Map<Long, List<SseConnection>> sseConnections = new ConcurrentHashMap<>();
+
+	// 다음 tick에 전송할 경매별 최고가 (tick 사이에 들어온 입찰은 가장 높은 가격 하나로 합쳐진다)
+	private final Map<Long, Long> pendingPrices = new ConcurrentHashMap<>();
+
+	// 다음 tick에 전송할 경매별 신규 입찰 수
+	private final Map<Long, Integer> pendingBidCounts = new ConcurrentHashMap<>();
 
 	public SseEmitter subscribe(Long auctionId) {
 		// 타임아웃 설정 (기본 30초는 너무 짧으므로 1시간 등으로 넉넉하게 설정)
 		SseEmitter emitter = new SseEmitter(60 * 60 * 1000L);
 
-		sseEmitters.computeIfAbsent(auctionId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+		SseConnection connection = register(auctionId, emitter);
+		sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().name("connect").data("connected!")));
 
-		emitter.onCompletion(() -> removeEmitter(auctionId, emitter));
-		emitter.onTimeout(() -> removeEmitter(auctionId, emitter));
-		emitter.onError((e) -> removeEmitter(auctionId, emitter));
+		return emitter;
+	}
 
-		try {
-			emitter.send(SseEmitter.event().name("connect").data("connected!"));
-		} catch (IOException e) {
-			removeEmitter(auctionId, emitter);
-		}
+	public Flux<ServerSentEvent<Object>> stream(Long auctionId) {
+		ServerSentEvent<Object> connect = ServerSentEvent.builder().event("connect").data("connected!").build();
+		// 상태 변경/낙찰 이벤트가 최신 최고가에 밀려 버려지지 않도록 구독자별로 버퍼링한다. (최고가는 이미 tick마다 합쳐져 있음)
+		return Flux.concat(Flux.just(connect), reactiveSseHub.stream(topic(auctionId), false));
+	}
 
-		return emitter;
+	SseConnection register(Long auctionId, SseEmitter emitter) {
+		SseConnection connection = sseWriterPool.open(emitter, STREAM, String.valueOf(auctionId),
+			closed -> removeConnection(auctionId, closed));
+		sseConnections.computeIfAbsent(auctionId, k -> new CopyOnWriteArrayList<>()).add(connection);
+		return connection;
 	}
 
+	/**
+	 * 최고가 변경을 기록만 한다. 실제 전송은 {@link #flushPrices()}가 tick마다 경매별로 한 번 수행한다.
+	 */
 	public void notifyHighestPrice(Long auctionId, Long price) {
-		List<SseEmitter> emitters = sseEmitters.get(auctionId);
-
-		if (emitters != null) {
-			List<SseEmitter> emittersCopy = new ArrayList<>(emitters);
-			for (SseEmitter emitter : emittersCopy) {
-				try {
-					emitter.send(SseEmitter.event()
-						.name("highestPrice")
-						.data(price));
-				} catch (IOException e) {
-					removeEmitter(auctionId, emitter);
-				}
+		if (hasNoSubscribers(auctionId)) {
+			return;
+		}
+		pendingPrices.merge(auctionId, price, Math::max);
+	}
+
+	/**
+	 * 신규 입찰 수를 기록만 한다. 실제 전송은 {@link #flushPrices()}가 tick마다 경매별로 합산해서 수행한다.
+	 */
+	public void notifyBidCount(Long auctionId, int bidCount) {
+		if (bidCount <= 0 || hasNoSubscribers(auctionId)) {
+			return;
+		}
+		pendingBidCounts.merge(auctionId, bidCount, Integer::sum);
+	}
+
+	/**
+	 * 상태 변경/종료 연장/낙찰처럼 드물고 빠짐없이 전달해야 하는 이벤트를 바로 보낸다.
+	 *
+	 * @param data JSON으로 직렬화된 이벤트 데이터
+	 */
+	public void sendEvent(Long auctionId, String name, String data) {
+		if (hasNoSubscribers(auctionId)) {
+			return;
+		}
+		broadcast(auctionId, SseFrame.of(SseEmitter.event().name(name).data(data)));
+		reactiveSseHub.emit(topic(auctionId), ServerSentEvent.builder().event(name).data(data).build());
+	}
+
+	@Scheduled(fixedDelayString = "${drop.sse.price-tick-ms:200}")
+	public void flushPrices() {
+		for (Long auctionId : pendingPrices.keySet()) {
+			Long price = pendingPrices.remove(auctionId);
+			if (price != null) {
+				broadcast(auctionId, SseFrame.latest(PRICE_EVENT, String.valueOf(price)));
+				reactiveSseHub.emit(topic(auctionId),
+					ServerSentEvent.builder().event(PRICE_EVENT).data(price).build());
+			}
+		}
+		for (Long auctionId : pendingBidCounts.keySet()) {
+			Integer bidCount = pendingBidCounts.remove(auctionId);
+			if (bidCount != null) {
+				// 합산 값이므로 대체(conflation)하지 않고 순서대로 모두 보낸다.
+				broadcast(auctionId, SseFrame.of(SseEmitter.event().name(BID_COUNT_EVENT).data(bidCount)));
+				reactiveSseHub.emit(topic(auctionId),
+					ServerSentEvent.builder().event(BID_COUNT_EVENT).data(bidCount).build());
 			}
 		}
 	}
 
-	private void removeEmitter(Long auctionId, SseEmitter emitter) {
-		List<SseEmitter> emitters = sseEmitters.get(auctionId);
-		if (emitters != null) {
-			emitters.remove(emitter);
+	/**
+	 * 모든 경매 연결에 서버 시각을 보낸다. 프레임은 한 번만 직렬화해 모든 연결이 공유한다.
+	 * 이 프레임이 주기적으로 나가므로 경매 연결에는 별도 하트비트가 거의 필요 없다.
+	 */
+	@Scheduled(fixedDelayString = "${drop.sse.time-sync-ms:5000}")
+	public void syncServerTime() {
+		long now = Instant.now().toEpochMilli();
+		SseFrame frame = SseFrame.latest(SERVER_TIME_EVENT, String.valueOf(now));
+		for (Long auctionId : sseConnections.keySet()) {
+			broadcast(auctionId, frame);
+		}
+		reactiveSseHub.emitAll(TOPIC_PREFIX, ServerSentEvent.builder().event(SERVER_TIME_EVENT).data(now).build());
+	}
+
+	private boolean hasNoSubscribers(Long auctionId) {
+		List<SseConnection> connections = sseConnections.get(auctionId);
+		boolean noEmitters = connections == null || connections.isEmpty();
+		return noEmitters && !reactiveSseHub.hasSubscribers(topic(auctionId));
+	}
+
+	private void broadcast(Long auctionId, SseFrame frame) {
+		List<SseConnection> connections = sseConnections.get(auctionId);
+		if (connections == null) {
+			return;
+		}
+		// 송신 큐에 넣기만 하므로 느린 연결이 있어도 이 루프는 막히지 않는다.
+		for (SseConnection connection : connections) {
+			sseWriterPool.send(connection, frame);
+		}
+	}
+
+	private static String topic(Long auctionId) {
+		return TOPIC_PREFIX + auctionId;
+	}
+
+	private void removeConnection(Long auctionId, SseConnection connection) {
+		List<SseConnection> connections = sseConnections.get(auctionId);
+		if (connections != null) {
+			connections.remove(connection);
 		}
 	}
 }
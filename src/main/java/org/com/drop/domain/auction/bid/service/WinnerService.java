@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
+import org.com.drop.domain.auction.auction.event.AuctionWinnerDecidedEvent;
 import org.com.drop.domain.auction.auction.repository.AuctionRepository;
 import org.com.drop.domain.auction.bid.entity.Bid;
 import org.com.drop.domain.auction.bid.repository.BidRepository;
@@ -12,6 +14,7 @@ import org.com.drop.domain.winner.domain.Winner;
 import org.com.drop.domain.winner.repository.WinnerRepository;
 import org.com.drop.global.exception.ErrorCode;
 import org.com.drop.global.exception.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ public class WinnerService {
 	private final BidRepository bidRepository;
 	private final WinnerRepository winnerRepository;
 	private final NotificationService notificationService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public void finalizeAuction(Long auctionId) {
@@ -46,6 +50,7 @@ public class WinnerService {
 
 		if (topBidOpt.isEmpty()) {
 			auction.expire();
+			eventPublisher.publishEvent(new AuctionStatusChangedEvent(auctionId, auction.getStatus()));
 			notificationService.addNotification(auction.getProduct().getSeller(), "경매가 유찰되었습니다.");
 			return;
 		}
@@ -67,6 +72,9 @@ public class WinnerService {
 
 		winnerRepository.save(winner);
 		auction.expire();
+		eventPublisher.publishEvent(new AuctionStatusChangedEvent(auctionId, auction.getStatus()));
+		eventPublisher.publishEvent(
+			new AuctionWinnerDecidedEvent(auctionId, winner.getUserId(), winner.getFinalPrice()));
 
 		notificationService.addNotification(topBid.getBidder(), "경매가 낙찰되었습니다.");
 		notificationService.addNotification(auction.getProduct().getSeller(), "경매가 낙찰되었습니다.");
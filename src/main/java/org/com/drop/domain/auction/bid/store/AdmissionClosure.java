@@ -0,0 +1,14 @@
+package org.com.drop.domain.auction.bid.store;
+
+import java.util.List;
+
+/**
+ * 마감 전에 Redis 입찰 접수를 닫은 결과
+ * closedIds는 Redis의 종료 시각까지 지나 접수를 닫았고 남은 입찰도 없어 바로 마감할 경매,
+ * pendingIds는 접수는 닫았지만 아직 DB에 반영되지 않은 입찰이 남아 반영을 기다려야 하는 경매다.
+ */
+public record AdmissionClosure(
+	List<Long> closedIds,
+	List<Long> pendingIds
+) {
+}
@@ -0,0 +1,29 @@
+package org.com.drop.domain.auction.bid.store;
+
+/**
+ * Redis 입찰 승인 스크립트 결과
+ */
+public enum BidAdmissionResult {
+	ACCEPTED(1),
+	EXTENDED(2),
+	NOT_LOADED(-1),
+	NOT_LIVE(-2),
+	ENDED(-3),
+	OWNER(-4),
+	TOO_LOW(-5);
+
+	private final long code;
+
+	BidAdmissionResult(long code) {
+		this.code = code;
+	}
+
+	public static BidAdmissionResult from(Long code) {
+		for (BidAdmissionResult result : values()) {
+			if (code != null && result.code == code) {
+				return result;
+			}
+		}
+		throw new IllegalStateException("알 수 없는 입찰 승인 결과입니다: " + code);
+	}
+}
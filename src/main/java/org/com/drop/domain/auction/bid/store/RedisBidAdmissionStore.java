@@ -0,0 +1,317 @@
+package org.com.drop.domain.auction.bid.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.service.AcceptedBid;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LIVE 경매의 입찰 상태(현재가, 최소 입찰 단위, 종료 시각, 상태, 판매자, 마감 연장 규칙)를 Redis에 두고
+ * 입찰 승인/거절과 마감 연장을 하나의 Lua 스크립트로 원자적으로 처리한다.
+ * 승인된 입찰은 큐(bid:accepted)에 쌓였다가 스케줄러가 DB로 반영한다. 마감이 연장된 입찰은 새 종료 시각을 함께 싣는다.
+ * 경매별로 아직 DB에 반영되지 않은 입찰 수를 bid:accepted:pending에 함께 세어, 마감할 때 큐를 훑지 않고 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBidAdmissionStore {
+
+	private static final String AUCTION_KEY_PREFIX = "bid:auction:";
+	private static final String ACCEPTED_QUEUE_KEY = "bid:accepted";
+	private static final String PENDING_KEY = "bid:accepted:pending";
+	private static final String ATTEMPTS_KEY = "bid:accepted:attempts";
+	private static final String DEAD_LETTER_KEY = "bid:accepted:dead";
+	private static final String DELIMITER = ":";
+	private static final Duration NOT_LIVE_TTL = Duration.ofSeconds(30);
+	private static final Duration ENDED_GRACE = Duration.ofMinutes(10);
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	// ARGV: userId, bidAmount, nowMillis, auctionId
+	// 큐 항목: auctionId:userId:bidAmount:nowMillis[:extendedEndAtMillis]
+	private static final RedisScript<Long> ADMIT_SCRIPT = RedisScript.of("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+		local s = redis.call('HMGET', KEYS[1], 'status', 'endAt', 'sellerId', 'price', 'step', 'window', 'ext')
+		if s[1] ~= 'LIVE' then return -2 end
+		if tonumber(s[2]) < tonumber(ARGV[3]) then return -3 end
+		if s[3] == ARGV[1] then return -4 end
+		if tonumber(ARGV[2]) < tonumber(s[4]) + tonumber(s[5]) then return -5 end
+		redis.call('HSET', KEYS[1], 'price', ARGV[2])
+		local entry = ARGV[4] .. ':' .. ARGV[1] .. ':' .. ARGV[2] .. ':' .. ARGV[3]
+		if s[6] and tonumber(s[2]) - tonumber(ARGV[3]) <= tonumber(s[6]) then
+			local endAt = string.format('%d', tonumber(s[2]) + tonumber(s[7]))
+			redis.call('HSET', KEYS[1], 'endAt', endAt)
+			redis.call('PEXPIRE', KEYS[1], redis.call('PTTL', KEYS[1]) + tonumber(s[7]))
+			redis.call('RPUSH', KEYS[2], entry .. ':' .. endAt)
+			redis.call('HINCRBY', KEYS[3], ARGV[4], 1)
+			return 2
+		end
+		redis.call('RPUSH', KEYS[2], entry)
+		redis.call('HINCRBY', KEYS[3], ARGV[4], 1)
+		return 1
+		""", Long.class);
+
+	// ARGV: status, endAtMillis, sellerId, currentPrice, minBidStep, ttlMillis, windowMillis, extensionMillis
+	// 마감 연장 규칙이 없으면 windowMillis, extensionMillis는 빈 문자열이다.
+	private static final RedisScript<Long> PRIME_SCRIPT = RedisScript.of("""
+		if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+		redis.call('HSET', KEYS[1], 'status', ARGV[1], 'endAt', ARGV[2], 'sellerId', ARGV[3],
+			'price', ARGV[4], 'step', ARGV[5])
+		if ARGV[7] ~= '' then
+			redis.call('HSET', KEYS[1], 'window', ARGV[7], 'ext', ARGV[8])
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[6])
+		return 1
+		""", Long.class);
+
+	// KEYS: 미반영 입찰 수, 경매 키... / ARGV: nowMillis, 경매 ID...
+	// 종료 시각이 지난 경매만 ENDED로 바꿔 더 받지 않고, 아직 DB에 반영되지 않은 입찰이 남은 경매는 따로 돌려준다.
+	// 적재되지 않은 경매는 다시 적재해도 종료 시각이 지나 거절되므로 닫힌 것으로 보고, 남은 입찰 수도 지운다.
+	// (경매 키는 종료 후 유예 시간이 지나면 만료되므로, 반영 확인이 빠져 남은 수가 마감을 계속 막지는 않는다.)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLOSE_SCRIPT = RedisScript.of("""
+		local closed = {}
+		local pending = {}
+		for i = 2, #KEYS do
+			local endAt = redis.call('HGET', KEYS[i], 'endAt')
+			if not endAt then
+				redis.call('HDEL', KEYS[1], ARGV[i])
+				closed[#closed + 1] = ARGV[i]
+			elseif tonumber(endAt) <= tonumber(ARGV[1]) then
+				redis.call('HSET', KEYS[i], 'status', 'ENDED')
+				if tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0') > 0 then
+					pending[#pending + 1] = ARGV[i]
+				else
+					closed[#closed + 1] = ARGV[i]
+				end
+			end
+		end
+		return {closed, pending}
+		""", List.class);
+
+	// KEYS: 미반영 입찰 수 / ARGV: 반영을 마친 입찰의 경매 ID (입찰마다 하나)
+	private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = RedisScript.of("""
+		for i = 1, #ARGV do
+			if redis.call('HINCRBY', KEYS[1], ARGV[i], -1) <= 0 then
+				redis.call('HDEL', KEYS[1], ARGV[i])
+			end
+		end
+		return #ARGV
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final BidProperties bidProperties;
+
+	public BidAdmissionResult admit(Long auctionId, Long userId, Long bidAmount, LocalDateTime now) {
+		Long code = redisTemplate.execute(
+			ADMIT_SCRIPT,
+			List.of(auctionKey(auctionId), ACCEPTED_QUEUE_KEY, PENDING_KEY),
+			String.valueOf(userId),
+			String.valueOf(bidAmount),
+			String.valueOf(toMillis(now)),
+			String.valueOf(auctionId)
+		);
+		return BidAdmissionResult.from(code);
+	}
+
+	/**
+	 * DB의 경매 상태를 Redis에 적재한다. 이미 적재되어 있으면 덮어쓰지 않는다.
+	 */
+	public void prime(Auction auction, LocalDateTime now) {
+		Duration ttl = auction.getStatus() == Auction.AuctionStatus.LIVE
+			? Duration.between(now, auction.getEndAt()).plus(ENDED_GRACE)
+			: NOT_LIVE_TTL;
+		if (ttl.isNegative() || ttl.isZero()) {
+			ttl = NOT_LIVE_TTL;
+		}
+		boolean softClose = auction.getSoftCloseWindowSeconds() != null;
+
+		redisTemplate.execute(
+			PRIME_SCRIPT,
+			List.of(auctionKey(auction.getId())),
+			auction.getStatus().name(),
+			String.valueOf(toMillis(auction.getEndAt())),
+			String.valueOf(auction.getProduct().getSeller().getId()),
+			String.valueOf(auction.getCurrentPrice()),
+			String.valueOf(auction.getMinBidStep()),
+			String.valueOf(ttl.toMillis()),
+			softClose ? String.valueOf(auction.getSoftCloseWindowSeconds() * 1000L) : "",
+			softClose ? String.valueOf(auction.getSoftCloseExtensionSeconds() * 1000L) : ""
+		);
+	}
+
+	/**
+	 * Redis에 적재된 종료 시각. 연장된 시각이 DB보다 먼저 반영된다. 적재되지 않았으면 null이다.
+	 */
+	public LocalDateTime endAt(Long auctionId) {
+		Object endAt = redisTemplate.opsForHash().get(auctionKey(auctionId), "endAt");
+		return endAt == null ? null : toLocalDateTime(Long.parseLong((String)endAt));
+	}
+
+	/**
+	 * 경매 상태가 DB에서 바뀌었을 때(시작, 종료, 즉시 구매) 캐시를 비운다. REDIS 모드가 아니면 아무것도 하지 않는다.
+	 */
+	public void evict(Long auctionId) {
+		if (bidProperties.mode() != BidMode.REDIS) {
+			return;
+		}
+		redisTemplate.delete(auctionKey(auctionId));
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 입찰이 남은 경매 ID. 큐에서 꺼내 반영 중인 입찰도 포함한다. REDIS 모드가 아니면 비어 있다.
+	 */
+	public Set<Long> queuedAuctionIds() {
+		if (bidProperties.mode() != BidMode.REDIS) {
+			return Set.of();
+		}
+		Set<Object> auctionIds = redisTemplate.opsForHash().keys(PENDING_KEY);
+		if (auctionIds == null) {
+			return Set.of();
+		}
+		Set<Long> queued = new HashSet<>();
+		for (Object auctionId : auctionIds) {
+			queued.add(Long.parseLong((String)auctionId));
+		}
+		return queued;
+	}
+
+	/**
+	 * 마감 직전에 호출한다. 종료 시각이 지난 경매의 입찰 접수를 닫고,
+	 * 그중 아직 DB에 반영되지 않은 입찰이 남은 경매는 마감할 경매와 나눠 돌려준다.
+	 * REDIS 모드가 아니면 모든 경매를 그대로 돌려준다.
+	 */
+	@SuppressWarnings("unchecked")
+	public AdmissionClosure closeAdmission(List<Long> auctionIds, LocalDateTime now) {
+		if (bidProperties.mode() != BidMode.REDIS) {
+			return new AdmissionClosure(auctionIds, List.of());
+		}
+		List<String> keys = new ArrayList<>(auctionIds.size() + 1);
+		List<String> args = new ArrayList<>(auctionIds.size() + 1);
+		keys.add(PENDING_KEY);
+		args.add(String.valueOf(toMillis(now)));
+		for (Long auctionId : auctionIds) {
+			keys.add(auctionKey(auctionId));
+			args.add(String.valueOf(auctionId));
+		}
+
+		List<List<String>> result = redisTemplate.execute(CLOSE_SCRIPT, keys, args.toArray());
+		if (result == null) {
+			return new AdmissionClosure(List.of(), List.of());
+		}
+		List<Long> closedIds = result.get(0).stream().map(Long::parseLong).toList();
+		List<Long> pendingIds = result.get(1).stream().map(Long::parseLong).toList();
+		return new AdmissionClosure(closedIds, pendingIds);
+	}
+
+	public List<AcceptedBid> drainAccepted(int max) {
+		List<String> entries = redisTemplate.opsForList().leftPop(ACCEPTED_QUEUE_KEY, max);
+		if (entries == null || entries.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return parse(entries);
+	}
+
+	/**
+	 * DB에 반영한 입찰을 경매별 미반영 입찰 수에서 뺀다.
+	 */
+	public void acknowledge(List<AcceptedBid> written) {
+		if (written.isEmpty()) {
+			return;
+		}
+		Object[] auctionIds = written.stream().map(bid -> String.valueOf(bid.auctionId())).toArray();
+		redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(PENDING_KEY), auctionIds);
+	}
+
+	/**
+	 * DB 반영에 실패한 입찰을 원래 순서대로 큐 앞쪽에 되돌린다. 아직 반영되지 않았으므로 미반영 입찰 수는 그대로 둔다.
+	 */
+	public void requeue(List<AcceptedBid> accepted) {
+		List<String> entries = new ArrayList<>(accepted.size());
+		for (AcceptedBid bid : accepted) {
+			entries.add(toEntry(bid));
+		}
+		Collections.reverse(entries);
+		redisTemplate.opsForList().leftPushAll(ACCEPTED_QUEUE_KEY, entries);
+	}
+
+	/**
+	 * 입찰 자체의 문제로 반영에 실패한 횟수를 하나 늘린다.
+	 *
+	 * @return 지금까지 실패한 횟수
+	 */
+	public long recordFailure(AcceptedBid bid) {
+		Long attempts = redisTemplate.opsForHash().increment(ATTEMPTS_KEY, toEntry(bid), 1);
+		return attempts == null ? 1 : attempts;
+	}
+
+	public void clearFailure(AcceptedBid bid) {
+		redisTemplate.opsForHash().delete(ATTEMPTS_KEY, toEntry(bid));
+	}
+
+	/**
+	 * 반영할 수 없는 입찰을 처리 큐에서 빼 dead-letter 큐(bid:accepted:dead)로 옮긴다. 확인 후 수동으로 되돌린다.
+	 * 더 반영을 기다리지 않으므로 미반영 입찰 수에서도 뺀다.
+	 */
+	public void deadLetter(AcceptedBid bid) {
+		String entry = toEntry(bid);
+		redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, entry);
+		redisTemplate.opsForHash().delete(ATTEMPTS_KEY, entry);
+		acknowledge(List.of(bid));
+	}
+
+	private List<AcceptedBid> parse(List<String> entries) {
+		List<AcceptedBid> accepted = new ArrayList<>(entries.size());
+		for (String entry : entries) {
+			String[] parts = entry.split(DELIMITER);
+			if (parts.length != 4 && parts.length != 5) {
+				log.warn("잘못된 입찰 큐 항목을 건너뜁니다: {}", entry);
+				continue;
+			}
+			accepted.add(new AcceptedBid(
+				Long.parseLong(parts[0]),
+				Long.parseLong(parts[1]),
+				Long.parseLong(parts[2]),
+				toLocalDateTime(Long.parseLong(parts[3])),
+				parts.length == 5 ? toLocalDateTime(Long.parseLong(parts[4])) : null
+			));
+		}
+		return accepted;
+	}
+
+	private String toEntry(AcceptedBid bid) {
+		String entry = bid.auctionId() + DELIMITER + bid.userId() + DELIMITER + bid.bidAmount()
+			+ DELIMITER + toMillis(bid.createdAt());
+		if (bid.extendedEndAt() != null) {
+			entry += DELIMITER + toMillis(bid.extendedEndAt());
+		}
+		return entry;
+	}
+
+	private String auctionKey(Long auctionId) {
+		return AUCTION_KEY_PREFIX + auctionId;
+	}
+
+	private long toMillis(LocalDateTime time) {
+		return time.atZone(ZONE).toInstant().toEpochMilli();
+	}
+
+	private LocalDateTime toLocalDateTime(long millis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+	}
+}
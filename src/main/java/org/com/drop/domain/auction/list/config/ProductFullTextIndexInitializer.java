@@ -0,0 +1,61 @@
+package org.com.drop.domain.auction.list.config;
+
+import java.time.Duration;
+
+import org.com.drop.global.lease.SchedulerLease;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FULLTEXT 검색 모드에서 products(name, description) ngram 인덱스가 없으면 생성한다.
+ * JPA @Index로는 FULLTEXT/파서 지정을 할 수 없어 기동 시 직접 DDL을 실행한다.
+ * 인덱스는 InnoDB가 insert/update/delete 시점에 함께 갱신하므로 상품 쓰기 경로에서 따로 동기화할 필요가 없다.
+ * <p>
+ * 인덱스를 만드는 동안 products 쓰기가 막히므로 평소 기동에서는 실행하지 않는다.
+ * 인덱스가 필요한 배포에서만 drop.search.create-index를 켜고, 여러 인스턴스가 함께 떠도 임대를 얻은 하나만 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test")
+public class ProductFullTextIndexInitializer implements ApplicationRunner {
+
+	public static final String INDEX_NAME = "ft_product_name_description";
+	private static final String JOB = "search-fulltext-index";
+	private static final Duration LEASE_TTL = Duration.ofHours(1);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SearchProperties searchProperties;
+	private final SchedulerLease schedulerLease;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (searchProperties.mode() != SearchMode.FULLTEXT || !searchProperties.createIndex()
+			|| !schedulerLease.tryAcquire(JOB, LEASE_TTL)) {
+			return;
+		}
+		try {
+			Integer exists = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM information_schema.statistics "
+					+ "WHERE table_schema = DATABASE() AND table_name = 'products' AND index_name = ?",
+				Integer.class,
+				INDEX_NAME
+			);
+			if (exists != null && exists > 0) {
+				return;
+			}
+			jdbcTemplate.execute(
+				"ALTER TABLE products ADD FULLTEXT INDEX " + INDEX_NAME + " (name, description) WITH PARSER ngram"
+			);
+			log.info("[SEARCH] FULLTEXT 인덱스 생성 완료 index={}", INDEX_NAME);
+		} catch (RuntimeException e) {
+			log.error("[SEARCH] FULLTEXT 인덱스 생성 실패 - 키워드 검색이 실패할 수 있습니다. index={}", INDEX_NAME, e);
+		}
+	}
+}
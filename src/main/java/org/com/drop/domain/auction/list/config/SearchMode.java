@@ -0,0 +1,17 @@
+package org.com.drop.domain.auction.list.config;
+
+/**
+ * 경매 목록 키워드 검색 방식
+ */
+public enum SearchMode {
+
+	/**
+	 * 상품명/설명 LIKE '%키워드%' (인덱스 미사용, H2 등 모든 DB에서 동작)
+	 */
+	LIKE,
+
+	/**
+	 * MySQL FULLTEXT(ngram parser) 인덱스 MATCH ... AGAINST 검색
+	 */
+	FULLTEXT
+}
@@ -0,0 +1,11 @@
+package org.com.drop.domain.auction.list.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drop.search")
+public record SearchProperties(
+	@DefaultValue("LIKE") SearchMode mode,
+	@DefaultValue("false") boolean createIndex
+) {
+}
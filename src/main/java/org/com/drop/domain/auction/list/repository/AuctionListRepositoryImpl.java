@@ -1,12 +1,15 @@
 package org.com.drop.domain.auction.list.repository;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import org.com.drop.domain.auction.auction.entity.Auction.AuctionStatus;
 import org.com.drop.domain.auction.auction.entity.QAuction;
 import org.com.drop.domain.auction.bid.entity.QBid;
+import org.com.drop.domain.auction.list.config.SearchMode;
+import org.com.drop.domain.auction.list.config.SearchProperties;
 import org.com.drop.domain.auction.list.dto.SortType;
 import org.com.drop.domain.auction.list.dto.request.AuctionSearchRequest;
 import org.com.drop.domain.auction.product.entity.Product.Category;
@@ -14,19 +17,15 @@ import org.com.drop.domain.auction.product.entity.Product.SubCategory;
 import org.com.drop.domain.auction.product.entity.QBookMark;
 import org.com.drop.domain.auction.product.entity.QProduct;
 import org.com.drop.domain.auction.product.entity.QProductImage;
+import org.com.drop.global.config.MySqlFullTextFunctionContributor;
 import org.com.drop.global.util.CursorPaginationUtil;
 import org.com.drop.global.util.CursorPaginationUtil.Cursor;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.core.types.dsl.NumberTemplate;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -39,8 +38,11 @@ import lombok.RequiredArgsConstructor;
 public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 
 	private static final int DEFAULT_LIMIT = 10;
+	private static final int NGRAM_TOKEN_SIZE = 2;
+	private static final String FULLTEXT_UNSAFE_CHARS = "[^가-힣a-zA-Z0-9]+";
 
 	private final JPAQueryFactory queryFactory;
+	private final SearchProperties searchProperties;
 
 	private final QAuction auction = QAuction.auction;
 	private final QProduct product = QProduct.product;
@@ -52,65 +54,24 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 	public List<AuctionItemDto> searchAuctions(AuctionSearchRequest request) {
 		Cursor cursor = CursorPaginationUtil.decodeCursor(request.getCursor());
 
-		// 1. 첫 번째 이미지 URL
-		Expression<String> firstImageUrl = new CaseBuilder()
-			.when(JPAExpressions
-				.select(productImage.id.count())
-				.from(productImage)
-				.where(productImage.product.eq(product))
-				.gt(0L))
-			.then(Expressions.stringTemplate(
-				"({0})",
-				JPAExpressions
-					.select(productImage.imageUrl)
-					.from(productImage)
-					.where(productImage.product.eq(product))
-					.orderBy(productImage.id.asc())
-					.limit(1)
-			))
-			.otherwise("");
-
-		// 2. 최고 입찰가
-		NumberExpression<Integer> currentHighestBid = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), {1})",
-			JPAExpressions
-				.select(bid.bidAmount.max().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction)),
-			auction.startPrice
-		);
-
-		// 3. 입찰 수
-		NumberExpression<Integer> bidCount = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), 0)",
-			JPAExpressions
-				.select(bid.count().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction))
-		);
-
-		// 4. 인기 점수: 북마크 수 + 입찰 수
-		NumberExpression<Integer> popularityScore = product.bookmarkCount.add(bidCount);
-
 		JPAQuery<AuctionItemDto> query = queryFactory
 			.select(Projections.constructor(
 				AuctionItemDto.class,
 				auction.id,
 				product.id,
 				product.name,
-				firstImageUrl,
+				product.thumbnailKey.coalesce(""),
 				auction.status,
 				product.category,
 				product.subcategory,
 				auction.startPrice,
-				currentHighestBid,
+				// 최고 입찰가 / 입찰 수 / 인기 점수는 입찰·북마크 쓰기 경로에서 갱신되는 경매 컬럼을 그대로 읽는다.
+				auction.currentPrice,
 				auction.endAt,
 				product.bookmarkCount,
-				bidCount,
+				auction.bidCount,
 				product.createdAt,
-				popularityScore
+				auction.popularityScore
 			))
 			.from(auction)
 			.join(auction.product, product)
@@ -121,9 +82,9 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 				categoryEq(request.getCategory()),
 				subCategoryEq(request.getSubCategory()),
 				keywordContains(request.getKeyword()),
-				cursorCondition(cursor, request.getSortType(), popularityScore)
+				cursorCondition(cursor, request.getSortType())
 			)
-			.orderBy(getOrderSpecifier(request.getSortType(), popularityScore))
+			.orderBy(getOrderSpecifier(request.getSortType()))
 			.limit(request.getSize() + 1L); // hasNext 확인을 위해 +1
 
 		return query.fetch();
@@ -162,27 +123,6 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 			.orderBy(productImage.id.asc())
 			.fetch();
 
-		// 최고 입찰가
-		NumberTemplate<Integer> currentHighestBid = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), {1})",
-			JPAExpressions
-				.select(bid.bidAmount.max().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction)),
-			auction.startPrice
-		);
-
-		// 총 입찰 수
-		NumberTemplate<Integer> totalBidCount = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), 0)",
-			JPAExpressions
-				.select(bid.count().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction))
-		);
-
 		AuctionDetailDto result = queryFactory
 			.select(Projections.constructor(
 				AuctionDetailDto.class,
@@ -201,8 +141,8 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 				auction.startAt,
 				auction.endAt,
 				product.createdAt,
-				currentHighestBid,
-				totalBidCount,
+				auction.currentPrice,
+				auction.bidCount,
 				Expressions.constant(imageUrls)
 			))
 			.from(auction)
@@ -255,65 +195,23 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 		LocalDateTime sixHoursLater = now.plusHours(6);
 		int actualLimit = limit > 0 ? limit : DEFAULT_LIMIT;
 
-		// 첫 번째 이미지 URL
-		Expression<String> firstImageUrl = new CaseBuilder()
-			.when(JPAExpressions
-				.select(productImage.id.count())
-				.from(productImage)
-				.where(productImage.product.eq(product))
-				.gt(0L))
-			.then(Expressions.stringTemplate(
-				"({0})",
-				JPAExpressions
-					.select(productImage.imageUrl)
-					.from(productImage)
-					.where(productImage.product.eq(product))
-					.orderBy(productImage.id.asc())
-					.limit(1)
-			))
-			.otherwise("");
-
-		// 최고 입찰가
-		NumberExpression<Integer> currentHighestBid = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), {1})",
-			JPAExpressions
-				.select(bid.bidAmount.max().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction)),
-			auction.startPrice
-		);
-
-		// 입찰 수
-		NumberExpression<Integer> bidCount = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), 0)",
-			JPAExpressions
-				.select(bid.count().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction))
-		);
-
-		// 인기 점수
-		NumberExpression<Integer> score = product.bookmarkCount.add(bidCount);
-
 		return queryFactory
 			.select(Projections.constructor(
 				AuctionItemDto.class,
 				auction.id,
 				product.id,
 				product.name,
-				firstImageUrl,
+				product.thumbnailKey.coalesce(""),
 				auction.status,
 				product.category,
 				product.subcategory,
 				auction.startPrice,
-				currentHighestBid,
+				auction.currentPrice,
 				auction.endAt,
 				product.bookmarkCount,
-				bidCount,
+				auction.bidCount,
 				product.createdAt,
-				score
+				auction.popularityScore
 			))
 			.from(auction)
 			.join(auction.product, product)
@@ -332,65 +230,23 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 	public List<AuctionItemDto> findPopularAuctions(int limit) {
 		int actualLimit = limit > 0 ? limit : DEFAULT_LIMIT;
 
-		// 첫 번째 이미지 URL
-		Expression<String> firstImageUrl = new CaseBuilder()
-			.when(JPAExpressions
-				.select(productImage.id.count())
-				.from(productImage)
-				.where(productImage.product.eq(product))
-				.gt(0L))
-			.then(Expressions.stringTemplate(
-				"({0})",
-				JPAExpressions
-					.select(productImage.imageUrl)
-					.from(productImage)
-					.where(productImage.product.eq(product))
-					.orderBy(productImage.id.asc())
-					.limit(1)
-			))
-			.otherwise("");
-
-		// 입찰 수
-		NumberExpression<Integer> bidCount = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), 0)",
-			JPAExpressions
-				.select(bid.count().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction))
-		);
-
-		// 최고 입찰가
-		NumberExpression<Integer> currentHighestBid = Expressions.numberTemplate(
-			Integer.class,
-			"COALESCE(({0}), {1})",
-			JPAExpressions
-				.select(bid.bidAmount.max().intValue())
-				.from(bid)
-				.where(bid.auction.eq(auction)),
-			auction.startPrice
-		);
-
-		// 인기 점수
-		NumberExpression<Integer> popularityScore = product.bookmarkCount.add(bidCount);
-
 		return queryFactory
 			.select(Projections.constructor(
 				AuctionItemDto.class,
 				auction.id,
 				product.id,
 				product.name,
-				firstImageUrl,
+				product.thumbnailKey.coalesce(""),
 				auction.status,
 				product.category,
 				product.subcategory,
 				auction.startPrice,
-				currentHighestBid,
+				auction.currentPrice,
 				auction.endAt,
 				product.bookmarkCount,
-				bidCount,
+				auction.bidCount,
 				product.createdAt,
-				popularityScore
+				auction.popularityScore
 			))
 			.from(auction)
 			.join(auction.product, product)
@@ -399,7 +255,7 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 				product.deletedAt.isNull(),
 				auction.deletedAt.isNull()
 			)
-			.orderBy(popularityScore.desc(), auction.id.desc())
+			.orderBy(auction.popularityScore.desc(), auction.id.desc())
 			.limit(actualLimit)
 			.fetch();
 	}
@@ -474,14 +330,36 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 
 		String[] keywords = keyword.trim().split("\\s+");
 		BooleanBuilder builder = new BooleanBuilder();
+		StringBuilder fullTextQuery = new StringBuilder();
+		boolean fullText = searchProperties.mode() == SearchMode.FULLTEXT;
 
 		for (String kw : keywords) {
-			if (!kw.isEmpty()) {
-				builder.and(
-					product.name.containsIgnoreCase(kw)
-						.or(product.description.containsIgnoreCase(kw))
-				);
+			if (kw.isEmpty()) {
+				continue;
+			}
+			// 기호는 지우지 않고 단어 경계로 보고 나눈다. (지우면 "t-shirt"가 "tshirt"처럼 없는 단어가 된다)
+			// ngram 토큰(2글자)보다 짧은 조각이 있으면 FULLTEXT로 찾을 수 없어 키워드 전체를 LIKE로 처리
+			List<String> terms = Arrays.stream(kw.split(FULLTEXT_UNSAFE_CHARS))
+				.filter(term -> !term.isEmpty())
+				.toList();
+			if (fullText && !terms.isEmpty() && terms.stream().allMatch(term -> term.length() >= NGRAM_TOKEN_SIZE)) {
+				terms.forEach(term -> fullTextQuery.append('+').append('"').append(term).append('"').append(' '));
+				continue;
 			}
+			builder.and(
+				product.name.containsIgnoreCase(kw)
+					.or(product.description.containsIgnoreCase(kw))
+			);
+		}
+
+		if (!fullTextQuery.isEmpty()) {
+			builder.and(Expressions.numberTemplate(
+				Double.class,
+				"function('" + MySqlFullTextFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2})",
+				product.name,
+				product.description,
+				fullTextQuery.toString().trim()
+			).gt(0.0));
 		}
 
 		return builder.hasValue() ? Expressions.asBoolean(builder.getValue()) : null;
@@ -490,11 +368,7 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 	/**
 	 * 커서 페이징 조건
 	 */
-	private BooleanExpression cursorCondition(
-		Cursor cursor,
-		SortType sortType,
-		NumberExpression<Integer> popularityScore
-	) {
+	private BooleanExpression cursorCondition(Cursor cursor, SortType sortType) {
 		if (cursor == null) {
 			return null;
 		}
@@ -502,8 +376,9 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 		if (sortType == SortType.POPULAR && cursor.isPopularCursor()) {
 			// 인기순: 점수 + ID 기준
 			// 내림차순 정렬이므로, 커서보다 작은 점수이거나 점수가 같으면 ID가 작은 것
-			return popularityScore.lt(cursor.score())
-				.or(popularityScore.eq(cursor.score()).and(auction.id.lt(cursor.id())));
+			// 선두 조건(score <= 커서 점수)을 분리해 (popularityScore, id) 인덱스를 범위 탐색으로 이어서 읽게 한다.
+			return auction.popularityScore.loe(cursor.score())
+				.and(auction.popularityScore.lt(cursor.score()).or(auction.id.lt(cursor.id())));
 		} else if (sortType == SortType.CLOSING && cursor.isTimestampCursor()) {
 			// 마감임박순: endAt + ID 기준 (오름차순)
 			// 커서보다 큰 endAt이거나 같으면 ID가 큰 것
@@ -521,10 +396,7 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 	/**
 	 * 정렬 조건
 	 */
-	private OrderSpecifier<?>[] getOrderSpecifier(
-		SortType sortType,
-		NumberExpression<Integer> popularityScore
-	) {
+	private OrderSpecifier<?>[] getOrderSpecifier(SortType sortType) {
 		switch (sortType) {
 			case NEWEST:
 				return new OrderSpecifier[] {
@@ -538,7 +410,7 @@ public class AuctionListRepositoryImpl implements AuctionListRepositoryCustom {
 				};
 			case POPULAR:
 				return new OrderSpecifier[] {
-					popularityScore.desc(),
+					auction.popularityScore.desc(),
 					auction.id.desc()
 				};
 			default:
@@ -1,7 +1,9 @@
 package org.com.drop.domain.auction.list.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.com.drop.domain.auction.bid.dto.response.BidHistoryResponse;
 import org.com.drop.domain.auction.bid.entity.Bid;
@@ -15,7 +17,7 @@ import org.com.drop.domain.auction.list.dto.response.AuctionItemResponse;
 import org.com.drop.domain.auction.list.repository.AuctionListRepository;
 import org.com.drop.domain.auction.list.repository.AuctionListRepositoryCustom;
 import org.com.drop.domain.user.entity.User;
-import org.com.drop.global.aws.AmazonS3Client;
+import org.com.drop.global.aws.ImageUrlResolver;
 import org.com.drop.global.exception.ErrorCode;
 import org.com.drop.global.exception.ServiceException;
 import org.springframework.cache.annotation.Cacheable;
@@ -41,7 +43,7 @@ public class AuctionListService {
 
 	private final AuctionListRepository auctionListRepository;
 	private final BidRepository bidRepository;
-	private final AmazonS3Client amazonS3Client;
+	private final ImageUrlResolver imageUrlResolver;
 
 	/**
 	 * 경매 목록 조회 (커서 기반 무한 스크롤)
@@ -64,11 +66,15 @@ public class AuctionListService {
 		// SortType을 전달하여 다음 커서 생성
 		String nextCursor = auctionListRepository.getNextCursor(dtos, request.getSize(), request.getSortType());
 
+		Map<String, String> imageUrlMap = resolveImageUrls(
+			resultDtos.stream().map(AuctionListRepositoryCustom.AuctionItemDto::getImageUrl).toList()
+		);
+
 		List<AuctionItemResponse> items = resultDtos.stream()
 			.map(dto -> AuctionItemResponse.from(
 				dto,
 				getIsBookmarked(dto.getProductId(), user),
-				getImageUrlWithPresignedUrl(dto.getImageUrl())
+				resolveImageUrl(dto.getImageUrl(), imageUrlMap)
 			))
 			.collect(Collectors.toList());
 
@@ -101,9 +107,10 @@ public class AuctionListService {
 
 		Boolean isBookmarked = getIsBookmarked(dto.getProductId(), user);
 
-		// 이미지 URL들을 Presigned URL로 변환
+		// 이미지 key들을 응답용 URL로 변환
+		Map<String, String> imageUrlMap = resolveImageUrls(dto.getImageUrls());
 		List<String> imageUrls = dto.getImageUrls().stream()
-			.map(this::getImageUrlWithPresignedUrl)
+			.map(imageKey -> resolveImageUrl(imageKey, imageUrlMap))
 			.collect(Collectors.toList());
 
 		return AuctionDetailResponse.from(dto, isBookmarked, bidHistory, imageUrls);
@@ -159,23 +166,33 @@ public class AuctionListService {
 	 */
 	@Cacheable(value = "homeAuctions", key = "#user?.id ?: 'anonymous'")
 	public AuctionHomeResponse getHomeAuctions(final User user) {
-		List<AuctionItemResponse> endingSoon =
-			auctionListRepository.findEndingSoonAuctions(HOME_LIMIT).stream()
-				.map(dto -> AuctionItemResponse.from(
-					dto,
-					getIsBookmarked(dto.getProductId(), user),
-					getImageUrlWithPresignedUrl(dto.getImageUrl())
-				))
-				.collect(Collectors.toList());
-
-		List<AuctionItemResponse> popular =
-			auctionListRepository.findPopularAuctions(HOME_LIMIT).stream()
-				.map(dto -> AuctionItemResponse.from(
-					dto,
-					getIsBookmarked(dto.getProductId(), user),
-					getImageUrlWithPresignedUrl(dto.getImageUrl())
-				))
-				.collect(Collectors.toList());
+		List<AuctionListRepositoryCustom.AuctionItemDto> endingSoonDtos =
+			auctionListRepository.findEndingSoonAuctions(HOME_LIMIT);
+		List<AuctionListRepositoryCustom.AuctionItemDto> popularDtos =
+			auctionListRepository.findPopularAuctions(HOME_LIMIT);
+
+		// 두 목록에 같은 경매가 겹칠 수 있어 이미지 key를 모아 한 번에 서명
+		Map<String, String> imageUrlMap = resolveImageUrls(
+			Stream.concat(endingSoonDtos.stream(), popularDtos.stream())
+				.map(AuctionListRepositoryCustom.AuctionItemDto::getImageUrl)
+				.toList()
+		);
+
+		List<AuctionItemResponse> endingSoon = endingSoonDtos.stream()
+			.map(dto -> AuctionItemResponse.from(
+				dto,
+				getIsBookmarked(dto.getProductId(), user),
+				resolveImageUrl(dto.getImageUrl(), imageUrlMap)
+			))
+			.collect(Collectors.toList());
+
+		List<AuctionItemResponse> popular = popularDtos.stream()
+			.map(dto -> AuctionItemResponse.from(
+				dto,
+				getIsBookmarked(dto.getProductId(), user),
+				resolveImageUrl(dto.getImageUrl(), imageUrlMap)
+			))
+			.collect(Collectors.toList());
 
 		return AuctionHomeResponse.builder()
 			.endingSoon(endingSoon)
@@ -184,24 +201,42 @@ public class AuctionListService {
 	}
 
 	/**
-	 * 이미지 URL을 Presigned URL로 변환
+	 * 이미지 key 목록을 응답용 URL로 한 번에 변환 (S3 객체 key → URL)
 	 */
-	private String getImageUrlWithPresignedUrl(String imageKey) {
-		if (imageKey == null || imageKey.isBlank() || imageKey.equals(DEFAULT_IMAGE_URL)) {
-			return DEFAULT_IMAGE_URL;
+	private Map<String, String> resolveImageUrls(List<String> imageKeys) {
+		List<String> s3Keys = imageKeys.stream()
+			.filter(this::isS3Key)
+			.distinct()
+			.toList();
+		if (s3Keys.isEmpty()) {
+			return Map.of();
 		}
 
 		try {
-			// S3 객체 키인 경우 Presigned URL 생성
-			if (!imageKey.startsWith("http")) {
-				return amazonS3Client.getPresignedUrl(imageKey);
-			}
-			// 이미 URL인 경우 그대로 반환
-			return imageKey;
+			return imageUrlResolver.resolveAll(s3Keys);
 		} catch (Exception e) {
-			log.warn("Presigned URL 생성 실패, 기본 이미지로 대체: {}", imageKey, e);
+			log.warn("이미지 URL 생성 실패, 기본 이미지로 대체: {}", s3Keys, e);
+			return Map.of();
+		}
+	}
+
+	/**
+	 * 이미지 key를 응답용 URL로 변환 (서명 실패/빈 값이면 기본 이미지)
+	 */
+	private String resolveImageUrl(String imageKey, Map<String, String> imageUrls) {
+		if (imageKey == null || imageKey.isBlank()) {
 			return DEFAULT_IMAGE_URL;
 		}
+		// 이미 URL인 경우 그대로 반환
+		if (!isS3Key(imageKey)) {
+			return imageKey;
+		}
+		String imageUrl = imageUrls.get(imageKey);
+		return imageUrl != null ? imageUrl : DEFAULT_IMAGE_URL;
+	}
+
+	private boolean isS3Key(String imageKey) {
+		return imageKey != null && !imageKey.isBlank() && !imageKey.startsWith("http");
 	}
 
 	/**
@@ -61,6 +61,9 @@ public class Product {
 	@Column(nullable = false)
 	private Integer bookmarkCount;
 
+	// 대표 이미지(첫 번째 이미지) S3 key. 목록 조회에서 product_images 서브쿼리 없이 바로 읽는다.
+	private String thumbnailKey;
+
 	private LocalDateTime deletedAt;
 
 	public enum Category { STARGOODS, FIGURE, CDLP, GAME }
@@ -105,6 +108,10 @@ public class Product {
 		this.bookmarkCount--;
 	}
 
+	public void updateThumbnail(String thumbnailKey) {
+		this.thumbnailKey = thumbnailKey;
+	}
+
 	public void setDeleted() {
 		this.deletedAt = LocalDateTime.now();
 	}
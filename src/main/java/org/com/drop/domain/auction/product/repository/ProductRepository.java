@@ -8,6 +8,8 @@ import org.com.drop.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 	Optional<Product> findByIdAndDeletedAtIsNull(Long id);
@@ -15,4 +17,17 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 	Page<Product> findBySellerAndDeletedAtIsNullOrderByCreatedAtDesc(User seller, Pageable pageable);
 
 	List<Product> findByName(String name);
+
+	/**
+	 * 대표 이미지 key가 비어 있는 상품에 첫 번째 이미지(가장 먼저 저장된 이미지)를 채운다.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE products p
+		SET p.thumbnail_key = (
+			SELECT pi.image_url FROM product_images pi WHERE pi.product_id = p.id ORDER BY pi.id LIMIT 1
+		)
+		WHERE p.thumbnail_key IS NULL
+		""", nativeQuery = true)
+	int backfillThumbnailKeys();
 }
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.com.drop.domain.auction.auction.entity.Auction;
@@ -18,6 +19,7 @@ import org.com.drop.domain.auction.product.repository.ProductImageRepository;
 import org.com.drop.domain.auction.product.repository.ProductRepository;
 import org.com.drop.domain.user.entity.User;
 import org.com.drop.global.aws.AmazonS3Client;
+import org.com.drop.global.aws.ImageUrlResolver;
 import org.com.drop.global.exception.ErrorCode;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -36,6 +38,7 @@ public class ProductService {
 	private final AuctionRepository auctionRepository;
 	private final BookmarkRepository bookmarkRepository;
 	private final AmazonS3Client amazonS3Client;
+	private final ImageUrlResolver imageUrlResolver;
 	public void validUser(Long sellerId, User actor) {
 		if (!sellerId.equals(actor.getId())) {
 			throw ErrorCode.USER_INACTIVE_USER
@@ -100,6 +103,7 @@ public class ProductService {
 		}
 
 		productImageRepository.saveAll(images);
+		product.updateThumbnail(imageUrls.isEmpty() ? null : imageUrls.getFirst());
 	}
 
 	public Product findProductById(Long id) {
@@ -129,16 +133,19 @@ public class ProductService {
 			return Collections.emptyList();
 		}
 
-		List<String> sortedUrls = new ArrayList<>();
+		List<String> sortedKeys = new ArrayList<>();
 		ProductImage current = start.get();
 
 		while (current != null) {
-			sortedUrls.add(amazonS3Client.getPresignedUrl(current.getImageUrl()));
+			sortedKeys.add(current.getImageUrl());
 			current = current.getTrailImg();
 
 		}
 
-		return sortedUrls;
+		Map<String, String> imageUrls = imageUrlResolver.resolveAll(sortedKeys);
+		return sortedKeys.stream()
+			.map(imageUrls::get)
+			.toList();
 	}
 
 	@Transactional
@@ -176,6 +183,7 @@ public class ProductService {
 			for (ProductImage key : keys) {
 				amazonS3Client.updateS3Tag(key.getImageUrl(), "deleted");
 			}
+			product.updateThumbnail(null);
 		}
 	}
 
@@ -192,6 +200,7 @@ public class ProductService {
 
 		product.increaseBookmarkCount();
 		productRepository.save(product);
+		auctionRepository.addPopularityScore(productId, 1);
 
 		return bookmark;
 	}
@@ -205,6 +214,7 @@ public class ProductService {
 
 		product.decreaseBookmarkCount();
 		productRepository.save(product);
+		auctionRepository.addPopularityScore(productId, -1);
 	}
 
 
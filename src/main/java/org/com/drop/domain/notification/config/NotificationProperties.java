@@ -0,0 +1,71 @@
+package org.com.drop.domain.notification.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drop.notification")
+public record NotificationProperties(
+	@DefaultValue Replay replay,
+	@DefaultValue Batch batch,
+	@DefaultValue Inbox inbox,
+	@DefaultValue Retention retention
+) {
+
+	/**
+	 * Last-Event-ID 재전송 버퍼 설정
+	 *
+	 * @param store 버퍼 저장소
+	 * @param capacity 사용자별로 보관하는 최근 알림 수
+	 * @param ttl 알림을 버퍼에 보관하는 시간
+	 */
+	public record Replay(
+		@DefaultValue("MEMORY") NotificationStoreType store,
+		@DefaultValue("50") int capacity,
+		@DefaultValue("10m") Duration ttl
+	) {
+	}
+
+	/**
+	 * 알림 묶음 저장 설정
+	 *
+	 * @param windowMs 첫 알림이 들어온 뒤 같은 묶음으로 모으는 최대 시간
+	 * @param maxSize 한 번의 INSERT로 저장하는 최대 알림 수
+	 * @param maxAttempts 저장에 실패한 알림을 다시 시도하는 최대 횟수 (첫 시도 포함)
+	 * @param retryDelay 저장에 실패한 알림을 다시 시도하기 전 대기 시간
+	 */
+	public record Batch(
+		@DefaultValue("20") long windowMs,
+		@DefaultValue("200") int maxSize,
+		@DefaultValue("3") int maxAttempts,
+		@DefaultValue("1s") Duration retryDelay
+	) {
+	}
+
+	/**
+	 * 사용자별 알림함 캐시 설정 (안 읽은 알림 수 + 최근 알림)
+	 *
+	 * @param store 캐시 저장소
+	 * @param capacity 사용자별로 보관하는 최근 알림 수. 이보다 큰 첫 페이지는 DB에서 읽는다.
+	 * @param ttl DB에서 읽어 채운 뒤 캐시를 유지하는 시간. 갱신이 빠져 생긴 오차는 이 시간 안에 바로잡힌다.
+	 */
+	public record Inbox(
+		@DefaultValue("MEMORY") NotificationStoreType store,
+		@DefaultValue("20") int capacity,
+		@DefaultValue("10m") Duration ttl
+	) {
+	}
+
+	/**
+	 * 읽은 알림 정리 설정
+	 *
+	 * @param readRetention 보낸 지 이 기간이 지난 읽은 알림을 삭제한다.
+	 * @param chunkSize 한 트랜잭션에서 확인하는 알림 수
+	 */
+	public record Retention(
+		@DefaultValue("30d") Duration readRetention,
+		@DefaultValue("500") int chunkSize
+	) {
+	}
+}
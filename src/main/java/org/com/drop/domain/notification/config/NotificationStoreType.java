@@ -0,0 +1,17 @@
+package org.com.drop.domain.notification.config;
+
+/**
+ * 알림 재전송(Last-Event-ID) 버퍼와 알림함 캐시 저장소
+ */
+public enum NotificationStoreType {
+
+	/**
+	 * 인스턴스 메모리. 재배포하면 비워지므로 그 직후 요청은 DB에서 보충한다.
+	 */
+	MEMORY,
+
+	/**
+	 * Redis. 재배포나 다른 인스턴스로 요청이 가도 같은 데이터를 본다.
+	 */
+	REDIS
+}
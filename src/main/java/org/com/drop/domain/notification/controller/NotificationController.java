@@ -2,6 +2,7 @@ package org.com.drop.domain.notification.controller;
 
 import java.util.List;
 
+import org.com.drop.domain.notification.dto.NotificationInboxResponse;
 import org.com.drop.domain.notification.dto.NotificationResponse;
 import org.com.drop.domain.notification.entity.Notification;
 import org.com.drop.domain.notification.service.NotificationService;
@@ -13,26 +14,46 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/notifications")
 public class NotificationController {
 
+	private static final String LAST_EVENT_ID = "Last-Event-ID";
+
 	private final NotificationService notificationService;
 
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public SseEmitter subscribe(@LoginUser User actor) {
-		return notificationService.subscribe(actor.getId());
+	public SseEmitter subscribe(
+		@LoginUser User actor,
+		@RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId
+	) {
+		return notificationService.subscribe(actor.getId(), lastEventId);
+	}
+
+	/**
+	 * Reactor Flux 기반 알림 스트림. 이벤트 형식은 /subscribe와 같다.
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<Object>> stream(
+		@LoginUser User actor,
+		@RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId
+	) {
+		return notificationService.stream(actor.getId(), lastEventId);
 	}
 
 	@GetMapping
@@ -49,6 +70,20 @@ public class NotificationController {
 		);
 	}
 
+	/**
+	 * 알림함 커서 조회. 첫 페이지는 알림함 캐시에서 응답하고, 다음 페이지는 응답의 cursor로 이어서 조회한다.
+	 */
+	@GetMapping("/inbox")
+	public RsData<NotificationInboxResponse> getInbox(
+		@LoginUser User actor,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size
+	) {
+		return new RsData<>(
+			notificationService.getInbox(actor, cursor, size)
+		);
+	}
+
 	@GetMapping("/{notificationId}")
 	public RsData<NotificationResponse> getNotificationById(
 		@LoginUser User actor,
@@ -71,6 +106,19 @@ public class NotificationController {
 		);
 	}
 
+	/**
+	 * upToId 이하의 알림을 모두 읽음 처리하고 읽음으로 바뀐 알림 수를 반환한다.
+	 */
+	@PutMapping("/read-all")
+	public RsData<Integer> readAllNotifications(
+		@LoginUser User actor,
+		@RequestParam Long upToId
+	) {
+		return new RsData<>(
+			notificationService.readAll(actor, upToId)
+		);
+	}
+
 	@DeleteMapping("/{notificationId}")
 	public RsData<Void> deleteNotification(
 		@LoginUser User actor,
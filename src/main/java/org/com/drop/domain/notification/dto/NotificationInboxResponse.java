@@ -0,0 +1,17 @@
+package org.com.drop.domain.notification.dto;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 응답
+ *
+ * @param unreadCount 안 읽은 알림 수
+ * @param cursor 다음 페이지 커서 (다음 페이지가 없으면 null)
+ */
+public record NotificationInboxResponse(
+	long unreadCount,
+	List<NotificationSummary> items,
+	String cursor,
+	boolean hasNext
+) {
+}
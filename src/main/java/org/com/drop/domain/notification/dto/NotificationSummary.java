@@ -0,0 +1,21 @@
+package org.com.drop.domain.notification.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림함 목록용 알림. 사용자 엔티티를 읽지 않고 notifications 테이블만으로 만든다.
+ */
+public record NotificationSummary(
+	Long id,
+	String message,
+	LocalDateTime sendAt,
+	boolean read
+) {
+	public NotificationSummary(Long id, String message, LocalDateTime sendAt, LocalDateTime readAt) {
+		this(id, message, sendAt, readAt != null);
+	}
+
+	public NotificationSummary markAsRead() {
+		return read ? this : new NotificationSummary(id, message, sendAt, true);
+	}
+}
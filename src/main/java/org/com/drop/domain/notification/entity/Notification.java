@@ -25,7 +25,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
 	name = "notifications",
-	indexes = {@Index(name = "idx_notifications_user_id", columnList = "user_id")}
+	indexes = {@Index(name = "idx_notifications_user_id", columnList = "user_id"),
+		@Index(name = "idx_notifications_user_send_at", columnList = "user_id, sendAt")}
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,7 @@
+package org.com.drop.domain.notification.event;
+
+public record NotificationDeletedEvent(
+	Long userId,
+	Long notificationId,
+	boolean unread) {
+}
@@ -0,0 +1,41 @@
+package org.com.drop.domain.notification.event;
+
+import org.com.drop.domain.notification.inbox.NotificationInboxCache;
+import org.com.drop.domain.notification.service.NotificationBatchWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 요청은 요청한 트랜잭션이 커밋된 뒤에만 저장/전송 큐로 넘긴다. (롤백된 입찰/낙찰에는 알림이 나가지 않음)
+ * 읽음/삭제도 커밋된 뒤에만 알림함 캐시에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+	private final NotificationBatchWriter notificationBatchWriter;
+	private final NotificationInboxCache notificationInboxCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleNotificationRequested(NotificationRequestedEvent event) {
+		notificationBatchWriter.submit(event);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleNotificationRead(NotificationReadEvent event) {
+		notificationInboxCache.markAsRead(event.userId(), event.notificationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleNotificationReadAll(NotificationReadAllEvent event) {
+		notificationInboxCache.markAllAsRead(event.userId(), event.upToId(), event.readCount());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleNotificationDeleted(NotificationDeletedEvent event) {
+		notificationInboxCache.remove(event.userId(), event.notificationId(), event.unread());
+	}
+}
@@ -0,0 +1,7 @@
+package org.com.drop.domain.notification.event;
+
+public record NotificationReadAllEvent(
+	Long userId,
+	Long upToId,
+	int readCount) {
+}
@@ -0,0 +1,6 @@
+package org.com.drop.domain.notification.event;
+
+public record NotificationRequestedEvent(
+	Long userId,
+	String message) {
+}
@@ -0,0 +1,145 @@
+package org.com.drop.domain.notification.inbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.dto.NotificationSummary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+	prefix = "drop.notification.inbox", name = "store", havingValue = "memory", matchIfMissing = true)
+public class MemoryNotificationInboxCache implements NotificationInboxCache {
+
+	private final NotificationProperties notificationProperties;
+
+	private final Map<Long, Cached> inboxes = new ConcurrentHashMap<>();
+	// 진행 중인 채우기 번호. 갱신/삭제가 지우면 그 채우기는 저장하지 않는다.
+	private final Map<Long, Long> fills = new ConcurrentHashMap<>();
+	private final AtomicLong fillSequence = new AtomicLong();
+
+	@Override
+	public Optional<NotificationInbox> get(Long userId) {
+		long now = System.currentTimeMillis();
+		NotificationInbox[] snapshot = new NotificationInbox[1];
+		inboxes.computeIfPresent(userId, (key, cached) -> {
+			if (cached.expiresAt <= now) {
+				return null;
+			}
+			snapshot[0] = new NotificationInbox(
+				Math.max(cached.unreadCount, 0), Math.max(cached.totalCount, 0), List.copyOf(cached.recent));
+			return cached;
+		});
+		return Optional.ofNullable(snapshot[0]);
+	}
+
+	@Override
+	public long beginFill(Long userId) {
+		long fill = fillSequence.incrementAndGet();
+		fills.put(userId, fill);
+		return fill;
+	}
+
+	@Override
+	public void putIfAbsent(Long userId, NotificationInbox inbox, long fill) {
+		if (!fills.remove(userId, fill)) {
+			return;
+		}
+		long expiresAt = System.currentTimeMillis() + notificationProperties.inbox().ttl().toMillis();
+		inboxes.putIfAbsent(userId,
+			new Cached(inbox.unreadCount(), inbox.totalCount(), new ArrayList<>(inbox.recent()), expiresAt));
+	}
+
+	@Override
+	public void add(Long userId, NotificationSummary notification) {
+		int capacity = notificationProperties.inbox().capacity();
+		fills.remove(userId);
+		inboxes.computeIfPresent(userId, (key, cached) -> {
+			if (cached.recent.stream().anyMatch(summary -> summary.id().equals(notification.id()))) {
+				return cached;
+			}
+			cached.recent.addFirst(notification);
+			while (cached.recent.size() > capacity) {
+				cached.recent.removeLast();
+			}
+			cached.totalCount++;
+			if (!notification.read()) {
+				cached.unreadCount++;
+			}
+			return cached;
+		});
+	}
+
+	@Override
+	public void markAsRead(Long userId, Long notificationId) {
+		fills.remove(userId);
+		inboxes.computeIfPresent(userId, (key, cached) -> {
+			if (cached.recent.stream().anyMatch(summary -> summary.id().equals(notificationId) && summary.read())) {
+				return cached;
+			}
+			cached.unreadCount--;
+			cached.recent.replaceAll(summary -> summary.id().equals(notificationId) ? summary.markAsRead() : summary);
+			return cached;
+		});
+	}
+
+	@Override
+	public void markAllAsRead(Long userId, Long upToId, int readCount) {
+		fills.remove(userId);
+		inboxes.computeIfPresent(userId, (key, cached) -> {
+			cached.unreadCount -= readCount;
+			cached.recent.replaceAll(summary -> summary.id() <= upToId ? summary.markAsRead() : summary);
+			return cached;
+		});
+	}
+
+	@Override
+	public void remove(Long userId, Long notificationId, boolean unread) {
+		fills.remove(userId);
+		inboxes.computeIfPresent(userId, (key, cached) -> {
+			cached.totalCount--;
+			if (unread) {
+				cached.unreadCount--;
+			}
+			cached.recent.removeIf(summary -> summary.id().equals(notificationId));
+			return cached;
+		});
+	}
+
+	@Override
+	public void evict(Long userId) {
+		fills.remove(userId);
+		inboxes.remove(userId);
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		inboxes.values().removeIf(cached -> cached.expiresAt <= now);
+	}
+
+	// compute 안에서만 변경한다.
+	private static final class Cached {
+		private long unreadCount;
+		private long totalCount;
+		private final List<NotificationSummary> recent;
+		private final long expiresAt;
+
+		private Cached(long unreadCount, long totalCount, List<NotificationSummary> recent, long expiresAt) {
+			this.unreadCount = unreadCount;
+			this.totalCount = totalCount;
+			this.recent = recent;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package org.com.drop.domain.notification.inbox;
+
+import java.util.List;
+
+import org.com.drop.domain.notification.dto.NotificationSummary;
+
+/**
+ * 사용자별 알림함 캐시 값
+ *
+ * @param unreadCount 안 읽은 알림 수
+ * @param totalCount 전체 알림 수
+ * @param recent 최근 알림 (sendAt, id 내림차순, 최대 capacity개)
+ */
+public record NotificationInbox(
+	long unreadCount,
+	long totalCount,
+	List<NotificationSummary> recent
+) {
+
+	/**
+	 * 첫 페이지 size개를 캐시만으로 채울 수 있는지. 삭제로 최근 알림이 비었는데 DB에 더 남아 있으면 다시 읽어야 한다.
+	 */
+	public boolean covers(int size) {
+		return recent.size() >= Math.min(size, totalCount);
+	}
+}
@@ -0,0 +1,54 @@
+package org.com.drop.domain.notification.inbox;
+
+import java.util.Optional;
+
+import org.com.drop.domain.notification.dto.NotificationSummary;
+
+/**
+ * 사용자별 안 읽은 알림 수와 최근 알림을 보관하는 캐시.
+ * 조회에서 비어 있으면 DB에서 읽어 {@link #putIfAbsent}로 채우고, 이후 알림 저장/읽음/삭제가 커밋될 때마다 그대로 갱신한다.
+ * 갱신은 캐시가 채워진 사용자에게만 적용된다.
+ * <p>
+ * DB에서 읽는 동안 들어온 갱신은 읽은 결과에 반영됐는지 알 수 없으므로, 채우기 전에 {@link #beginFill}로 받은 값을
+ * 갱신/삭제가 무효로 만들고 무효가 된 채우기는 저장하지 않는다.
+ */
+public interface NotificationInboxCache {
+
+	Optional<NotificationInbox> get(Long userId);
+
+	/**
+	 * DB에서 알림함을 읽기 직전에 호출한다.
+	 *
+	 * @return {@link #putIfAbsent}에 넘길 채우기 번호
+	 */
+	long beginFill(Long userId);
+
+	/**
+	 * beginFill 이후 같은 사용자에게 갱신/삭제가 없었을 때만 저장한다.
+	 */
+	void putIfAbsent(Long userId, NotificationInbox inbox, long fill);
+
+	/**
+	 * 새로 저장된 알림을 맨 앞에 넣는다. 이미 들어 있는 알림이면 무시한다.
+	 */
+	void add(Long userId, NotificationSummary notification);
+
+	/**
+	 * 안 읽은 알림이 읽음으로 바뀌었을 때 호출한다. 최근 알림에 이미 읽음으로 들어 있으면 무시한다.
+	 */
+	void markAsRead(Long userId, Long notificationId);
+
+	/**
+	 * upToId 이하의 알림을 한꺼번에 읽음 처리했을 때 호출한다.
+	 *
+	 * @param readCount 읽음으로 바뀐 알림 수
+	 */
+	void markAllAsRead(Long userId, Long upToId, int readCount);
+
+	/**
+	 * @param unread 삭제된 알림이 안 읽은 상태였는지
+	 */
+	void remove(Long userId, Long notificationId, boolean unread);
+
+	void evict(Long userId);
+}
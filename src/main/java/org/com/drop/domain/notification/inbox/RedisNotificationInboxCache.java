@@ -0,0 +1,276 @@
+package org.com.drop.domain.notification.inbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.dto.NotificationSummary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 Redis 해시(notification:inbox:{userId})에 unread/total 수를, 리스트(notification:inbox:{userId}:recent)에
+ * "id:읽음여부(0/1):JSON" 형태로 최근 알림을 보관한다. 두 키는 DB에서 채운 시점부터 ttl 뒤에 함께 만료된다.
+ * 진행 중인 채우기 번호는 notification:inbox:{userId}:fill에 두고, 갱신/삭제 스크립트가 이 키를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "drop.notification.inbox", name = "store", havingValue = "redis")
+public class RedisNotificationInboxCache implements NotificationInboxCache {
+
+	private static final String KEY_PREFIX = "notification:inbox:";
+	private static final String RECENT_SUFFIX = ":recent";
+	private static final String FILL_SUFFIX = ":fill";
+	private static final String FILL_SEQUENCE_KEY = "notification:inbox:fill-seq";
+	private static final long NO_FILL = -1;
+	private static final String DELIMITER = ":";
+
+	// KEYS: 채우기 번호 시퀀스, 사용자 채우기 키 / ARGV: ttlMillis
+	private static final RedisScript<Long> BEGIN_FILL_SCRIPT = RedisScript.of("""
+		local fill = redis.call('INCR', KEYS[1])
+		redis.call('SET', KEYS[2], fill, 'PX', ARGV[1])
+		return fill
+		""", Long.class);
+
+	// ARGV: unread, total, ttlMillis, fill, entries...
+	private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[3]) ~= ARGV[4] then
+			return 0
+		end
+		redis.call('DEL', KEYS[3])
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+			return 0
+		end
+		redis.call('DEL', KEYS[2])
+		redis.call('HSET', KEYS[1], 'unread', ARGV[1], 'total', ARGV[2])
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		if #ARGV > 4 then
+			redis.call('RPUSH', KEYS[2], unpack(ARGV, 5))
+			redis.call('PEXPIRE', KEYS[2], ARGV[3])
+		end
+		return 1
+		""", Long.class);
+
+	// ARGV: entry, capacity, unread(0/1), "id:" 접두사
+	private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+		redis.call('DEL', KEYS[3])
+		local ttl = redis.call('PTTL', KEYS[1])
+		if ttl <= 0 then
+			return 0
+		end
+		for _, entry in ipairs(redis.call('LRANGE', KEYS[2], 0, -1)) do
+			if string.sub(entry, 1, #ARGV[4]) == ARGV[4] then
+				return 0
+			end
+		end
+		redis.call('HINCRBY', KEYS[1], 'total', 1)
+		redis.call('HINCRBY', KEYS[1], 'unread', tonumber(ARGV[3]))
+		redis.call('LPUSH', KEYS[2], ARGV[1])
+		redis.call('LTRIM', KEYS[2], 0, tonumber(ARGV[2]) - 1)
+		redis.call('PEXPIRE', KEYS[2], ttl)
+		return 1
+		""", Long.class);
+
+	// ARGV: "id:" 접두사
+	private static final RedisScript<Long> MARK_AS_READ_SCRIPT = RedisScript.of("""
+		redis.call('DEL', KEYS[3])
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		local entries = redis.call('LRANGE', KEYS[2], 0, -1)
+		for i, entry in ipairs(entries) do
+			if string.sub(entry, 1, #ARGV[1]) == ARGV[1] then
+				if string.sub(entry, #ARGV[1] + 1, #ARGV[1] + 1) == '1' then
+					return 0
+				end
+				redis.call('LSET', KEYS[2], i - 1, ARGV[1] .. '1' .. string.sub(entry, #ARGV[1] + 2))
+				break
+			end
+		end
+		redis.call('HINCRBY', KEYS[1], 'unread', -1)
+		return 1
+		""", Long.class);
+
+	// ARGV: upToId, readCount
+	private static final RedisScript<Long> MARK_ALL_AS_READ_SCRIPT = RedisScript.of("""
+		redis.call('DEL', KEYS[3])
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('HINCRBY', KEYS[1], 'unread', -tonumber(ARGV[2]))
+		local entries = redis.call('LRANGE', KEYS[2], 0, -1)
+		for i, entry in ipairs(entries) do
+			local id, read = string.match(entry, '^(%d+):(%d)')
+			if read == '0' and tonumber(id) <= tonumber(ARGV[1]) then
+				redis.call('LSET', KEYS[2], i - 1, id .. ':1' .. string.sub(entry, #id + 3))
+			end
+		end
+		return 1
+		""", Long.class);
+
+	// ARGV: "id:" 접두사, unread(0/1)
+	private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+		redis.call('DEL', KEYS[3])
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('HINCRBY', KEYS[1], 'total', -1)
+		redis.call('HINCRBY', KEYS[1], 'unread', -tonumber(ARGV[2]))
+		local entries = redis.call('LRANGE', KEYS[2], 0, -1)
+		for _, entry in ipairs(entries) do
+			if string.sub(entry, 1, #ARGV[1]) == ARGV[1] then
+				redis.call('LREM', KEYS[2], 1, entry)
+				break
+			end
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final NotificationProperties notificationProperties;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public Optional<NotificationInbox> get(Long userId) {
+		List<Object> counts;
+		List<String> entries;
+		try {
+			counts = stringRedisTemplate.opsForHash().multiGet(KEY_PREFIX + userId, List.of("unread", "total"));
+			entries = stringRedisTemplate.opsForList().range(KEY_PREFIX + userId + RECENT_SUFFIX, 0, -1);
+		} catch (RuntimeException e) {
+			log.warn("알림함 캐시 조회 실패: userId={}", userId, e);
+			return Optional.empty();
+		}
+		if (counts == null || counts.get(0) == null || counts.get(1) == null) {
+			return Optional.empty();
+		}
+
+		List<NotificationSummary> recent = new ArrayList<>();
+		try {
+			for (String entry : entries == null ? List.<String>of() : entries) {
+				recent.add(decode(entry));
+			}
+		} catch (JsonProcessingException e) {
+			log.warn("알림함 캐시 역직렬화 실패: userId={}", userId, e);
+			evict(userId);
+			return Optional.empty();
+		}
+		return Optional.of(new NotificationInbox(
+			Math.max(Long.parseLong((String) counts.get(0)), 0),
+			Math.max(Long.parseLong((String) counts.get(1)), 0),
+			recent));
+	}
+
+	@Override
+	public long beginFill(Long userId) {
+		try {
+			Long fill = stringRedisTemplate.execute(BEGIN_FILL_SCRIPT,
+				List.of(FILL_SEQUENCE_KEY, KEY_PREFIX + userId + FILL_SUFFIX),
+				String.valueOf(notificationProperties.inbox().ttl().toMillis()));
+			return fill == null ? NO_FILL : fill;
+		} catch (RuntimeException e) {
+			log.warn("알림함 캐시 채우기 시작 실패: userId={}", userId, e);
+			return NO_FILL;
+		}
+	}
+
+	@Override
+	public void putIfAbsent(Long userId, NotificationInbox inbox, long fill) {
+		if (fill == NO_FILL) {
+			return;
+		}
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(inbox.unreadCount()));
+		args.add(String.valueOf(inbox.totalCount()));
+		args.add(String.valueOf(notificationProperties.inbox().ttl().toMillis()));
+		args.add(String.valueOf(fill));
+		try {
+			for (NotificationSummary summary : inbox.recent()) {
+				args.add(encode(summary));
+			}
+			stringRedisTemplate.execute(PUT_SCRIPT, keys(userId), args.toArray());
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("알림함 캐시 저장 실패: userId={}", userId, e);
+		}
+	}
+
+	@Override
+	public void add(Long userId, NotificationSummary notification) {
+		try {
+			stringRedisTemplate.execute(ADD_SCRIPT, keys(userId),
+				encode(notification),
+				String.valueOf(notificationProperties.inbox().capacity()),
+				notification.read() ? "0" : "1",
+				notification.id() + DELIMITER);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("알림함 캐시 갱신 실패: userId={}, notificationId={}", userId, notification.id(), e);
+			evict(userId);
+		}
+	}
+
+	@Override
+	public void markAsRead(Long userId, Long notificationId) {
+		try {
+			stringRedisTemplate.execute(MARK_AS_READ_SCRIPT, keys(userId), notificationId + DELIMITER);
+		} catch (RuntimeException e) {
+			log.warn("알림함 캐시 갱신 실패: userId={}, notificationId={}", userId, notificationId, e);
+			evict(userId);
+		}
+	}
+
+	@Override
+	public void markAllAsRead(Long userId, Long upToId, int readCount) {
+		try {
+			stringRedisTemplate.execute(MARK_ALL_AS_READ_SCRIPT, keys(userId),
+				String.valueOf(upToId), String.valueOf(readCount));
+		} catch (RuntimeException e) {
+			log.warn("알림함 캐시 갱신 실패: userId={}, upToId={}", userId, upToId, e);
+			evict(userId);
+		}
+	}
+
+	@Override
+	public void remove(Long userId, Long notificationId, boolean unread) {
+		try {
+			stringRedisTemplate.execute(REMOVE_SCRIPT, keys(userId), notificationId + DELIMITER, unread ? "1" : "0");
+		} catch (RuntimeException e) {
+			log.warn("알림함 캐시 갱신 실패: userId={}, notificationId={}", userId, notificationId, e);
+			evict(userId);
+		}
+	}
+
+	@Override
+	public void evict(Long userId) {
+		try {
+			stringRedisTemplate.delete(keys(userId));
+		} catch (RuntimeException ignored) {
+			// Redis가 응답하지 않으면 키가 ttl로 만료될 때까지 남는다.
+		}
+	}
+
+	private static List<String> keys(Long userId) {
+		return List.of(KEY_PREFIX + userId, KEY_PREFIX + userId + RECENT_SUFFIX, KEY_PREFIX + userId + FILL_SUFFIX);
+	}
+
+	private String encode(NotificationSummary summary) throws JsonProcessingException {
+		return summary.id() + DELIMITER + (summary.read() ? "1" : "0") + DELIMITER
+			+ objectMapper.writeValueAsString(summary);
+	}
+
+	private NotificationSummary decode(String entry) throws JsonProcessingException {
+		int idEnd = entry.indexOf(DELIMITER);
+		boolean read = entry.charAt(idEnd + 1) == '1';
+		NotificationSummary summary = objectMapper.readValue(entry.substring(idEnd + 3), NotificationSummary.class);
+		return read ? summary.markAsRead() : summary;
+	}
+}
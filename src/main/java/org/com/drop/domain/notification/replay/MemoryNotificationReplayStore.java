@@ -0,0 +1,69 @@
+package org.com.drop.domain.notification.replay;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+	prefix = "drop.notification.replay", name = "store", havingValue = "memory", matchIfMissing = true)
+public class MemoryNotificationReplayStore implements NotificationReplayStore {
+
+	private final NotificationProperties notificationProperties;
+
+	private final Map<Long, Deque<Buffered>> buffers = new ConcurrentHashMap<>();
+
+	@Override
+	public void append(Long userId, NotificationEvent event) {
+		long now = System.currentTimeMillis();
+		buffers.compute(userId, (key, buffer) -> {
+			Deque<Buffered> target = buffer != null ? buffer : new ArrayDeque<>();
+			target.addLast(new Buffered(event, now));
+			while (target.size() > notificationProperties.replay().capacity()) {
+				target.pollFirst();
+			}
+			return target;
+		});
+	}
+
+	@Override
+	public Optional<List<NotificationEvent>> since(Long userId, long lastEventId) {
+		List<NotificationEvent> buffered = new ArrayList<>();
+		long expiredBefore = System.currentTimeMillis() - notificationProperties.replay().ttl().toMillis();
+		buffers.computeIfPresent(userId, (key, buffer) -> {
+			buffer.removeIf(entry -> entry.bufferedAt() < expiredBefore);
+			buffer.forEach(entry -> buffered.add(entry.event()));
+			return buffer.isEmpty() ? null : buffer;
+		});
+		return NotificationReplayStore.replayable(buffered, lastEventId);
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		long expiredBefore = System.currentTimeMillis() - notificationProperties.replay().ttl().toMillis();
+		for (Long userId : buffers.keySet()) {
+			buffers.computeIfPresent(userId, (key, buffer) -> {
+				buffer.removeIf(entry -> entry.bufferedAt() < expiredBefore);
+				return buffer.isEmpty() ? null : buffer;
+			});
+		}
+	}
+
+	private record Buffered(
+		NotificationEvent event,
+		long bufferedAt
+	) {
+	}
+}
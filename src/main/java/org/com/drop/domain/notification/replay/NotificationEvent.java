@@ -0,0 +1,13 @@
+package org.com.drop.domain.notification.replay;
+
+/**
+ * 전송된 알림 이벤트
+ *
+ * @param id SSE 이벤트 id (알림 id, 증가하는 값)
+ * @param data 직렬화된 알림 본문(JSON)
+ */
+public record NotificationEvent(
+	long id,
+	String data
+) {
+}
@@ -0,0 +1,31 @@
+package org.com.drop.domain.notification.replay;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 최근 알림 버퍼. 재연결 시 Last-Event-ID 이후의 알림을 DB 조회 없이 다시 보내는 데 쓴다.
+ */
+public interface NotificationReplayStore {
+
+	void append(Long userId, NotificationEvent event);
+
+	/**
+	 * lastEventId 이후의 알림을 id 순서로 돌려준다.
+	 * 버퍼가 lastEventId 시점까지 거슬러 올라가지 못해 누락 여부를 알 수 없으면 empty를 돌려준다.
+	 */
+	Optional<List<NotificationEvent>> since(Long userId, long lastEventId);
+
+	/**
+	 * 버퍼에 남아 있는 알림이 lastEventId까지의 이력을 모두 포함하는지 판단한다.
+	 * 알림은 id 순서로 쌓이므로 가장 오래된 알림 id가 lastEventId 이하이면 그 뒤의 알림은 빠짐없이 버퍼에 있다.
+	 */
+	static Optional<List<NotificationEvent>> replayable(List<NotificationEvent> buffered, long lastEventId) {
+		if (buffered.isEmpty() || buffered.getFirst().id() > lastEventId) {
+			return Optional.empty();
+		}
+		return Optional.of(buffered.stream()
+			.filter(event -> event.id() > lastEventId)
+			.toList());
+	}
+}
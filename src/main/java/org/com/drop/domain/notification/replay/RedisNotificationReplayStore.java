@@ -0,0 +1,80 @@
+package org.com.drop.domain.notification.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 Redis 리스트(notification:replay:{userId})에 "id:JSON" 형태로 최근 알림을 보관한다.
+ * 리스트 길이는 capacity로 자르고, 마지막 알림 이후 ttl이 지나면 키 전체가 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "drop.notification.replay", name = "store", havingValue = "redis")
+public class RedisNotificationReplayStore implements NotificationReplayStore {
+
+	private static final String KEY_PREFIX = "notification:replay:";
+	private static final String DELIMITER = ":";
+
+	// ARGV: value, capacity, ttlMillis
+	private static final RedisScript<Long> APPEND_SCRIPT = RedisScript.of("""
+		redis.call('RPUSH', KEYS[1], ARGV[1])
+		redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1)
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final NotificationProperties notificationProperties;
+
+	@Override
+	public void append(Long userId, NotificationEvent event) {
+		NotificationProperties.Replay replay = notificationProperties.replay();
+		try {
+			stringRedisTemplate.execute(APPEND_SCRIPT, List.of(KEY_PREFIX + userId),
+				event.id() + DELIMITER + event.data(),
+				String.valueOf(replay.capacity()),
+				String.valueOf(replay.ttl().toMillis()));
+		} catch (RuntimeException e) {
+			log.warn("알림 재전송 버퍼 저장 실패: userId={}, eventId={}", userId, event.id(), e);
+			// 중간이 빠진 버퍼로 재전송하지 않도록 버퍼를 비워 다음 재연결은 DB에서 보충하게 한다.
+			try {
+				stringRedisTemplate.delete(KEY_PREFIX + userId);
+			} catch (RuntimeException ignored) {
+				// Redis가 응답하지 않으면 키가 ttl로 만료될 때까지 남는다.
+			}
+		}
+	}
+
+	@Override
+	public Optional<List<NotificationEvent>> since(Long userId, long lastEventId) {
+		List<String> values;
+		try {
+			values = stringRedisTemplate.opsForList().range(KEY_PREFIX + userId, 0, -1);
+		} catch (RuntimeException e) {
+			log.warn("알림 재전송 버퍼 조회 실패: userId={}", userId, e);
+			return Optional.empty();
+		}
+		if (values == null) {
+			return Optional.empty();
+		}
+
+		List<NotificationEvent> buffered = new ArrayList<>(values.size());
+		for (String value : values) {
+			int delimiter = value.indexOf(DELIMITER);
+			buffered.add(new NotificationEvent(
+				Long.parseLong(value.substring(0, delimiter)), value.substring(delimiter + 1)));
+		}
+		return NotificationReplayStore.replayable(buffered, lastEventId);
+	}
+}
@@ -0,0 +1,54 @@
+package org.com.drop.domain.notification.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.com.drop.domain.notification.event.NotificationRequestedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 알림 여러 건을 multi-row INSERT 한 번으로 저장한다.
+	 *
+	 * @return 생성된 알림 id (요청 순서). 드라이버가 모든 키를 돌려주지 않으면 빈 리스트
+	 */
+	public List<Long> insertAll(List<NotificationRequestedEvent> events, LocalDateTime sendAt) {
+		String sql = "INSERT INTO notifications (user_id, message, send_at) VALUES "
+			+ String.join(", ", Collections.nCopies(events.size(), "(?, ?, ?)"));
+		Timestamp sendAtTimestamp = Timestamp.valueOf(sendAt);
+
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql, new String[] {"id"});
+			int index = 1;
+			for (NotificationRequestedEvent event : events) {
+				statement.setLong(index++, event.userId());
+				statement.setString(index++, event.message());
+				statement.setTimestamp(index++, sendAtTimestamp);
+			}
+			return statement;
+		}, keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		if (keys.size() != events.size()) {
+			return List.of();
+		}
+		return keys.stream()
+			.map(key -> ((Number)key.values().iterator().next()).longValue())
+			.toList();
+	}
+}
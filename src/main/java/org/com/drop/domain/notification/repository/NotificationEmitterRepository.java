@@ -1,29 +1,44 @@
 package org.com.drop.domain.notification.repository;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.com.drop.global.sse.SseConnection;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 사용자별 알림 SSE 연결. 탭/기기마다 연결이 따로 등록된다.
+ */
 @Repository
 public class NotificationEmitterRepository {
-	private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+	private final Map<Long, Set<SseConnection>> emitters = new ConcurrentHashMap<>();
 
-	public Map<Long, SseEmitter> getAllEmitters() {
+	public Map<Long, Set<SseConnection>> getAllEmitters() {
 		return emitters;
 	}
 
-	public SseEmitter save(Long userId, SseEmitter emitter) {
-		emitters.put(userId, emitter);
-		return emitter;
+	public SseConnection save(Long userId, SseConnection connection) {
+		emitters.compute(userId, (key, connections) -> {
+			Set<SseConnection> target = connections != null ? connections : ConcurrentHashMap.newKeySet();
+			target.add(connection);
+			return target;
+		});
+		return connection;
 	}
 
 	public void delete(Long userId) {
 		emitters.remove(userId);
 	}
 
-	public SseEmitter get(Long userId) {
-		return emitters.get(userId);
+	public void delete(Long userId, SseConnection connection) {
+		emitters.computeIfPresent(userId, (key, connections) -> {
+			connections.remove(connection);
+			return connections.isEmpty() ? null : connections;
+		});
+	}
+
+	public Set<SseConnection> get(Long userId) {
+		return emitters.getOrDefault(userId, Set.of());
 	}
 }
@@ -1,10 +1,76 @@
 package org.com.drop.domain.notification.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.com.drop.domain.notification.dto.NotificationSummary;
 import org.com.drop.domain.notification.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 	Page<Notification> findAllByUserId(Long userId, Pageable pageable);
+
+	List<Notification> findTop50ByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id);
+
+	long countByUserId(Long userId);
+
+	long countByUserIdAndReadAtIsNull(Long userId);
+
+	/**
+	 * 알림함 첫 페이지. idx_notifications_user_send_at 인덱스를 역순으로 읽는다.
+	 */
+	@Query("""
+		SELECT new org.com.drop.domain.notification.dto.NotificationSummary(n.id, n.message, n.sendAt, n.readAt)
+		FROM Notification n
+		WHERE n.user.id = :userId
+		ORDER BY n.sendAt DESC, n.id DESC
+		""")
+	List<NotificationSummary> findInbox(@Param("userId") Long userId, Limit limit);
+
+	/**
+	 * 알림함 다음 페이지. 커서(sendAt, id) 이후의 알림만 읽는다.
+	 */
+	@Query("""
+		SELECT new org.com.drop.domain.notification.dto.NotificationSummary(n.id, n.message, n.sendAt, n.readAt)
+		FROM Notification n
+		WHERE n.user.id = :userId
+			AND (n.sendAt < :sendAt OR (n.sendAt = :sendAt AND n.id < :id))
+		ORDER BY n.sendAt DESC, n.id DESC
+		""")
+	List<NotificationSummary> findInboxAfter(
+		@Param("userId") Long userId,
+		@Param("sendAt") LocalDateTime sendAt,
+		@Param("id") Long id,
+		Limit limit);
+
+	/**
+	 * upToId 이하의 안 읽은 알림을 한 번의 UPDATE로 읽음 처리하고 바뀐 행 수를 반환한다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE Notification n
+		SET n.readAt = :readAt
+		WHERE n.user.id = :userId AND n.id <= :upToId AND n.readAt IS NULL
+		""")
+	int markAllAsReadUpTo(
+		@Param("userId") Long userId,
+		@Param("upToId") Long upToId,
+		@Param("readAt") LocalDateTime readAt);
+
+	/**
+	 * 정리 대상 후보를 id 순서로 읽는다. [id, userId, sendAt, readAt]
+	 */
+	@Query("""
+		SELECT n.id, n.user.id, n.sendAt, n.readAt
+		FROM Notification n
+		WHERE n.id > :afterId
+		ORDER BY n.id
+		""")
+	List<Object[]> findCompactionCandidates(@Param("afterId") Long afterId, Limit limit);
 }
@@ -0,0 +1,224 @@
+package org.com.drop.domain.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.dto.NotificationResponse;
+import org.com.drop.domain.notification.dto.NotificationSummary;
+import org.com.drop.domain.notification.event.NotificationRequestedEvent;
+import org.com.drop.domain.notification.inbox.NotificationInboxCache;
+import org.com.drop.domain.notification.repository.NotificationBulkRepository;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 알림 요청을 짧은 구간(windowMs) 또는 최대 개수(maxSize)만큼 모아 multi-row INSERT 한 번으로 저장하고,
+ * 저장된 알림을 SSE로 전송하고 알림함 캐시에 넣는다. 낙찰/즉시구매 트랜잭션은 큐에 넣는 시간만 부담한다.
+ * <ul>
+ *     <li>묶음 저장이 실패하면 한 건씩 다시 저장하고, 그래도 실패한 알림은 retryDelay 뒤 maxAttempts번까지 다시 시도한다.
+ *     재시도할 알림은 대기열에 따로 두었다가 시각이 되면 큐로 옮기므로, 기다리는 동안에도 다른 알림은 계속 저장한다.</li>
+ *     <li>종료 시에는 새 묶음을 기다리지 않고 큐와 재시도 대기열에 남은 알림을 모두 저장한 뒤 끝낸다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+	private static final long IDLE_POLL_MS = 100;
+	private static final long SHUTDOWN_WAIT_MS = 5_000;
+
+	private final NotificationBulkRepository notificationBulkRepository;
+	private final NotificationService notificationService;
+	private final NotificationInboxCache notificationInboxCache;
+	private final NotificationProperties notificationProperties;
+
+	private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+	// retryDelay가 일정하므로 먼저 넣은 알림부터 시각이 된다.
+	private final Queue<Pending> retries = new ConcurrentLinkedQueue<>();
+	private volatile boolean running;
+	private Thread writer;
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = Thread.ofVirtual().name("notification-batch").start(this::run);
+	}
+
+	/**
+	 * 저장 중인 묶음을 끊지 않도록 인터럽트 대신 종료 표시 후 기다리고, 큐에 남은 알림은 여기서 마저 저장한다.
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		try {
+			writer.join(SHUTDOWN_WAIT_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		List<Pending> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		remaining.addAll(retries);
+		retries.clear();
+		int maxSize = notificationProperties.batch().maxSize();
+		for (int from = 0; from < remaining.size(); from += maxSize) {
+			List<Pending> failed = write(remaining.subList(from, Math.min(from + maxSize, remaining.size())));
+			failed.forEach(pending -> log.error("[NOTIFICATION BATCH] 종료 중 알림 저장 실패 userId={}, message={}",
+				pending.event().userId(), pending.event().message()));
+		}
+	}
+
+	public void submit(NotificationRequestedEvent event) {
+		queue.add(new Pending(event, 0, 0));
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				moveDueRetries();
+				List<Pending> batch = collectBatch();
+				if (!batch.isEmpty()) {
+					retry(write(batch));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private List<Pending> collectBatch() throws InterruptedException {
+		NotificationProperties.Batch config = notificationProperties.batch();
+
+		List<Pending> batch = new ArrayList<>();
+		Pending first = queue.poll(idleWaitNanos(), TimeUnit.NANOSECONDS);
+		if (first == null) {
+			return batch;
+		}
+		batch.add(first);
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.windowMs());
+		while (batch.size() < config.maxSize()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				break;
+			}
+			Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	/**
+	 * 새 알림을 기다리는 시간. 재시도할 알림이 있으면 그 시각까지만 기다린다.
+	 */
+	private long idleWaitNanos() {
+		long idle = TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MS);
+		Pending next = retries.peek();
+		if (next == null) {
+			return idle;
+		}
+		return Math.max(0, Math.min(idle, next.notBefore() - System.nanoTime()));
+	}
+
+	private void moveDueRetries() {
+		long now = System.nanoTime();
+		Pending next;
+		while ((next = retries.peek()) != null && next.notBefore() - now <= 0) {
+			queue.add(retries.poll());
+		}
+	}
+
+	/**
+	 * 시도 횟수가 남은 알림은 retryDelay 뒤에 다시 저장하도록 재시도 대기열에 넣고, 다 쓴 알림은 버린다.
+	 */
+	private void retry(List<Pending> failed) {
+		if (failed.isEmpty()) {
+			return;
+		}
+		NotificationProperties.Batch config = notificationProperties.batch();
+		long notBefore = System.nanoTime() + config.retryDelay().toNanos();
+		for (Pending pending : failed) {
+			if (pending.attempts() + 1 >= config.maxAttempts()) {
+				log.error("[NOTIFICATION BATCH] 알림 저장 재시도 초과 userId={}, message={}",
+					pending.event().userId(), pending.event().message());
+			} else {
+				retries.add(new Pending(pending.event(), pending.attempts() + 1, notBefore));
+			}
+		}
+	}
+
+	/**
+	 * @return 저장하지 못한 알림
+	 */
+	private List<Pending> write(List<Pending> batch) {
+		LocalDateTime sendAt = LocalDateTime.now();
+		List<NotificationRequestedEvent> events = batch.stream().map(Pending::event).toList();
+		try {
+			deliver(events, notificationBulkRepository.insertAll(events, sendAt), sendAt);
+			return List.of();
+		} catch (RuntimeException e) {
+			if (batch.size() == 1) {
+				log.warn("[NOTIFICATION BATCH] 알림 저장 실패 userId={}", batch.get(0).event().userId(), e);
+				return batch;
+			}
+			log.warn("[NOTIFICATION BATCH] 묶음 저장 실패, 한 건씩 다시 저장합니다. size={}", batch.size(), e);
+		}
+
+		List<Pending> failed = new ArrayList<>();
+		for (Pending pending : batch) {
+			List<NotificationRequestedEvent> single = List.of(pending.event());
+			try {
+				deliver(single, notificationBulkRepository.insertAll(single, sendAt), sendAt);
+			} catch (RuntimeException e) {
+				log.warn("[NOTIFICATION BATCH] 알림 저장 실패 userId={}", pending.event().userId(), e);
+				failed.add(pending);
+			}
+		}
+		return failed;
+	}
+
+	private void deliver(List<NotificationRequestedEvent> events, List<Long> ids, LocalDateTime sendAt) {
+		if (ids.isEmpty()) {
+			// 생성 id를 받지 못하면 재전송 버퍼에 남길 수 없으므로 id 없이 같은 형식으로 전송만 한다.
+			log.warn("[NOTIFICATION BATCH] 생성된 알림 id를 받지 못했습니다. size={}", events.size());
+			events.forEach(event -> {
+				notificationInboxCache.evict(event.userId());
+				notificationService.sendTo(event.userId(),
+					new NotificationResponse(null, event.userId(), event.message(), sendAt, null));
+			});
+			return;
+		}
+		for (int i = 0; i < events.size(); i++) {
+			NotificationRequestedEvent event = events.get(i);
+			notificationInboxCache.add(event.userId(),
+				new NotificationSummary(ids.get(i), event.message(), sendAt, false));
+			notificationService.deliver(
+				new NotificationResponse(ids.get(i), event.userId(), event.message(), sendAt, null));
+		}
+	}
+
+	/**
+	 * @param notBefore 다시 저장할 수 있는 시각(System.nanoTime 기준). 처음 들어온 알림은 0이다.
+	 */
+	private record Pending(
+		NotificationRequestedEvent event,
+		int attempts,
+		long notBefore
+	) {
+	}
+}
@@ -0,0 +1,61 @@
+package org.com.drop.domain.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.com.drop.domain.notification.event.NotificationDeletedEvent;
+import org.com.drop.domain.notification.repository.NotificationRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 읽은 알림을 id 순서로 조금씩 삭제한다. 한 번에 size개만 PK 범위로 읽고 지우므로 트랜잭션과 행 잠금이 짧다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCompactor {
+
+	private final NotificationRepository notificationRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * afterId 다음부터 size개의 알림 중 sendAt이 cutoff 이전인 읽은 알림을 삭제하고 마지막으로 확인한 알림 ID를 반환한다.
+	 * 알림 id는 보낸 순서대로 커지므로 cutoff 이후에 보낸 알림을 만나면 더 볼 필요가 없어 null을 반환한다.
+	 */
+	@Transactional
+	public Long compactChunk(Long afterId, LocalDateTime cutoff, int size) {
+		List<Object[]> candidates = notificationRepository.findCompactionCandidates(afterId, Limit.of(size));
+		if (candidates.isEmpty()) {
+			return null;
+		}
+
+		List<Long> ids = new ArrayList<>();
+		Long lastId = afterId;
+		boolean reachedCutoff = false;
+		for (Object[] row : candidates) {
+			LocalDateTime sendAt = (LocalDateTime) row[2];
+			if (!sendAt.isBefore(cutoff)) {
+				reachedCutoff = true;
+				break;
+			}
+			lastId = (Long) row[0];
+			if (row[3] != null) {
+				ids.add(lastId);
+				eventPublisher.publishEvent(new NotificationDeletedEvent((Long) row[1], lastId, false));
+			}
+		}
+
+		if (!ids.isEmpty()) {
+			notificationRepository.deleteAllByIdInBatch(ids);
+			log.info("[NOTIFICATION COMPACTION] 읽은 알림 삭제 count={}, range=({}, {}]", ids.size(), afterId, lastId);
+		}
+		return reachedCutoff ? null : lastId;
+	}
+}
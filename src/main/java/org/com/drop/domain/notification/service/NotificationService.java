@@ -1,63 +1,183 @@
 package org.com.drop.domain.notification.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.dto.NotificationInboxResponse;
 import org.com.drop.domain.notification.dto.NotificationResponse;
+import org.com.drop.domain.notification.dto.NotificationSummary;
 import org.com.drop.domain.notification.entity.Notification;
+import org.com.drop.domain.notification.event.NotificationDeletedEvent;
+import org.com.drop.domain.notification.event.NotificationReadAllEvent;
+import org.com.drop.domain.notification.event.NotificationReadEvent;
+import org.com.drop.domain.notification.event.NotificationRequestedEvent;
+import org.com.drop.domain.notification.inbox.NotificationInbox;
+import org.com.drop.domain.notification.inbox.NotificationInboxCache;
+import org.com.drop.domain.notification.replay.NotificationEvent;
+import org.com.drop.domain.notification.replay.NotificationReplayStore;
 import org.com.drop.domain.notification.repository.NotificationEmitterRepository;
 import org.com.drop.domain.notification.repository.NotificationRepository;
 import org.com.drop.domain.user.entity.User;
 import org.com.drop.global.exception.ErrorCode;
 import org.com.drop.global.exception.ServiceException;
+import org.com.drop.global.sse.ReactiveSseHub;
+import org.com.drop.global.sse.SseConnection;
+import org.com.drop.global.sse.SseFrame;
+import org.com.drop.global.sse.SseWriterPool;
+import org.com.drop.global.util.CursorPaginationUtil;
+import org.com.drop.global.util.CursorPaginationUtil.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
 	private static final Long TIMEOUT = 0L;
+	// 사용자별 태그는 메트릭 카디널리티가 너무 커지므로 알림 연결은 하나의 key로 묶는다.
+	private static final String STREAM = "notification";
+	private static final String STREAM_KEY = "all";
+	private static final int DEFAULT_INBOX_SIZE = 20;
+	private static final int MAX_INBOX_SIZE = 50;
 	private final NotificationEmitterRepository notificationEmitterRepository;
 	private final NotificationRepository notificationRepository;
+	private final SseWriterPool sseWriterPool;
+	private final ReactiveSseHub reactiveSseHub;
+	private final NotificationReplayStore notificationReplayStore;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+	private final NotificationInboxCache notificationInboxCache;
+	private final NotificationProperties notificationProperties;
 
 	public SseEmitter subscribe(Long userId) {
-		SseEmitter emitter = new SseEmitter(TIMEOUT);
+		return subscribe(userId, null);
+	}
 
-		notificationEmitterRepository.save(userId, emitter);
+	/**
+	 * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID. 그 이후의 알림을 먼저 다시 보낸다.
+	 */
+	public SseEmitter subscribe(Long userId, Long lastEventId) {
+		SseEmitter emitter = new SseEmitter(TIMEOUT);
 
-		emitter.onCompletion(() -> notificationEmitterRepository.delete(userId));
-		emitter.onTimeout(() -> notificationEmitterRepository.delete(userId));
-		emitter.onError((e) -> notificationEmitterRepository.delete(userId));
+		SseConnection connection = sseWriterPool.open(emitter, STREAM, STREAM_KEY,
+			closed -> notificationEmitterRepository.delete(userId, closed));
+		notificationEmitterRepository.save(userId, connection);
 
-		sendTo(userId, "CONNECTED");
+		sseWriterPool.send(connection, notificationFrame("CONNECTED"));
+		if (lastEventId != null) {
+			for (NotificationEvent event : missedEvents(userId, lastEventId)) {
+				sseWriterPool.send(connection, eventFrame(event));
+			}
+		}
 
 		return emitter;
 	}
 
+	public Flux<ServerSentEvent<Object>> stream(Long userId, Long lastEventId) {
+		ServerSentEvent<Object> connected = ServerSentEvent.builder().event("notification").data("CONNECTED").build();
+		Flux<ServerSentEvent<Object>> missed = lastEventId == null
+			? Flux.empty()
+			: Flux.defer(() -> Flux.fromIterable(missedEvents(userId, lastEventId))).map(NotificationService::toSse);
+		return Flux.concat(Flux.just(connected), missed, reactiveSseHub.stream(topic(userId), false));
+	}
+
+	/**
+	 * id 없는 일회성 메시지를 사용자의 모든 연결로 보낸다. (재전송 버퍼에 남지 않음)
+	 */
 	public void sendTo(Long userId, Object data) {
-		SseEmitter emitter = notificationEmitterRepository.get(userId);
-
-		if (emitter != null) {
-			try {
-				emitter.send(SseEmitter.event()
-					.name("notification")
-					.data(data)
-				);
-			} catch (Exception e) {
-				notificationEmitterRepository.delete(userId);
-			}
+		reactiveSseHub.emit(topic(userId), ServerSentEvent.builder().event("notification").data(data).build());
+
+		SseFrame frame = notificationFrame(data);
+		for (SseConnection connection : notificationEmitterRepository.get(userId)) {
+			sseWriterPool.send(connection, frame);
 		}
 	}
 
-	@Transactional
+	/**
+	 * 알림을 재전송 버퍼에 남기고, 알림 id를 SSE 이벤트 id로 붙여 사용자의 모든 연결로 보낸다.
+	 */
+	public void publish(Long userId, NotificationEvent event) {
+		notificationReplayStore.append(userId, event);
+		reactiveSseHub.emit(topic(userId), toSse(event));
+
+		SseFrame frame = eventFrame(event);
+		for (SseConnection connection : notificationEmitterRepository.get(userId)) {
+			sseWriterPool.send(connection, frame);
+		}
+	}
+
+	/**
+	 * 알림 요청만 발행한다. 저장과 전송은 현재 트랜잭션이 커밋된 뒤 {@link NotificationBatchWriter}가 묶어서 처리한다.
+	 */
 	public void addNotification(User actor, String msg) {
-		Notification notification = new Notification(actor, msg);
-		notificationRepository.save(notification);
-		NotificationResponse response = new NotificationResponse(notification);
-		sendTo(actor.getId(), response);
+		addNotification(actor.getId(), msg);
+	}
+
+	public void addNotification(Long userId, String msg) {
+		eventPublisher.publishEvent(new NotificationRequestedEvent(userId, msg));
+	}
+
+	/**
+	 * 저장된 알림을 전송한다.
+	 */
+	public void deliver(NotificationResponse response) {
+		publish(response.userId(), toEvent(response));
+	}
+
+	private List<NotificationEvent> missedEvents(Long userId, long lastEventId) {
+		return notificationReplayStore.since(userId, lastEventId)
+			.orElseGet(() -> notificationRepository
+				.findTop50ByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastEventId).stream()
+				.map(notification -> toEvent(new NotificationResponse(notification)))
+				.toList());
+	}
+
+	private NotificationEvent toEvent(NotificationResponse response) {
+		try {
+			return new NotificationEvent(response.id(), objectMapper.writeValueAsString(response));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("알림 직렬화 실패: notificationId=" + response.id(), e);
+		}
+	}
+
+	private static SseFrame notificationFrame(Object data) {
+		return SseFrame.of(SseEmitter.event()
+			.name("notification")
+			.data(data)
+		);
+	}
+
+	private static SseFrame eventFrame(NotificationEvent event) {
+		return SseFrame.of(SseEmitter.event()
+			.id(String.valueOf(event.id()))
+			.name("notification")
+			.data(event.data())
+		);
+	}
+
+	private static ServerSentEvent<Object> toSse(NotificationEvent event) {
+		return ServerSentEvent.builder()
+			.id(String.valueOf(event.id()))
+			.event("notification")
+			.data(event.data())
+			.build();
+	}
+
+	private static String topic(Long userId) {
+		return "user:" + userId;
 	}
 
 	public Notification findById( User  actor, Long notificationId) {
@@ -73,16 +193,83 @@ public class NotificationService {
 		return notificationRepository.findAllByUserId(actor.getId(), pageable);
 	}
 
+	/**
+	 * 알림함을 sendAt, id 내림차순 커서로 조회한다. 첫 페이지와 안 읽은 알림 수는 알림함 캐시에서 바로 응답한다.
+	 */
+	public NotificationInboxResponse getInbox(User actor, String cursor, Integer size) {
+		Long userId = actor.getId();
+		int pageSize = (size != null && size >= 1 && size <= MAX_INBOX_SIZE) ? size : DEFAULT_INBOX_SIZE;
+		NotificationInbox inbox = getCachedInbox(userId, pageSize);
+
+		Cursor decoded = CursorPaginationUtil.decodeCursor(cursor);
+		boolean firstPage = decoded == null || !decoded.isTimestampCursor();
+		List<NotificationSummary> items;
+		boolean hasNext;
+		if (firstPage && pageSize <= notificationProperties.inbox().capacity()) {
+			// 캐시는 전체 알림 수를 알고 있으므로 한 건 더 읽지 않아도 다음 페이지 여부를 알 수 있다.
+			items = inbox.recent().subList(0, Math.min(inbox.recent().size(), pageSize));
+			hasNext = inbox.totalCount() > items.size();
+		} else {
+			List<NotificationSummary> rows = firstPage
+				? notificationRepository.findInbox(userId, Limit.of(pageSize + 1))
+				: notificationRepository.findInboxAfter(
+					userId, decoded.timestamp(), decoded.id(), Limit.of(pageSize + 1));
+			items = rows.subList(0, Math.min(rows.size(), pageSize));
+			hasNext = rows.size() > pageSize;
+		}
+
+		NotificationSummary last = items.isEmpty() ? null : items.getLast();
+		String nextCursor = hasNext && last != null
+			? CursorPaginationUtil.encodeCursor(last.sendAt(), last.id())
+			: null;
+		return new NotificationInboxResponse(inbox.unreadCount(), items, nextCursor, hasNext);
+	}
+
+	private NotificationInbox getCachedInbox(Long userId, int pageSize) {
+		int capacity = notificationProperties.inbox().capacity();
+		return notificationInboxCache.get(userId)
+			.filter(inbox -> inbox.covers(Math.min(pageSize, capacity)))
+			.orElseGet(() -> {
+				notificationInboxCache.evict(userId);
+				long fill = notificationInboxCache.beginFill(userId);
+				NotificationInbox loaded = new NotificationInbox(
+					notificationRepository.countByUserIdAndReadAtIsNull(userId),
+					notificationRepository.countByUserId(userId),
+					notificationRepository.findInbox(userId, Limit.of(capacity)));
+				notificationInboxCache.putIfAbsent(userId, loaded, fill);
+				return loaded;
+			});
+	}
+
 	@Transactional
 	public void deleteNotificationById(User  actor, Long notificationId) {
 		Notification notification = findById(actor, notificationId);
 		notificationRepository.delete(notification);
+		eventPublisher.publishEvent(
+			new NotificationDeletedEvent(actor.getId(), notificationId, notification.getReadAt() == null));
 	}
 
 	@Transactional
 	public Notification read(User actor, Long notificationId) {
 		Notification notification = findById(actor, notificationId);
-		notification.markAsRead();
+		if (notification.getReadAt() == null) {
+			notification.markAsRead();
+			eventPublisher.publishEvent(new NotificationReadEvent(actor.getId(), notificationId));
+		}
 		return notification;
 	}
+
+	/**
+	 * upToId 이하의 안 읽은 알림을 한 번의 UPDATE로 모두 읽음 처리한다.
+	 *
+	 * @return 읽음으로 바뀐 알림 수
+	 */
+	@Transactional
+	public int readAll(User actor, Long upToId) {
+		int readCount = notificationRepository.markAllAsReadUpTo(actor.getId(), upToId, LocalDateTime.now());
+		if (readCount > 0) {
+			eventPublisher.publishEvent(new NotificationReadAllEvent(actor.getId(), upToId, readCount));
+		}
+		return readCount;
+	}
 }
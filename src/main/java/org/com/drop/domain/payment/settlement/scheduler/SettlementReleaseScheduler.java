@@ -1,6 +1,9 @@
 package org.com.drop.domain.payment.settlement.scheduler;
 
+import java.time.Duration;
+
 import org.com.drop.domain.payment.settlement.service.SettlementReleaseService;
+import org.com.drop.global.lease.SchedulerLease;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -12,10 +15,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SettlementReleaseScheduler {
 
+	private static final String JOB = "settlement-release";
+	private static final Duration LEASE_TTL = Duration.ofHours(1);
+
 	private final SettlementReleaseService settlementReleaseService;
+	private final SchedulerLease schedulerLease;
 
 	@Scheduled(cron = "0 0 3 * * *")
 	public void release() {
+		if (!schedulerLease.tryAcquire(JOB, LEASE_TTL)) {
+			return;
+		}
 		log.info("[SETTLEMENT SCHEDULER] start auto release");
 		settlementReleaseService.releaseAutomatically();
 	}
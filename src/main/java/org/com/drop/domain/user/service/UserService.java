@@ -25,6 +25,7 @@ import org.com.drop.domain.user.repository.UserRepository;
 import org.com.drop.domain.winner.domain.Winner;
 import org.com.drop.domain.winner.repository.WinnerRepository;
 import org.com.drop.global.aws.AmazonS3Client;
+import org.com.drop.global.aws.ImageUrlResolver;
 import org.com.drop.global.exception.ErrorCode;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
@@ -51,6 +52,7 @@ public class UserService implements UserDetailsService {
 	private final BidRepository bidRepository;
 	private final WinnerRepository winnerRepository;
 	private final AmazonS3Client amazonS3Client;
+	private final ImageUrlResolver imageUrlResolver;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -79,7 +81,7 @@ public class UserService implements UserDetailsService {
 		String profileImageUrl = null;
 
 		if (user.getUserProfile() != null && !user.getUserProfile().isBlank()) {
-			profileImageUrl = amazonS3Client.getPresignedUrl(user.getUserProfile());
+			profileImageUrl = imageUrlResolver.resolve(user.getUserProfile());
 		}
 
 		return MyPageResponse.of(user, profileImageUrl);
@@ -124,7 +126,7 @@ public class UserService implements UserDetailsService {
 
 		String imageUrl = null;
 		if (newImageKey != null && !newImageKey.isBlank()) {
-			imageUrl = amazonS3Client.getPresignedUrl(newImageKey);
+			imageUrl = imageUrlResolver.resolve(newImageKey);
 		}
 
 		return UpdateProfileResponse.of(user, imageUrl);
@@ -136,7 +138,7 @@ public class UserService implements UserDetailsService {
 		return productImageRepository.findAllByProductIdIn(productIds).stream()
 			.collect(Collectors.toMap(
 				img -> img.getProduct().getId(),
-				img -> amazonS3Client.getPresignedUrl(img.getImageUrl()),
+				img -> imageUrlResolver.resolve(img.getImageUrl()),
 				(existing, replacement) -> existing
 			));
 	}
@@ -262,7 +264,7 @@ public class UserService implements UserDetailsService {
 		return productImageRepository.findAllByProductIdIn(productIds).stream()
 			.collect(Collectors.toMap(
 				img -> img.getProduct().getId(),
-				img -> amazonS3Client.getPresignedUrl(img.getImageUrl()),
+				img -> imageUrlResolver.resolve(img.getImageUrl()),
 				(existing, replacement) -> existing
 			));
 	}
@@ -0,0 +1,40 @@
+package org.com.drop.domain.winner.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+import org.com.drop.domain.winner.domain.Winner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class WinnerBulkRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 낙찰자 여러 건을 multi-row INSERT 한 번으로 저장한다. 생성된 id는 auction_id로 다시 읽는다.
+	 */
+	public void insertAll(List<Winner> winners) {
+		String sql = "INSERT INTO winners (auction_id, seller_id, user_id, final_price, win_time) VALUES "
+			+ String.join(", ", Collections.nCopies(winners.size(), "(?, ?, ?, ?, ?)"));
+
+		jdbcTemplate.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql);
+			int index = 1;
+			for (Winner winner : winners) {
+				statement.setLong(index++, winner.getAuction().getId());
+				statement.setLong(index++, winner.getSellerId());
+				statement.setLong(index++, winner.getUserId());
+				statement.setLong(index++, winner.getFinalPrice());
+				statement.setTimestamp(index++, Timestamp.valueOf(winner.getWinTime()));
+			}
+			return statement;
+		});
+	}
+}
@@ -7,6 +7,7 @@ import org.com.drop.domain.auction.auction.entity.Auction;
 import org.com.drop.domain.winner.domain.Winner;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WinnerRepository extends JpaRepository<Winner, Long> {
 
@@ -18,4 +19,7 @@ public interface WinnerRepository extends JpaRepository<Winner, Long> {
 	List<Winner> findAllByAuction_Id(Long auctionId);
 
 	List<Winner> findByAuctionIn(List<Auction> auctions);
+
+	@Query("SELECT w.auction.id, w.id FROM Winner w WHERE w.auction.id IN :auctionIds")
+	List<Object[]> findIdsByAuctionIdIn(@Param("auctionIds") List<Long> auctionIds);
 }
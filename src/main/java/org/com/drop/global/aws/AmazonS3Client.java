@@ -2,7 +2,10 @@ package org.com.drop.global.aws;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.apache.tika.Tika;
@@ -24,6 +27,7 @@ import software.amazon.awssdk.services.s3.model.Tag;
 import software.amazon.awssdk.services.s3.model.Tagging;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Service
@@ -34,6 +38,7 @@ public class AmazonS3Client {
 	@Value("${spring.cloud.aws.s3.bucket}")
 	private String bucket;
 	private final S3Client s3Client;
+	private final PresignedUrlCache presignedUrlCache;
 	private final Tika tika = new Tika();
 
 	public List<String> createPresignedUrls(PreSignedUrlListRequest requests, User actor, ImageType imageType) {
@@ -123,6 +128,28 @@ public class AmazonS3Client {
 	}
 
 	public String getPresignedUrl(String key) {
+		String cached = presignedUrlCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		return presignGetObject(key);
+	}
+
+	/**
+	 * 여러 key의 Presigned URL을 한 번에 만든다 (key → URL).
+	 * 중복 key는 한 번만 서명하고, 캐시에 남아 있는 URL은 다시 서명하지 않는다.
+	 */
+	public Map<String, String> getPresignedUrls(Collection<String> keys) {
+		Map<String, String> urls = new HashMap<>();
+		for (String key : keys) {
+			if (key != null && !urls.containsKey(key)) {
+				urls.put(key, getPresignedUrl(key));
+			}
+		}
+		return urls;
+	}
+
+	private String presignGetObject(String key) {
 		GetObjectRequest objectRequest = GetObjectRequest.builder()
 			.bucket(bucket)
 			.key(key)
@@ -133,6 +160,9 @@ public class AmazonS3Client {
 			.getObjectRequest(objectRequest)
 			.build();
 
-		return s3Presigner.presignGetObject(presignRequest).url().toString();
+		PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest);
+		String url = presigned.url().toString();
+		presignedUrlCache.put(key, url, presigned.expiration());
+		return url;
 	}
 }
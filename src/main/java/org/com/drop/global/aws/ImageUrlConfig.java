@@ -0,0 +1,9 @@
+package org.com.drop.global.aws;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ImageUrlProperties.class)
+public class ImageUrlConfig {
+}
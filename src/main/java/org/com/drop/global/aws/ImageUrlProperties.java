@@ -0,0 +1,26 @@
+package org.com.drop.global.aws;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drop.image")
+public record ImageUrlProperties(
+	@DefaultValue CloudFront cloudfront
+) {
+
+	/**
+	 * CloudFront 서명 URL 설정 (url-mode: cloudfront 일 때만 사용)
+	 *
+	 * @param domain 배포 도메인 (예: dxxxx.cloudfront.net)
+	 * @param keyPairId CloudFront 공개 키 ID
+	 * @param privateKey 서명용 RSA 개인 키 (PKCS#8 PEM)
+	 * @param bucketDays 만료 시각을 맞추는 버킷 크기(일). 같은 버킷 안에서는 같은 key에 같은 URL이 나온다.
+	 */
+	public record CloudFront(
+		String domain,
+		String keyPairId,
+		String privateKey,
+		@DefaultValue("1") int bucketDays
+	) {
+	}
+}
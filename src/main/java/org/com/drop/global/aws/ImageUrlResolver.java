@@ -0,0 +1,18 @@
+package org.com.drop.global.aws;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * S3 객체 key를 클라이언트가 내려받을 수 있는 이미지 URL로 바꾼다.
+ * drop.image.url-mode 로 방식을 고른다. (presigned: S3 Presigned URL, cloudfront: CloudFront 서명 URL)
+ */
+public interface ImageUrlResolver {
+
+	String resolve(String key);
+
+	/**
+	 * 여러 key를 한 번에 변환한다 (key → URL). 중복 key는 한 번만 처리한다.
+	 */
+	Map<String, String> resolveAll(Collection<String> keys);
+}
@@ -0,0 +1,30 @@
+package org.com.drop.global.aws;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * S3 GET Presigned URL (10분 만료) 방식. 요청 시점마다 URL이 달라질 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "drop.image", name = "url-mode", havingValue = "presigned", matchIfMissing = true)
+public class PresignedImageUrlResolver implements ImageUrlResolver {
+
+	private final AmazonS3Client amazonS3Client;
+
+	@Override
+	public String resolve(String key) {
+		return amazonS3Client.getPresignedUrl(key);
+	}
+
+	@Override
+	public Map<String, String> resolveAll(Collection<String> keys) {
+		return amazonS3Client.getPresignedUrls(keys);
+	}
+}
@@ -0,0 +1,59 @@
+package org.com.drop.global.aws;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 객체 key별 GET Presigned URL 캐시.
+ * 만료 시각에서 안전 여유(SAFETY_MARGIN)를 뺀 시점까지만 재사용해, 응답으로 나간 URL이 클라이언트에서 쓰이기 전에 만료되지 않게 한다.
+ */
+@Component
+public class PresignedUrlCache {
+
+	private static final Duration SAFETY_MARGIN = Duration.ofMinutes(2);
+	private static final int MAX_ENTRIES = 100_000;
+
+	private final Map<String, CachedUrl> urls = new ConcurrentHashMap<>();
+
+	public String get(String key) {
+		CachedUrl cached = urls.get(key);
+		if (cached == null) {
+			return null;
+		}
+		if (!cached.reusableAt(Instant.now())) {
+			urls.remove(key, cached);
+			return null;
+		}
+		return cached.url();
+	}
+
+	public void put(String key, String url, Instant expiresAt) {
+		if (urls.size() >= MAX_ENTRIES) {
+			evictExpired();
+			if (urls.size() >= MAX_ENTRIES) {
+				return;
+			}
+		}
+		urls.put(key, new CachedUrl(url, expiresAt.minus(SAFETY_MARGIN)));
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		Instant now = Instant.now();
+		urls.values().removeIf(cached -> !cached.reusableAt(now));
+	}
+
+	private record CachedUrl(
+		String url,
+		Instant reusableUntil
+	) {
+		boolean reusableAt(Instant now) {
+			return now.isBefore(reusableUntil);
+		}
+	}
+}
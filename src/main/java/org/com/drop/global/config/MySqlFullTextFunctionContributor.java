@@ -0,0 +1,23 @@
+package org.com.drop.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수를 HQL/QueryDSL에서 쓸 수 있도록 등록한다.
+ * function('match_against', 컬럼1, 컬럼2, 검색식) → MATCH(컬럼1, 컬럼2) AGAINST(검색식 IN BOOLEAN MODE)
+ */
+public class MySqlFullTextFunctionContributor implements FunctionContributor {
+
+	public static final String MATCH_AGAINST = "match_against";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		functionContributions.getFunctionRegistry().registerPattern(
+			MATCH_AGAINST,
+			"match(?1, ?2) against(?3 in boolean mode)",
+			functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+		);
+	}
+}
@@ -123,6 +123,8 @@ public enum ErrorCode {
 	AUCTION_INVALID_CURSOR("1608", HttpStatus.BAD_REQUEST, "커서 형식이 올바르지 않습니다."),
 	AUCTION_INVALID_SEARCH_KEYWORD("1609", HttpStatus.BAD_REQUEST, "검색어는 2자 이상 20자 이하로 입력해주세요"),
 	AUCTION_DETAIL_NOT_FOUND("1610", HttpStatus.NOT_FOUND, "해당 경매를 찾을 수 없습니다."),
+	AUCTION_BID_CONFLICT("1611", HttpStatus.CONFLICT, "동시에 들어온 입찰과 충돌했습니다. 잠시 후 다시 시도해주세요."),
+	AUCTION_INVALID_SOFT_CLOSE("1612", HttpStatus.BAD_REQUEST, "마감 연장 구간과 연장 시간은 함께 입력해야 합니다."),
 
 	//notification
 	NOTIFICATION_NOT_FOUND("1708", HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다."),
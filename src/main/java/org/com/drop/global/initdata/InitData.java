@@ -13,7 +13,8 @@ import org.com.drop.domain.auction.product.qna.dto.ProductQnACreateRequest;
 import org.com.drop.domain.auction.product.qna.service.QnAService;
 import org.com.drop.domain.auction.product.repository.ProductImageRepository;
 import org.com.drop.domain.auction.product.repository.ProductRepository;
-import org.com.drop.domain.notification.service.NotificationService;
+import org.com.drop.domain.notification.entity.Notification;
+import org.com.drop.domain.notification.repository.NotificationRepository;
 import org.com.drop.domain.payment.method.service.PaymentMethodService;
 import org.com.drop.domain.user.entity.User;
 import org.com.drop.domain.user.repository.UserRepository;
@@ -38,7 +39,7 @@ public class InitData {
 	private final AuctionService auctionService;
 	private final QnAService qnAService;
 	private final GuideRepository  guideRepository;
-	private final NotificationService notificationService;
+	private final NotificationRepository notificationRepository;
 	private final PaymentMethodService paymentMethodService;
 	@Autowired
 	@Lazy
@@ -87,6 +88,7 @@ public class InitData {
 			Product.Category.STARGOODS,
 			Product.SubCategory.ACC
 		);
+		product1.updateThumbnail(image);
 		productRepository.save(product1);
 		productImageRepository.save(
 			new ProductImage(product1, image)
@@ -99,6 +101,7 @@ public class InitData {
 			Product.Category.STARGOODS,
 			Product.SubCategory.ACC
 		);
+		product2.updateThumbnail(image);
 		productRepository.save(product2);
 		ProductImage productImage2 = new ProductImage(product2, image);
 		productImageRepository.save(
@@ -111,7 +114,9 @@ public class InitData {
 			100000,
 			10,
 			LocalDateTime.now().minusMinutes(5),
-			LocalDateTime.now().plusMinutes(10)
+			LocalDateTime.now().plusMinutes(10),
+			null,
+			null
 		);
 		auctionService.addAuction(auctionCreateRequest1, user1);
 
@@ -121,7 +126,9 @@ public class InitData {
 			100000,
 			10,
 			LocalDateTime.now().plusDays(5),
-			LocalDateTime.now().plusDays(10)
+			LocalDateTime.now().plusDays(10),
+			null,
+			null
 		);
 		auctionService.addAuction(auctionCreateRequest2, user1);
 		qnAService.addQuestion(1L, new ProductQnACreateRequest("질문1"), user1);
@@ -129,7 +136,7 @@ public class InitData {
 		qnAService.addAnswer(1L, 1L, new ProductQnAAnswerRequest("답변2"), user1);
 		guideRepository.save(new Guide("안내사항1"));
 		guideRepository.save(new Guide("안내사항2"));
-		notificationService.addNotification(user1, "테스트 알림1");
-		notificationService.addNotification(user1, "테스트 알림2");
+		notificationRepository.save(new Notification(user1, "테스트 알림1"));
+		notificationRepository.save(new Notification(user1, "테스트 알림2"));
 	}
 }
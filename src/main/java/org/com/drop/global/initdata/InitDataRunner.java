@@ -16,7 +16,8 @@ import org.com.drop.domain.auction.product.service.ProductService;
 import org.com.drop.domain.auth.dto.LocalSignUpRequest;
 import org.com.drop.domain.auth.service.AuthService;
 import org.com.drop.domain.auth.store.VerificationCodeStore;
-import org.com.drop.domain.notification.service.NotificationService;
+import org.com.drop.domain.notification.entity.Notification;
+import org.com.drop.domain.notification.repository.NotificationRepository;
 import org.com.drop.domain.user.entity.User;
 import org.com.drop.domain.user.repository.UserRepository;
 import org.springframework.boot.ApplicationArguments;
@@ -39,7 +40,7 @@ public class InitDataRunner implements ApplicationRunner {
 	private final AuctionService auctionService;
 	private final QnAService qnAService;
 	private final GuideRepository  guideRepository;
-	private final NotificationService notificationService;
+	private final NotificationRepository notificationRepository;
 
 	@Override
 	@Transactional
@@ -101,7 +102,9 @@ public class InitDataRunner implements ApplicationRunner {
 			100000,
 			10,
 			LocalDateTime.now().plusSeconds(5),
-			LocalDateTime.now().plusSeconds(10)
+			LocalDateTime.now().plusSeconds(10),
+			null,
+			null
 		);
 		auctionService.addAuction(auctionCreateRequest1, user1);
 
@@ -111,7 +114,9 @@ public class InitDataRunner implements ApplicationRunner {
 			100000,
 			10,
 			LocalDateTime.now().plusDays(5),
-			LocalDateTime.now().plusDays(10)
+			LocalDateTime.now().plusDays(10),
+			null,
+			null
 		);
 		auctionService.addAuction(auctionCreateRequest2, user1);
 
@@ -125,11 +130,11 @@ public class InitDataRunner implements ApplicationRunner {
 		guideRepository.save(new Guide("안내사항2"));
 
 		//알림 생성
-		notificationService.addNotification(user1, "user1 테스트 알림1");
-		notificationService.addNotification(user1, "user1 테스트 알림2");
-		notificationService.addNotification(user2, "user2 테스트 알림1");
-		notificationService.addNotification(user2, "user2 테스트 알림2");
-		notificationService.addNotification(testUser, "testUser 테스트 알림1");
-		notificationService.addNotification(testUser, "testUser 테스트 알림2");
+		notificationRepository.save(new Notification(user1, "user1 테스트 알림1"));
+		notificationRepository.save(new Notification(user1, "user1 테스트 알림2"));
+		notificationRepository.save(new Notification(user2, "user2 테스트 알림1"));
+		notificationRepository.save(new Notification(user2, "user2 테스트 알림2"));
+		notificationRepository.save(new Notification(testUser, "testUser 테스트 알림1"));
+		notificationRepository.save(new Notification(testUser, "testUser 테스트 알림2"));
 	}
 }
@@ -0,0 +1,32 @@
+package org.com.drop.global.initdata;
+
+import org.com.drop.domain.auction.product.repository.ProductRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * thumbnailKey 컬럼 도입 이전에 등록된 상품의 대표 이미지 key를 채운다. 이미 채워진 상품은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test")
+public class ProductThumbnailBackfillRunner implements ApplicationRunner {
+
+	private final ProductRepository productRepository;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		int updated = productRepository.backfillThumbnailKeys();
+		if (updated > 0) {
+			log.info("[PRODUCT] 대표 이미지 key 채움 count={}", updated);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package org.com.drop.global.lease;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스가 하나일 때 (로컬, 테스트) 쓴다. 나눌 상대가 없으므로 항상 임대를 준다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "drop.scheduler.lease", name = "store", havingValue = "local", matchIfMissing = true)
+public class LocalSchedulerLease implements SchedulerLease {
+
+	@Override
+	public boolean tryAcquire(String job, Duration ttl) {
+		return true;
+	}
+}
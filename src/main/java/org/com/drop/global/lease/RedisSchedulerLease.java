@@ -0,0 +1,57 @@
+package org.com.drop.global.lease;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작업별 Redis 키(scheduler:lease:{job})에 임대를 가진 인스턴스 id를 ttl과 함께 저장한다.
+ * 인스턴스 id는 기동할 때마다 새로 만든다.
+ * Redis 장애로 임대를 확인하지 못하면 임대를 얻지 못한 것으로 보고, 복구된 뒤의 실행에서 다시 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "drop.scheduler.lease", name = "store", havingValue = "redis")
+public class RedisSchedulerLease implements SchedulerLease {
+
+	private static final String KEY_PREFIX = "scheduler:lease:";
+
+	// ARGV: owner, ttlMillis. 내 임대면 연장, 비어 있으면 획득, 다른 인스턴스의 임대면 0
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+		local owner = redis.call('GET', KEYS[1])
+		if owner == ARGV[1] then
+			redis.call('PEXPIRE', KEYS[1], ARGV[2])
+			return 1
+		end
+		if owner then
+			return 0
+		end
+		redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final String owner = UUID.randomUUID().toString();
+
+	@Override
+	public boolean tryAcquire(String job, Duration ttl) {
+		try {
+			Long acquired = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + job),
+				owner, String.valueOf(ttl.toMillis()));
+			return acquired != null && acquired == 1L;
+		} catch (RuntimeException e) {
+			// 임대를 확인할 수 없으면 다른 인스턴스가 같은 작업을 실행 중일 수 있으므로 이번 실행은 건너뛴다.
+			log.warn("스케줄러 임대 확인 실패, 이번 실행을 건너뜁니다: job={}", job, e);
+			return false;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package org.com.drop.global.lease;
+
+import java.time.Duration;
+
+/**
+ * 여러 인스턴스가 같은 주기 작업을 동시에 실행하지 않도록 작업별 임대(lease)를 나눠 준다.
+ * 임대를 가진 인스턴스는 다음 실행에서 다시 연장하므로 계속 그 작업을 맡고,
+ * 그 인스턴스가 내려가면 ttl이 지난 뒤 처음 실행한 다른 인스턴스가 넘겨받는다.
+ */
+public interface SchedulerLease {
+
+	/**
+	 * 작업 임대를 얻거나 이미 가진 임대를 ttl만큼 연장한다.
+	 *
+	 * @param job 작업 이름
+	 * @param ttl 임대 유지 시간. 작업 주기와 실행 시간보다 길게 잡는다.
+	 * @return 이 인스턴스가 작업을 실행해야 하면 true
+	 */
+	boolean tryAcquire(String job, Duration ttl);
+}
@@ -0,0 +1,96 @@
+package org.com.drop.global.sse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Reactor 기반 SSE 스트림 허브.
+ * 토픽(auction:{id}, user:{id})마다 {@link Sinks.Many} 하나를 모든 구독자가 공유하고,
+ * 구독자는 연결별 스레드나 송신 큐 없이 Flux 구독 상태(메모리)만 차지한다.
+ * 하트비트도 전체 연결이 하나의 interval을 공유한다.
+ * MVC는 SSE Flux 응답에 비동기 요청 타임아웃을 걸지 않으므로, 연결 수명(STREAM_TIMEOUT)은 여기서 스트림을 끝내는 것으로 제한한다.
+ * 끝난 뒤에는 SseEmitter 스트림과 같이 클라이언트가 다시 연결한다.
+ */
+@Component
+public class ReactiveSseHub {
+
+	private static final Duration STREAM_TIMEOUT = Duration.ofHours(1);
+	private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+	private static final Duration EMIT_RETRY = Duration.ofMillis(50);
+	private static final int BUFFER_SIZE = 64;
+
+	private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+	private final Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+		.onBackpressureDrop()
+		.map(tick -> ServerSentEvent.builder().comment("heartbeat").build())
+		.share();
+
+	/**
+	 * @param latestOnly true면 느린 구독자에게는 가장 최근 이벤트만 전달한다 (최고가 등).
+	 *                   false면 구독자별로 최대 64개까지 버퍼링하고 넘치면 오래된 이벤트부터 버린다 (알림 등).
+	 */
+	public Flux<ServerSentEvent<Object>> stream(String topic, boolean latestOnly) {
+		return Flux.defer(() -> {
+			Topic subscribed = topics.compute(topic, (key, current) -> {
+				Topic target = current != null ? current : new Topic();
+				target.subscribers().incrementAndGet();
+				return target;
+			});
+			Flux<ServerSentEvent<Object>> events = subscribed.sink().asFlux();
+			events = latestOnly
+				? events.onBackpressureLatest()
+				: events.onBackpressureBuffer(BUFFER_SIZE, BufferOverflowStrategy.DROP_OLDEST);
+			// 구독자마다 demand를 따로 두어 느린 구독자가 공유 하트비트를 붙잡지 않게 한다.
+			return Flux.merge(events, heartbeat.onBackpressureDrop())
+				.take(STREAM_TIMEOUT)
+				.doFinally(signal -> release(topic, subscribed));
+		});
+	}
+
+	public boolean hasSubscribers(String topic) {
+		return topics.containsKey(topic);
+	}
+
+	public void emit(String topic, ServerSentEvent<Object> event) {
+		Topic target = topics.get(topic);
+		if (target != null) {
+			target.sink().emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+		}
+	}
+
+	/**
+	 * topicPrefix로 시작하는 모든 토픽에 같은 이벤트를 보낸다. (서버 시각 동기화 등)
+	 */
+	public void emitAll(String topicPrefix, ServerSentEvent<Object> event) {
+		topics.forEach((topic, target) -> {
+			if (topic.startsWith(topicPrefix)) {
+				target.sink().emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+			}
+		});
+	}
+
+	private void release(String topic, Topic subscribed) {
+		topics.computeIfPresent(topic, (key, current) -> {
+			if (current != subscribed) {
+				return current;
+			}
+			return current.subscribers().decrementAndGet() == 0 ? null : current;
+		});
+	}
+
+	private record Topic(Sinks.Many<ServerSentEvent<Object>> sink, AtomicInteger subscribers) {
+
+		Topic() {
+			this(Sinks.many().multicast().directBestEffort(), new AtomicInteger());
+		}
+	}
+}
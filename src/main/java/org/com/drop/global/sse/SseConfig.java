@@ -0,0 +1,9 @@
+package org.com.drop.global.sse;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SseProperties.class)
+public class SseConfig {
+}
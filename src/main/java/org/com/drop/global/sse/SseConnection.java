@@ -0,0 +1,133 @@
+package org.com.drop.global.sse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+/**
+ * SseEmitter 하나와 그 연결의 송신 큐.
+ * 큐는 {@link SseWriterPool}의 writer 스레드만 비우며, 한 연결은 동시에 하나의 writer만 처리한다.
+ */
+public class SseConnection {
+
+	enum Offer { QUEUED, REPLACED, REJECTED }
+
+	@Getter
+	private final SseEmitter emitter;
+	@Getter
+	private final String stream;
+	@Getter
+	private final String key;
+	private final SseWriterPool.Meters meters;
+	private final Consumer<SseConnection> onClose;
+
+	private final Deque<SseFrame> queue = new ArrayDeque<>();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private boolean full;
+	private long fullSinceNanos;
+	// 하트비트를 제외한 마지막 이벤트 시각
+	@Getter
+	private volatile long lastEventNanos = System.nanoTime();
+	@Getter
+	private int heartbeatBucket;
+
+	SseConnection(
+		SseEmitter emitter,
+		String stream,
+		String key,
+		SseWriterPool.Meters meters,
+		Consumer<SseConnection> onClose
+	) {
+		this.emitter = emitter;
+		this.stream = stream;
+		this.key = key;
+		this.meters = meters;
+		this.onClose = onClose;
+	}
+
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	public synchronized int queueDepth() {
+		return queue.size();
+	}
+
+	synchronized Offer offer(SseFrame frame, int capacity, long nowNanos) {
+		if (frame.conflationKey() != null) {
+			for (Iterator<SseFrame> it = queue.iterator(); it.hasNext(); ) {
+				if (frame.conflationKey().equals(it.next().conflationKey())) {
+					it.remove();
+					queue.addLast(frame);
+					return Offer.REPLACED;
+				}
+			}
+		}
+		if (queue.size() >= capacity) {
+			if (!full) {
+				full = true;
+				fullSinceNanos = nowNanos;
+			}
+			return Offer.REJECTED;
+		}
+		queue.addLast(frame);
+		return Offer.QUEUED;
+	}
+
+	synchronized SseFrame poll() {
+		SseFrame frame = queue.pollFirst();
+		if (frame != null) {
+			full = false;
+		}
+		return frame;
+	}
+
+	synchronized boolean hasPending() {
+		return !queue.isEmpty();
+	}
+
+	synchronized long fullForNanos(long nowNanos) {
+		return full ? nowNanos - fullSinceNanos : 0;
+	}
+
+	synchronized int clear() {
+		int size = queue.size();
+		queue.clear();
+		return size;
+	}
+
+	void touch(long nowNanos) {
+		lastEventNanos = nowNanos;
+	}
+
+	void assignHeartbeatBucket(int bucket) {
+		heartbeatBucket = bucket;
+	}
+
+	boolean tryStartDrain() {
+		return draining.compareAndSet(false, true);
+	}
+
+	void endDrain() {
+		draining.set(false);
+	}
+
+	boolean markClosed() {
+		return closed.compareAndSet(false, true);
+	}
+
+	SseWriterPool.Meters meters() {
+		return meters;
+	}
+
+	Consumer<SseConnection> onClose() {
+		return onClose;
+	}
+}
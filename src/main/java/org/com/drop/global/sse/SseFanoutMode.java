@@ -0,0 +1,17 @@
+package org.com.drop.global.sse;
+
+/**
+ * SSE 이벤트를 어느 범위의 구독자에게 전달할지
+ */
+public enum SseFanoutMode {
+
+	/**
+	 * 이벤트가 발생한 인스턴스의 구독자에게만 전송 (단일 인스턴스, 테스트)
+	 */
+	LOCAL,
+
+	/**
+	 * Redis pub/sub 채널로 한 번 발행하고 모든 인스턴스가 각자의 구독자에게 전송
+	 */
+	REDIS
+}
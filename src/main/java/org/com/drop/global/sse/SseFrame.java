@@ -0,0 +1,43 @@
+package org.com.drop.global.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 연결별 송신 큐에 들어가는 SSE 프레임
+ *
+ * @param conflationKey 같은 key의 프레임이 아직 전송 전이면 새 프레임으로 대체한다 (null이면 대체하지 않음)
+ * @param payload emitter에 그대로 쓰는 데이터
+ * @param heartbeat 연결 유지용 프레임 여부 (연결의 마지막 이벤트 시각을 갱신하지 않음)
+ */
+public record SseFrame(
+	String conflationKey,
+	Set<ResponseBodyEmitter.DataWithMediaType> payload,
+	boolean heartbeat
+) {
+
+	public static final SseFrame HEARTBEAT = new SseFrame(":heartbeat", encode(":heartbeat\n\n"), true);
+
+	/**
+	 * 순서대로 모두 전달해야 하는 이벤트 (알림 등)
+	 */
+	public static SseFrame of(SseEmitter.SseEventBuilder event) {
+		return new SseFrame(null, event.build(), false);
+	}
+
+	/**
+	 * 최신 값만 의미가 있는 이벤트. 프레임 전체를 한 번만 직렬화해 모든 연결이 같은 바이트를 공유한다.
+	 */
+	public static SseFrame latest(String name, String data) {
+		return new SseFrame(name, encode("event:" + name + "\ndata:" + data + "\n\n"), false);
+	}
+
+	private static Set<ResponseBodyEmitter.DataWithMediaType> encode(String frame) {
+		return Set.of(new ResponseBodyEmitter.DataWithMediaType(
+			frame.getBytes(StandardCharsets.UTF_8), MediaType.TEXT_PLAIN));
+	}
+}
@@ -0,0 +1,56 @@
+package org.com.drop.global.sse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 하트비트 타임 휠.
+ * 연결을 interval / tick 개의 버킷에 고르게 나눠 담고, tick마다 버킷 하나만 방문해
+ * 전체 연결의 하트비트가 한 시점에 몰리지 않고 interval 동안 나뉘어 나가게 한다.
+ * 방문한 연결 중 마지막 실제 이벤트 이후 interval 동안 아무것도 보내지 않은 연결에만 하트비트를 보낸다.
+ */
+class SseHeartbeatWheel {
+
+	private final List<Set<SseConnection>> buckets;
+	private final AtomicInteger nextBucket = new AtomicInteger();
+	private final long idleNanos;
+	// tick 스레드만 접근한다.
+	private int cursor;
+
+	SseHeartbeatWheel(Duration interval, Duration tick) {
+		int size = (int)Math.max(1, interval.toMillis() / Math.max(1, tick.toMillis()));
+		this.buckets = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			buckets.add(ConcurrentHashMap.newKeySet());
+		}
+		// 방문 주기(interval)와 이벤트 시각의 어긋남을 tick 하나만큼 허용한다.
+		this.idleNanos = Math.max(0, interval.toNanos() - tick.toNanos());
+	}
+
+	int add(SseConnection connection) {
+		int bucket = Math.floorMod(nextBucket.getAndIncrement(), buckets.size());
+		buckets.get(bucket).add(connection);
+		return bucket;
+	}
+
+	void remove(SseConnection connection) {
+		buckets.get(connection.getHeartbeatBucket()).remove(connection);
+	}
+
+	void advance(long nowNanos, Consumer<SseConnection> heartbeat) {
+		Set<SseConnection> bucket = buckets.get(cursor);
+		cursor = (cursor + 1) % buckets.size();
+		for (SseConnection connection : bucket) {
+			if (connection.isClosed()) {
+				bucket.remove(connection);
+			} else if (nowNanos - connection.getLastEventNanos() >= idleNanos) {
+				heartbeat.accept(connection);
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package org.com.drop.global.sse;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * SSE 설정
+ *
+ * @param fanout 이벤트 전달 범위
+ * @param writer 연결별 송신 큐 설정
+ * @param heartbeat 하트비트 설정
+ */
+@ConfigurationProperties(prefix = "drop.sse")
+public record SseProperties(
+	@DefaultValue("LOCAL") SseFanoutMode fanout,
+	@DefaultValue Writer writer,
+	@DefaultValue Heartbeat heartbeat
+) {
+
+	/**
+	 * @param queueCapacity 연결 하나에 쌓아둘 수 있는 최대 프레임 수
+	 * @param evictAfterMs 송신 큐가 이 시간 이상 계속 가득 차 있으면 연결을 끊는다
+	 */
+	public record Writer(
+		@DefaultValue("32") int queueCapacity,
+		@DefaultValue("5000") long evictAfterMs
+	) {
+	}
+
+	/**
+	 * @param interval 마지막 이벤트 이후 이 시간 동안 보낸 것이 없는 연결에 하트비트를 보낸다
+	 * @param tick 타임 휠이 버킷 하나를 처리하는 간격 (버킷 수 = interval / tick)
+	 */
+	public record Heartbeat(
+		@DefaultValue("15s") Duration interval,
+		@DefaultValue("250ms") Duration tick
+	) {
+	}
+}
@@ -0,0 +1,187 @@
+package org.com.drop.global.sse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE 전송 전용 writer 풀.
+ * 호출 스레드는 연결별 bounded 큐에 프레임을 넣기만 하고, 실제 emitter.send는 가상 스레드 writer가 수행한다.
+ * 느린 연결 하나가 다른 연결이나 이벤트를 발생시킨 스레드를 막지 않도록 한다.
+ * <ul>
+ *     <li>최신 값만 의미 있는 프레임(최고가, 하트비트)은 큐에 남아 있는 이전 프레임을 대체한다.</li>
+ *     <li>큐가 가득 차면 새 프레임은 버리고, evictAfterMs 이상 가득 찬 상태가 이어지면 연결을 끊는다.
+ *     연결은 바로 닫힌 것으로 표시하고, emitter 완료는 느린 send와 같은 잠금을 기다리므로 writer 스레드에서 한다.</li>
+ *     <li>열린 모든 연결(경매, 알림)은 {@link SseHeartbeatWheel}에 등록되어 전용 스레드에서 하트비트를 받는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SseWriterPool {
+
+	private static final String METRIC_QUEUE_DEPTH = "sse.queue.depth";
+	private static final String METRIC_DROPPED = "sse.frames.dropped";
+	private static final String METRIC_EVICTED = "sse.connections.evicted";
+
+	private final SseProperties sseProperties;
+	private final MeterRegistry meterRegistry;
+
+	private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("sse-writer-", 0).factory());
+	private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+	// 메트릭은 스트림 종류(auction, notification)별로만 나눈다. 경매/사용자 id로 나누면 태그 수가 끝없이 늘어난다.
+	private final Map<String, Meters> metersByStream = new ConcurrentHashMap<>();
+	private final SseHeartbeatWheel heartbeatWheel;
+
+	public SseWriterPool(SseProperties sseProperties, MeterRegistry meterRegistry) {
+		this.sseProperties = sseProperties;
+		this.meterRegistry = meterRegistry;
+		this.heartbeatWheel = new SseHeartbeatWheel(
+			sseProperties.heartbeat().interval(), sseProperties.heartbeat().tick());
+	}
+
+	@PostConstruct
+	public void start() {
+		long tickMs = sseProperties.heartbeat().tick().toMillis();
+		heartbeatExecutor.scheduleAtFixedRate(this::heartbeatTick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * emitter를 송신 큐와 묶는다. emitter가 완료/타임아웃/오류로 끝나거나 writer가 연결을 끊으면 onClose가 한 번 호출된다.
+	 *
+	 * @param stream 메트릭 태그 (auction, notification)
+	 * @param key 로그용 연결 식별자 (경매 id 등)
+	 */
+	public SseConnection open(SseEmitter emitter, String stream, String key, Consumer<SseConnection> onClose) {
+		SseConnection connection = new SseConnection(emitter, stream, key, meters(stream), onClose);
+		connection.assignHeartbeatBucket(heartbeatWheel.add(connection));
+		emitter.onCompletion(() -> close(connection));
+		emitter.onTimeout(() -> close(connection));
+		emitter.onError(e -> close(connection));
+		return connection;
+	}
+
+	public void send(SseConnection connection, SseFrame frame) {
+		if (connection.isClosed()) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (!frame.heartbeat()) {
+			connection.touch(now);
+		}
+		long evictAfterNanos = TimeUnit.MILLISECONDS.toNanos(sseProperties.writer().evictAfterMs());
+		switch (connection.offer(frame, sseProperties.writer().queueCapacity(), now)) {
+			case QUEUED -> connection.meters().queueDepth().incrementAndGet();
+			case REPLACED -> connection.meters().dropped().increment();
+			case REJECTED -> {
+				connection.meters().dropped().increment();
+				if (connection.fullForNanos(now) >= evictAfterNanos) {
+					evict(connection);
+					return;
+				}
+			}
+		}
+		schedule(connection);
+	}
+
+	/**
+	 * @return 이번 호출로 닫혔으면 true (이미 닫힌 연결이면 false)
+	 */
+	public boolean close(SseConnection connection) {
+		if (!connection.markClosed()) {
+			return false;
+		}
+		connection.meters().queueDepth().addAndGet(-connection.clear());
+		heartbeatWheel.remove(connection);
+		connection.onClose().accept(connection);
+		return true;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeatExecutor.shutdownNow();
+		writers.shutdownNow();
+	}
+
+	private void heartbeatTick() {
+		try {
+			heartbeatWheel.advance(System.nanoTime(), connection -> send(connection, SseFrame.HEARTBEAT));
+		} catch (RuntimeException e) {
+			// 예외가 밖으로 나가면 이후 tick이 더 이상 실행되지 않는다.
+			log.warn("SSE 하트비트 처리 실패", e);
+		}
+	}
+
+	private void evict(SseConnection connection) {
+		if (!close(connection)) {
+			return;
+		}
+		connection.meters().evicted().increment();
+		log.info("송신 큐가 계속 가득 차 SSE 연결 종료: stream={}, key={}", connection.getStream(), connection.getKey());
+		try {
+			writers.execute(() -> connection.getEmitter().complete());
+		} catch (RejectedExecutionException ignored) {
+			// 종료 중이면 컨테이너가 남은 비동기 요청을 정리한다.
+		}
+	}
+
+	private void schedule(SseConnection connection) {
+		if (!connection.tryStartDrain()) {
+			return;
+		}
+		try {
+			writers.execute(() -> drain(connection));
+		} catch (RejectedExecutionException e) {
+			connection.endDrain();
+		}
+	}
+
+	private void drain(SseConnection connection) {
+		SseFrame frame;
+		while (!connection.isClosed() && (frame = connection.poll()) != null) {
+			connection.meters().queueDepth().decrementAndGet();
+			try {
+				connection.getEmitter().send(frame.payload());
+			} catch (IOException | IllegalStateException e) {
+				close(connection);
+			}
+		}
+		connection.endDrain();
+		// endDrain 직전에 들어온 프레임은 그 offer 쪽에서 writer를 띄우지 못했으므로 여기서 다시 확인한다.
+		if (!connection.isClosed() && connection.hasPending()) {
+			schedule(connection);
+		}
+	}
+
+	private Meters meters(String stream) {
+		return metersByStream.computeIfAbsent(stream, k -> {
+			Tags tags = Tags.of("stream", stream);
+			return new Meters(
+				meterRegistry.gauge(METRIC_QUEUE_DEPTH, tags, new AtomicInteger()),
+				meterRegistry.counter(METRIC_DROPPED, tags),
+				meterRegistry.counter(METRIC_EVICTED, tags)
+			);
+		});
+	}
+
+	record Meters(AtomicInteger queueDepth, Counter dropped, Counter evicted) {
+	}
+}
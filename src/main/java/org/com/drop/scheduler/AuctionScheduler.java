@@ -1,11 +1,15 @@
 package org.com.drop.scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.config.AuctionProperties;
 import org.com.drop.domain.auction.auction.repository.AuctionRepository;
 import org.com.drop.domain.auction.auction.service.AuctionService;
+import org.com.drop.domain.auction.bid.service.AuctionClosePipeline;
+import org.com.drop.global.lease.SchedulerLease;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,32 +17,41 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 시작/종료 시각이 지났는데 아직 상태가 바뀌지 않은 경매를 처리하는 안전망.
+ * 정시 처리는 AuctionTimer가 맡고, 여기서는 기동 중에 등록된 경매나 실패한 타이머처럼 빠진 경우만 잡는다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionScheduler {
 
+	private static final String JOB = "auction-sweep";
+	private static final Duration LEASE_TTL = Duration.ofMinutes(7);
+
 	private final AuctionRepository auctionRepository;
 	private final AuctionService auctionService;
+	private final AuctionClosePipeline auctionClosePipeline;
+	private final AuctionProperties auctionProperties;
+	private final SchedulerLease schedulerLease;
 
-	@Scheduled(cron = "0 0/1 * * * *")
+	@Scheduled(cron = "0 0/5 * * * *")
 	public void runAuctionScheduler() {
-		LocalDateTime now = LocalDateTime.now();
-
-		List<Auction> scheduledAuctions = auctionRepository.findAllByStatusAndStartAtBefore(
-			Auction.AuctionStatus.SCHEDULED, now
-		);
-
-		for (Auction auction : scheduledAuctions) {
-			auctionService.startAuction(auction.getId());
+		if (!schedulerLease.tryAcquire(JOB, LEASE_TTL)) {
+			return;
 		}
+		int chunkSize = auctionProperties.batch().chunkSize();
+		List<Long> started;
+		do {
+			started = auctionService.startDueAuctions(chunkSize);
+		} while (started.size() == chunkSize);
 
-		List<Auction> liveAuctions = auctionRepository.findAllByStatusAndEndAtBefore(
-			Auction.AuctionStatus.LIVE, now
-		);
-
-		for (Auction auction : liveAuctions) {
-			auctionService.endAuction(auction.getId());
+		LocalDateTime now = LocalDateTime.now();
+		Limit limit = Limit.of(chunkSize);
+		List<Long> dueIds = auctionRepository.findDueToCloseIds(now, 0L, limit);
+		while (!dueIds.isEmpty()) {
+			auctionClosePipeline.close(dueIds);
+			dueIds = auctionRepository.findDueToCloseIds(now, dueIds.get(dueIds.size() - 1), limit);
 		}
 	}
 
@@ -0,0 +1,56 @@
+package org.com.drop.scheduler;
+
+import java.time.Duration;
+
+import org.com.drop.domain.auction.auction.config.AuctionProperties;
+import org.com.drop.domain.auction.auction.service.AuctionStatsReconciler;
+import org.com.drop.global.lease.SchedulerLease;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionStatsReconcileScheduler {
+
+	private static final int CHUNK_SIZE = 500;
+	private static final String JOB = "auction-stats-reconcile";
+	private static final Duration LEASE_TTL = Duration.ofMinutes(15);
+	private static final String BACKFILL_JOB = "auction-stats-backfill";
+	private static final Duration BACKFILL_LEASE_TTL = Duration.ofHours(1);
+
+	private final AuctionStatsReconciler auctionStatsReconciler;
+	private final AuctionProperties auctionProperties;
+	private final SchedulerLease schedulerLease;
+
+	/**
+	 * 정기 보정은 진행 중 경매만 보므로, 종료/예정 경매의 집계 컬럼은 기동 시 한 번 채운다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillAuctionStats() {
+		if (!auctionProperties.stats().backfill() || !schedulerLease.tryAcquire(BACKFILL_JOB, BACKFILL_LEASE_TTL)) {
+			return;
+		}
+		Long lastId = 0L;
+		while (lastId != null) {
+			lastId = auctionStatsReconciler.backfillChunk(lastId, CHUNK_SIZE);
+		}
+		log.info("[AUCTION STATS] 집계 컬럼 채우기 완료");
+	}
+
+	@Scheduled(cron = "0 0/10 * * * *")
+	public void reconcileAuctionStats() {
+		if (!schedulerLease.tryAcquire(JOB, LEASE_TTL)) {
+			return;
+		}
+		Long lastId = 0L;
+		while (lastId != null) {
+			lastId = auctionStatsReconciler.reconcileChunk(lastId, CHUNK_SIZE);
+		}
+	}
+}
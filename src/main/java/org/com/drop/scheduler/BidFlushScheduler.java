@@ -0,0 +1,85 @@
+package org.com.drop.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.service.AcceptedBid;
+import org.com.drop.domain.auction.bid.service.AcceptedBidWriter;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.com.drop.global.exception.ServiceException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REDIS 입찰 모드에서 승인된 입찰을 주기적으로 DB에 반영한다.
+ * 묶음 반영이 실패하면 입찰마다 따로 반영해 실패한 입찰만 큐에 되돌리고,
+ * 입찰 자체의 문제(삭제된 사용자/경매, 범위를 넘는 금액, 반영 전에 마감된 경매)로 maxAttempts번 실패한 입찰은
+ * dead-letter 큐로 옮긴다.
+ * 반영한 입찰은 경매별 미반영 입찰 수에서 빼, 마감이 그 경매의 남은 입찰이 모두 반영됐는지 확인할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidFlushScheduler {
+
+	private final BidProperties bidProperties;
+	private final RedisBidAdmissionStore admissionStore;
+	private final AcceptedBidWriter acceptedBidWriter;
+
+	@Scheduled(fixedDelayString = "${drop.bid.redis.flush-interval-ms:200}")
+	public void flushAcceptedBids() {
+		if (bidProperties.mode() != BidMode.REDIS) {
+			return;
+		}
+
+		List<AcceptedBid> accepted = admissionStore.drainAccepted(bidProperties.redis().flushBatchSize());
+		if (accepted.isEmpty()) {
+			return;
+		}
+
+		try {
+			acceptedBidWriter.write(accepted);
+		} catch (RuntimeException e) {
+			log.warn("[BID FLUSH] 묶음 반영 실패, 입찰마다 다시 반영합니다. size={}", accepted.size(), e);
+			writeEach(accepted);
+			return;
+		}
+		admissionStore.acknowledge(accepted);
+	}
+
+	private void writeEach(List<AcceptedBid> accepted) {
+		List<AcceptedBid> written = new ArrayList<>();
+		List<AcceptedBid> retry = new ArrayList<>();
+		for (int i = 0; i < accepted.size(); i++) {
+			AcceptedBid bid = accepted.get(i);
+			try {
+				acceptedBidWriter.write(List.of(bid));
+				written.add(bid);
+				admissionStore.clearFailure(bid);
+			} catch (DataIntegrityViolationException | ArithmeticException | ServiceException e) {
+				long attempts = admissionStore.recordFailure(bid);
+				if (attempts >= bidProperties.redis().maxAttempts()) {
+					log.error("[BID FLUSH] 반영할 수 없는 입찰을 dead-letter 큐로 옮깁니다. bid={}", bid, e);
+					admissionStore.deadLetter(bid);
+				} else {
+					retry.add(bid);
+				}
+			} catch (RuntimeException e) {
+				// DB 장애 같은 일시적 실패는 입찰 탓이 아니므로 횟수를 세지 않고 남은 입찰을 모두 되돌린다.
+				log.error("[BID FLUSH] DB 반영 실패, 큐에 되돌립니다. size={}", accepted.size() - i, e);
+				retry.addAll(accepted.subList(i, accepted.size()));
+				break;
+			}
+		}
+		admissionStore.acknowledge(written);
+		if (!retry.isEmpty()) {
+			admissionStore.requeue(retry);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package org.com.drop.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.service.NotificationCompactor;
+import org.com.drop.global.lease.SchedulerLease;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationCompactionScheduler {
+
+	private static final String JOB = "notification-compaction";
+	private static final Duration LEASE_TTL = Duration.ofHours(1);
+
+	private final NotificationCompactor notificationCompactor;
+	private final NotificationProperties notificationProperties;
+	private final SchedulerLease schedulerLease;
+
+	@Scheduled(cron = "0 30 4 * * *")
+	public void compactReadNotifications() {
+		if (!schedulerLease.tryAcquire(JOB, LEASE_TTL)) {
+			return;
+		}
+		NotificationProperties.Retention retention = notificationProperties.retention();
+		LocalDateTime cutoff = LocalDateTime.now().minus(retention.readRetention());
+
+		Long lastId = 0L;
+		while (lastId != null) {
+			lastId = notificationCompactor.compactChunk(lastId, cutoff, retention.chunkSize());
+		}
+	}
+}
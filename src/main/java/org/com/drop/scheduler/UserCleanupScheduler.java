@@ -1,10 +1,12 @@
 package org.com.drop.scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.com.drop.domain.user.entity.User;
 import org.com.drop.domain.user.repository.UserRepository;
+import org.com.drop.global.lease.SchedulerLease;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,10 +16,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserCleanupScheduler {
 
+	private static final String JOB = "user-cleanup";
+	private static final Duration LEASE_TTL = Duration.ofHours(1);
+
 	private final UserRepository userRepository;
+	private final SchedulerLease schedulerLease;
 
 	@Scheduled(cron = "0 0 0 * * ?")
 	public void deleteSoftDeletedUsers() {
+		if (!schedulerLease.tryAcquire(JOB, LEASE_TTL)) {
+			return;
+		}
 		LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
 		List<User> usersToDelete = userRepository.findAllByDeletedAtBefore(cutoffDate);
 		userRepository.deleteAll(usersToDelete);
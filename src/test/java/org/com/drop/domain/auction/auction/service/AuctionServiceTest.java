@@ -0,0 +1,119 @@
+package org.com.drop.domain.auction.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.com.drop.BaseIntegrationTest;
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionStatusChangedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.product.entity.Product;
+import org.com.drop.domain.auction.product.repository.ProductRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class AuctionServiceTest extends BaseIntegrationTest {
+
+	@Autowired
+	private AuctionService auctionService;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@Test
+	@DisplayName("시작 시각이 지난 예정 경매만 시작하고 경매마다 상태 변경 이벤트를 한 번 발행한다")
+	void startAuctions_startsOnlyDueScheduledAuctions() {
+		// given
+		User seller = createDummyUser("seller");
+		LocalDateTime now = LocalDateTime.now();
+		Auction due = createAuction(seller, now.minusMinutes(1), Auction.AuctionStatus.SCHEDULED);
+		Auction notYet = createAuction(seller, now.plusMinutes(10), Auction.AuctionStatus.SCHEDULED);
+		Auction live = createAuction(seller, now.minusMinutes(5), Auction.AuctionStatus.LIVE);
+
+		// when
+		List<Long> started = auctionService.startAuctions(List.of(due.getId(), notYet.getId(), live.getId()));
+		List<Long> startedAgain = auctionService.startAuctions(List.of(due.getId()));
+
+		// then
+		assertThat(started).containsExactly(due.getId());
+		assertThat(startedAgain).isEmpty();
+		assertThat(auctionRepository.findById(due.getId()).orElseThrow().getStatus())
+			.isEqualTo(Auction.AuctionStatus.LIVE);
+		assertThat(auctionRepository.findById(notYet.getId()).orElseThrow().getStatus())
+			.isEqualTo(Auction.AuctionStatus.SCHEDULED);
+		assertThat(applicationEvents.stream(AuctionStatusChangedEvent.class))
+			.extracting(AuctionStatusChangedEvent::auctionId, AuctionStatusChangedEvent::status)
+			.containsExactly(tuple(due.getId(), Auction.AuctionStatus.LIVE));
+	}
+
+	@Test
+	@DisplayName("정기 점검은 시작 시각이 지난 예정 경매를 찾아 시작한다")
+	void startDueAuctions_startsDueScheduledAuctions() {
+		// given
+		User seller = createDummyUser("seller");
+		LocalDateTime now = LocalDateTime.now();
+		Auction due = createAuction(seller, now.minusMinutes(1), Auction.AuctionStatus.SCHEDULED);
+		Auction notYet = createAuction(seller, now.plusMinutes(10), Auction.AuctionStatus.SCHEDULED);
+
+		// when
+		List<Long> started = auctionService.startDueAuctions(500);
+
+		// then
+		assertThat(started).contains(due.getId()).doesNotContain(notYet.getId());
+		assertThat(auctionRepository.findById(notYet.getId()).orElseThrow().getStatus())
+			.isEqualTo(Auction.AuctionStatus.SCHEDULED);
+		assertThat(applicationEvents.stream(AuctionStatusChangedEvent.class)
+			.filter(event -> event.auctionId().equals(due.getId())))
+			.hasSize(1);
+	}
+
+	private User createDummyUser(String name) {
+		return userRepository.save(User.builder()
+			.email(name + "+" + UUID.randomUUID() + "@example.com")
+			.nickname(name + UUID.randomUUID())
+			.password("12345678")
+			.loginType(User.LoginType.LOCAL)
+			.role(User.UserRole.USER)
+			.createdAt(LocalDateTime.now())
+			.penaltyCount(0)
+			.build());
+	}
+
+	private Auction createAuction(User seller, LocalDateTime startAt, Auction.AuctionStatus status) {
+		Product product = productRepository.save(Product.builder()
+			.seller(seller)
+			.name("시작테스트상품")
+			.description("테스트용 상품 설명입니다.")
+			.category(Product.Category.STARGOODS)
+			.subcategory(Product.SubCategory.ETC)
+			.createdAt(LocalDateTime.now())
+			.bookmarkCount(0)
+			.build());
+		return auctionRepository.saveAndFlush(new Auction(
+			product, 10_000, 50_000, 1_000, startAt, startAt.plusHours(1), status));
+	}
+}
@@ -0,0 +1,130 @@
+package org.com.drop.domain.auction.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.com.drop.BaseIntegrationTest;
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.entity.Bid;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.auction.product.entity.Product;
+import org.com.drop.domain.auction.product.repository.ProductRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AuctionStatsReconcilerTest extends BaseIntegrationTest {
+
+	@Autowired
+	private AuctionStatsReconciler auctionStatsReconciler;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User createDummyUser(String name) {
+		return userRepository.save(User.builder()
+			.email(name + "+" + UUID.randomUUID() + "@example.com")
+			.nickname(name + UUID.randomUUID())
+			.password("12345678")
+			.loginType(User.LoginType.LOCAL)
+			.role(User.UserRole.USER)
+			.createdAt(LocalDateTime.now())
+			.penaltyCount(0)
+			.build());
+	}
+
+	// 쓰기 경로를 거치지 않고 입찰만 저장해 집계 컬럼이 어긋난 경매를 만든다.
+	private Auction createDriftedAuction(Auction.AuctionStatus status) {
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Product product = productRepository.save(Product.builder()
+			.seller(seller)
+			.name("집계 보정 상품")
+			.description("테스트용 상품 설명입니다.")
+			.category(Product.Category.STARGOODS)
+			.subcategory(Product.SubCategory.ETC)
+			.createdAt(LocalDateTime.now())
+			.bookmarkCount(2)
+			.build());
+		Auction auction = auctionRepository.save(new Auction(
+			product,
+			10_000,
+			null,
+			1_000,
+			LocalDateTime.now().minusHours(1),
+			LocalDateTime.now().plusHours(1),
+			status
+		));
+
+		for (long amount : new long[] {11_000L, 12_000L, 13_000L}) {
+			bidRepository.save(Bid.builder()
+				.auction(auction)
+				.bidder(bidder)
+				.bidAmount(amount)
+				.createdAt(LocalDateTime.now())
+				.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		return auction;
+	}
+
+	@Test
+	@DisplayName("bids 테이블과 어긋난 집계 컬럼을 입찰 기록 기준으로 되돌린다")
+	void reconcileChunk_repairsDrift() {
+		Auction auction = createDriftedAuction(Auction.AuctionStatus.LIVE);
+
+		Long lastId = auctionStatsReconciler.reconcileChunk(auction.getId() - 1, 100);
+		entityManager.clear();
+
+		Auction reconciled = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(lastId).isEqualTo(auction.getId());
+		assertThat(reconciled.getCurrentPrice()).isEqualTo(13_000);
+		assertThat(reconciled.getBidCount()).isEqualTo(3);
+		assertThat(reconciled.getPopularityScore()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("정기 보정은 종료된 경매를 건너뛰고, 채우기는 상태와 관계없이 보정한다")
+	void backfillChunk_coversEndedAuctions() {
+		Auction auction = createDriftedAuction(Auction.AuctionStatus.ENDED);
+
+		auctionStatsReconciler.reconcileChunk(auction.getId() - 1, 100);
+		entityManager.clear();
+		assertThat(auctionRepository.findById(auction.getId()).orElseThrow().getBidCount()).isZero();
+
+		Long lastId = auctionStatsReconciler.backfillChunk(auction.getId() - 1, 100);
+		entityManager.clear();
+
+		Auction backfilled = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(lastId).isEqualTo(auction.getId());
+		assertThat(backfilled.getCurrentPrice()).isEqualTo(13_000);
+		assertThat(backfilled.getBidCount()).isEqualTo(3);
+		assertThat(backfilled.getPopularityScore()).isEqualTo(5);
+	}
+}
@@ -0,0 +1,75 @@
+package org.com.drop.domain.auction.auction.timer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimerWheelTest {
+
+	private static final long TICK = 50;
+	private static final long START = 1_000_000;
+
+	private final HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 4, START);
+
+	@Test
+	@DisplayName("이미 지난 마감-휠에 넣지 않고 false 반환")
+	void t1() {
+		assertThat(wheel.add("past", START - 1)).isFalse();
+		assertThat(wheel.add("now", START)).isFalse();
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("마감 전에는 만료되지 않고 마감이 속한 tick에서 만료")
+	void t2() {
+		wheel.add("a", START + 120);
+
+		List<String> expired = new ArrayList<>();
+		wheel.advance(START + 100, expired::add);
+		assertThat(expired).isEmpty();
+
+		wheel.advance(START + 150, expired::add);
+		assertThat(expired).containsExactly("a");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("위 단계에 들어간 먼 마감-아래 단계로 내려와 정확한 tick에 만료")
+	void t3() {
+		// 0단계 범위(4 tick)를 넘는 마감: 1단계(200ms), 2단계(800ms) 버킷에 들어간다.
+		wheel.add("near", START + 100);
+		wheel.add("mid", START + 500);
+		wheel.add("far", START + 3_050);
+
+		List<String> expired = new ArrayList<>();
+		List<Long> expiredAt = new ArrayList<>();
+		for (long now = START; now <= START + 4_000; now += TICK) {
+			long at = now;
+			wheel.advance(now, task -> {
+				expired.add(task);
+				expiredAt.add(at);
+			});
+		}
+
+		assertThat(expired).containsExactly("near", "mid", "far");
+		assertThat(expiredAt).containsExactly(START + 100, START + 500, START + 3_050);
+	}
+
+	@Test
+	@DisplayName("advance가 여러 tick을 건너뛰어도 그 사이 마감을 모두 만료")
+	void t4() {
+		wheel.add("a", START + 60);
+		wheel.add("b", START + 900);
+		wheel.add("c", START + 5_000);
+
+		List<String> expired = new ArrayList<>();
+		wheel.advance(START + 1_000, expired::add);
+
+		assertThat(expired).containsExactly("a", "b");
+		assertThat(wheel.size()).isEqualTo(1);
+	}
+}
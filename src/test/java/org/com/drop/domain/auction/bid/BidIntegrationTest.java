@@ -25,7 +25,7 @@ import org.com.drop.domain.auction.bid.service.BidService;
 import org.com.drop.domain.auction.bid.service.WinnerService;
 import org.com.drop.domain.auction.product.entity.Product;
 import org.com.drop.domain.auction.product.repository.ProductRepository;
-import org.com.drop.domain.notification.entity.Notification;
+import org.com.drop.domain.notification.event.NotificationRequestedEvent;
 import org.com.drop.domain.notification.repository.NotificationRepository;
 import org.com.drop.domain.user.entity.User;
 import org.com.drop.domain.user.repository.UserRepository;
@@ -48,6 +48,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.Commit;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -60,6 +62,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Transactional
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
+@RecordApplicationEvents
 public class BidIntegrationTest extends BaseIntegrationTest {
 
 	@Autowired
@@ -82,6 +85,8 @@ public class BidIntegrationTest extends BaseIntegrationTest {
 	NotificationRepository notificationRepository;
 	@Autowired
 	WinnerRepository winnerRepository;
+	@Autowired
+	ApplicationEvents applicationEvents;
 
 	@Autowired
 	BidService bidService;
@@ -415,27 +420,22 @@ public class BidIntegrationTest extends BaseIntegrationTest {
 		winnerService.finalizeAuction(auction.getId());
 
 		//then
-		List<Notification> notifications = notificationRepository.findAll();
-		System.out.println(">>> 저장된 알림 총 개수: " + notifications.size());
-		for (Notification n : notifications) {
-			System.out.println(">>> 알림 ID: " + n.getId());
-			System.out.println(">>> 수신자 ID: " + n.getUser().getId());
-			System.out.println(">>> 메시지: " + n.getMessage());
-			System.out.println("------------------------------");
-		}
+		// 알림은 커밋 후 비동기로 저장되므로 낙찰 트랜잭션에서 발행된 알림 요청을 검증한다.
+		List<NotificationRequestedEvent> notifications = applicationEvents.stream(NotificationRequestedEvent.class)
+			.toList();
 
 		assertThat(notifications).hasSize(2);
 
-		Notification buyerNoti = notifications.stream()
-			.filter(n -> n.getUser().getId().equals(bidder.getId()))
+		NotificationRequestedEvent buyerNoti = notifications.stream()
+			.filter(n -> n.userId().equals(bidder.getId()))
 			.findFirst()
 			.orElseThrow(() -> new AssertionError("구매자 알림이 없습니다."));
-		assertThat(buyerNoti.getMessage()).contains("경매가 낙찰되었습니다.");
+		assertThat(buyerNoti.message()).contains("경매가 낙찰되었습니다.");
 
-		Notification sellerNoti = notifications.stream()
-			.filter(n -> n.getUser().getId().equals(seller.getId()))
+		NotificationRequestedEvent sellerNoti = notifications.stream()
+			.filter(n -> n.userId().equals(seller.getId()))
 			.findFirst()
 			.orElseThrow(() -> new AssertionError("판매자 알림이 없습니다."));
-		assertThat(sellerNoti.getMessage()).contains("경매가 낙찰되었습니다.");
+		assertThat(sellerNoti.message()).contains("경매가 낙찰되었습니다.");
 	}
 }
@@ -0,0 +1,96 @@
+package org.com.drop.domain.auction.bid.bidevent;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.com.drop.domain.auction.bid.service.SseService;
+import org.com.drop.global.sse.SseFanoutMode;
+import org.com.drop.global.sse.SseProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class AuctionEventFanoutTest {
+
+	private static final Long AUCTION_ID = 7L;
+
+	private final SseService sseService = mock(SseService.class);
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+	private AuctionEventFanout fanout(SseFanoutMode mode, SseService target) {
+		SseProperties properties = new SseProperties(mode, new SseProperties.Writer(32, 5000),
+			new SseProperties.Heartbeat(Duration.ofSeconds(15), Duration.ofMillis(250)));
+		return new AuctionEventFanout(target, redisTemplate, properties);
+	}
+
+	@Test
+	@DisplayName("LOCAL 모드에서는 Redis에 발행하지 않고 현재 노드의 구독자에게 바로 보낸다")
+	void local_deliversDirectly() {
+		AuctionEventFanout fanout = fanout(SseFanoutMode.LOCAL, sseService);
+
+		fanout.publishBid(AUCTION_ID, 15_000L, 2);
+		fanout.publishEvent(AUCTION_ID, "status", "{\"status\":\"ENDED\"}");
+
+		verify(sseService).notifyHighestPrice(AUCTION_ID, 15_000L);
+		verify(sseService).notifyBidCount(AUCTION_ID, 2);
+		verify(sseService).sendEvent(AUCTION_ID, "status", "{\"status\":\"ENDED\"}");
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("REDIS 모드에서 발행한 메시지를 다른 인스턴스가 받아 자기 구독자에게 보낸다")
+	void redis_relaysAcrossInstances() {
+		AuctionEventFanout publisher = fanout(SseFanoutMode.REDIS, sseService);
+		SseService otherSseService = mock(SseService.class);
+		AuctionEventFanout subscriber = fanout(SseFanoutMode.REDIS, otherSseService);
+
+		publisher.publishBid(AUCTION_ID, 15_000L, 2);
+		publisher.publishEvent(AUCTION_ID, "status", "{\"status\":\"ENDED\"}");
+
+		ArgumentCaptor<String> channels = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> bodies = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(2)).convertAndSend(channels.capture(), bodies.capture());
+		verifyNoInteractions(sseService);
+
+		for (int i = 0; i < 2; i++) {
+			subscriber.onMessage(new DefaultMessage(
+				channels.getAllValues().get(i).getBytes(StandardCharsets.UTF_8),
+				bodies.getAllValues().get(i).getBytes(StandardCharsets.UTF_8)), null);
+		}
+
+		verify(otherSseService).notifyHighestPrice(AUCTION_ID, 15_000L);
+		verify(otherSseService).notifyBidCount(AUCTION_ID, 2);
+		verify(otherSseService).sendEvent(AUCTION_ID, "status", "{\"status\":\"ENDED\"}");
+	}
+
+	@Test
+	@DisplayName("Redis 발행에 실패하면 현재 노드의 구독자에게라도 보낸다")
+	void redis_publishFailure_fallsBackToLocal() {
+		doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).convertAndSend(anyString(), any());
+		AuctionEventFanout fanout = fanout(SseFanoutMode.REDIS, sseService);
+
+		fanout.publishBid(AUCTION_ID, 15_000L, 2);
+
+		verify(sseService).notifyHighestPrice(AUCTION_ID, 15_000L);
+		verify(sseService).notifyBidCount(AUCTION_ID, 2);
+	}
+
+	@Test
+	@DisplayName("입찰 수가 없는 이전 형식의 가격 메시지도 처리한다")
+	void onMessage_legacyPriceFormat() {
+		AuctionEventFanout fanout = fanout(SseFanoutMode.REDIS, sseService);
+
+		fanout.onMessage(new DefaultMessage(
+			"sse:auction:7:price".getBytes(StandardCharsets.UTF_8),
+			"15000".getBytes(StandardCharsets.UTF_8)), null);
+
+		verify(sseService).notifyHighestPrice(AUCTION_ID, 15_000L);
+		verify(sseService, never()).notifyBidCount(anyLong(), anyInt());
+	}
+}
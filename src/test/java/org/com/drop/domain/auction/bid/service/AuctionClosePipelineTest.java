@@ -0,0 +1,83 @@
+package org.com.drop.domain.auction.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.com.drop.domain.auction.auction.config.AuctionProperties;
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.store.AdmissionClosure;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class AuctionClosePipelineTest {
+
+	private AuctionCloseService auctionCloseService;
+	private WinnerService winnerService;
+	private AuctionProperties auctionProperties;
+	private RedisBidAdmissionStore admissionStore;
+	private BidSequencer bidSequencer;
+
+	@BeforeEach
+	void setUp() {
+		auctionCloseService = mock(AuctionCloseService.class);
+		winnerService = mock(WinnerService.class);
+		auctionProperties = mock(AuctionProperties.class);
+		admissionStore = mock(RedisBidAdmissionStore.class);
+		bidSequencer = mock(BidSequencer.class);
+		when(auctionProperties.batch()).thenReturn(new AuctionProperties.Batch(500));
+	}
+
+	@Test
+	@DisplayName("REDIS 모드는 입찰 접수를 닫은 경매를 마감하고, 반영되지 않은 입찰이 남은 경매는 마감하지 않고 돌려준다")
+	void close_redis_returnsPendingAuctions() {
+		when(admissionStore.closeAdmission(eq(List.of(1L, 2L, 3L)), any()))
+			.thenReturn(new AdmissionClosure(List.of(1L), List.of(2L)));
+
+		List<Long> pending = pipeline(BidMode.REDIS).close(List.of(1L, 2L, 3L));
+
+		assertThat(pending).containsExactly(2L);
+		InOrder inOrder = inOrder(admissionStore, auctionCloseService);
+		inOrder.verify(admissionStore).closeAdmission(eq(List.of(1L, 2L, 3L)), any());
+		inOrder.verify(auctionCloseService).closeChunk(List.of(1L));
+	}
+
+	@Test
+	@DisplayName("REDIS 모드에서 입찰 접수를 닫지 못하면 마감하지 않는다")
+	void close_redis_admissionFailure_skipsChunk() {
+		when(admissionStore.closeAdmission(eq(List.of(1L)), any()))
+			.thenThrow(new IllegalStateException("redis down"));
+
+		List<Long> pending = pipeline(BidMode.REDIS).close(List.of(1L));
+
+		assertThat(pending).isEmpty();
+		verifyNoInteractions(auctionCloseService, winnerService);
+	}
+
+	@Test
+	@DisplayName("락 모드는 입찰 접수를 따로 닫지 않고 바로 마감한다")
+	void close_lock_closesDirectly() {
+		pipeline(BidMode.LOCK).close(List.of(1L, 2L));
+
+		verify(auctionCloseService).closeChunk(List.of(1L, 2L));
+		verifyNoInteractions(admissionStore, bidSequencer);
+	}
+
+	private AuctionClosePipeline pipeline(BidMode mode) {
+		BidProperties bidProperties = new BidProperties(
+			mode,
+			new BidProperties.Redis(500, 3),
+			new BidProperties.Optimistic(3),
+			new BidProperties.Sequencer(100, 5000),
+			new BidProperties.GroupCommit(10, 500)
+		);
+		return new AuctionClosePipeline(auctionCloseService, winnerService, auctionProperties, bidProperties,
+			admissionStore, bidSequencer);
+	}
+}
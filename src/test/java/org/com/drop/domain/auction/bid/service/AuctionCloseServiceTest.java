@@ -0,0 +1,159 @@
+package org.com.drop.domain.auction.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.com.drop.BaseIntegrationTest;
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.entity.Bid;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.auction.product.entity.Product;
+import org.com.drop.domain.auction.product.repository.ProductRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.com.drop.domain.winner.domain.Winner;
+import org.com.drop.domain.winner.repository.WinnerRepository;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AuctionCloseServiceTest extends BaseIntegrationTest {
+
+	@Autowired
+	private AuctionCloseService auctionCloseService;
+
+	@Autowired
+	private AcceptedBidWriter acceptedBidWriter;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private WinnerRepository winnerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Test
+	@DisplayName("종료 시각이 지난 경매를 한 번에 마감하고 입찰이 있는 경매만 최고 입찰자를 낙찰자로 저장한다")
+	void closeChunk_closesDueAuctionsInBulk() {
+		// given
+		User seller = createDummyUser("seller");
+		User bidder1 = createDummyUser("bidder1");
+		User bidder2 = createDummyUser("bidder2");
+		LocalDateTime now = LocalDateTime.now();
+
+		Auction withBids = createAuction(seller, now.minusMinutes(1));
+		placeBid(withBids, bidder1, 11_000L);
+		placeBid(withBids, bidder2, 12_000L);
+		Auction withoutBids = createAuction(seller, now.minusMinutes(1));
+		Auction notYetEnded = createAuction(seller, now.plusMinutes(10));
+
+		// when
+		int closed = auctionCloseService.closeChunk(
+			List.of(withBids.getId(), withoutBids.getId(), notYetEnded.getId()));
+
+		// then
+		assertThat(closed).isEqualTo(2);
+		assertThat(auctionRepository.findById(withBids.getId()).orElseThrow().getStatus())
+			.isEqualTo(Auction.AuctionStatus.ENDED);
+		assertThat(auctionRepository.findById(withoutBids.getId()).orElseThrow().getStatus())
+			.isEqualTo(Auction.AuctionStatus.ENDED);
+		assertThat(auctionRepository.findById(notYetEnded.getId()).orElseThrow().getStatus())
+			.isEqualTo(Auction.AuctionStatus.LIVE);
+
+		Winner winner = winnerRepository.findByAuction_Id(withBids.getId()).orElseThrow();
+		assertThat(winner.getUserId()).isEqualTo(bidder2.getId());
+		assertThat(winner.getSellerId()).isEqualTo(seller.getId());
+		assertThat(winner.getFinalPrice()).isEqualTo(12_000L);
+		assertThat(winnerRepository.existsByAuction_Id(withoutBids.getId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 마감된 경매는 다시 마감하지 않는다")
+	void closeChunk_skipsClosedAuctions() {
+		// given
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Auction auction = createAuction(seller, LocalDateTime.now().minusMinutes(1));
+		placeBid(auction, bidder, 11_000L);
+		auctionCloseService.closeChunk(List.of(auction.getId()));
+
+		// when
+		int closed = auctionCloseService.closeChunk(List.of(auction.getId()));
+
+		// then
+		assertThat(closed).isZero();
+		assertThat(winnerRepository.findAllByAuction_Id(auction.getId())).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("마감된 경매에는 늦게 반영되는 입찰을 적용하지 않는다")
+	void acceptedBidWriter_rejectsClosedAuction() {
+		// given
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Auction auction = createAuction(seller, LocalDateTime.now().minusMinutes(1));
+		auctionCloseService.closeChunk(List.of(auction.getId()));
+		AcceptedBid late = new AcceptedBid(auction.getId(), bidder.getId(), 11_000L, LocalDateTime.now(), null);
+
+		// when & then
+		assertThatThrownBy(() -> acceptedBidWriter.write(List.of(late)))
+			.isInstanceOf(ServiceException.class)
+			.extracting(e -> ((ServiceException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AUCTION_ALREADY_ENDED);
+	}
+
+	private User createDummyUser(String name) {
+		return userRepository.save(User.builder()
+			.email(name + "+" + UUID.randomUUID() + "@example.com")
+			.nickname(name + UUID.randomUUID())
+			.password("12345678")
+			.loginType(User.LoginType.LOCAL)
+			.role(User.UserRole.USER)
+			.createdAt(LocalDateTime.now())
+			.penaltyCount(0)
+			.build());
+	}
+
+	private Auction createAuction(User seller, LocalDateTime endAt) {
+		Product product = productRepository.save(Product.builder()
+			.seller(seller)
+			.name("마감테스트상품")
+			.description("테스트용 상품 설명입니다.")
+			.category(Product.Category.STARGOODS)
+			.subcategory(Product.SubCategory.ETC)
+			.createdAt(LocalDateTime.now())
+			.bookmarkCount(0)
+			.build());
+		return auctionRepository.saveAndFlush(new Auction(
+			product, 10_000, 50_000, 1_000, endAt.minusMinutes(20), endAt, Auction.AuctionStatus.LIVE));
+	}
+
+	private void placeBid(Auction auction, User bidder, long amount) {
+		bidRepository.saveAndFlush(Bid.builder()
+			.auction(auction)
+			.bidder(bidder)
+			.bidAmount(amount)
+			.createdAt(LocalDateTime.now())
+			.build());
+	}
+}
@@ -0,0 +1,76 @@
+package org.com.drop.domain.auction.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BidGroupCommitWriterTest {
+
+	private AcceptedBidWriter acceptedBidWriter;
+	private BidGroupCommitWriter bidGroupCommitWriter;
+
+	private final AcceptedBid bid = new AcceptedBid(1L, 2L, 11_000L, LocalDateTime.now(), null);
+
+	@BeforeEach
+	void setUp() {
+		acceptedBidWriter = mock(AcceptedBidWriter.class);
+		BidProperties properties = new BidProperties(
+			BidMode.SEQUENCER,
+			new BidProperties.Redis(500, 3),
+			new BidProperties.Optimistic(3),
+			new BidProperties.Sequencer(100, 5000),
+			new BidProperties.GroupCommit(1_000, 500)
+		);
+		bidGroupCommitWriter = new BidGroupCommitWriter(acceptedBidWriter, properties);
+		bidGroupCommitWriter.start();
+	}
+
+	@Test
+	@DisplayName("종료할 때 모으던 입찰을 저장하고 결과를 알린다")
+	void stop_commitsPendingBids() {
+		CompletableFuture<Void> committed = bidGroupCommitWriter.submit(List.of(bid));
+
+		bidGroupCommitWriter.stop();
+
+		assertThat(committed).isCompleted();
+		verify(acceptedBidWriter).write(anyList());
+	}
+
+	@Test
+	@DisplayName("종료된 뒤 들어온 입찰은 바로 실패한다")
+	void submit_afterStop_fails() {
+		bidGroupCommitWriter.stop();
+
+		CompletableFuture<Void> committed = bidGroupCommitWriter.submit(List.of(bid));
+
+		assertThat(committed).isCompletedExceptionally();
+		verify(acceptedBidWriter, never()).write(anyList());
+	}
+
+	@Test
+	@DisplayName("묶음 저장이 실패하면 경매마다 다시 저장해 스스로 실패한 경매의 입찰만 실패시킨다")
+	void commit_groupFailure_retriesPerAuction() {
+		AcceptedBid other = new AcceptedBid(3L, 4L, 21_000L, LocalDateTime.now(), null);
+		IllegalStateException failure = new IllegalStateException("auction 3 failed");
+		doThrow(failure).when(acceptedBidWriter).write(List.of(bid, other));
+		doThrow(failure).when(acceptedBidWriter).write(List.of(other));
+
+		CompletableFuture<Void> committed = bidGroupCommitWriter.submit(List.of(bid));
+		CompletableFuture<Void> failed = bidGroupCommitWriter.submit(List.of(other));
+		bidGroupCommitWriter.stop();
+
+		assertThat(committed).isCompleted();
+		assertThat(failed).isCompletedExceptionally();
+		verify(acceptedBidWriter).write(List.of(bid));
+	}
+}
@@ -0,0 +1,204 @@
+package org.com.drop.domain.auction.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.domain.auction.product.entity.Product;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class BidSequencerTest {
+
+	private static final Long AUCTION_ID = 1L;
+	private static final Long SELLER_ID = 100L;
+
+	private AuctionRepository auctionRepository;
+	private AcceptedBidWriter acceptedBidWriter;
+	private BidGroupCommitWriter bidGroupCommitWriter;
+	private BidSequencer bidSequencer;
+
+	@BeforeEach
+	void setUp() {
+		auctionRepository = mock(AuctionRepository.class);
+		acceptedBidWriter = mock(AcceptedBidWriter.class);
+		BidProperties properties = new BidProperties(
+			BidMode.SEQUENCER,
+			new BidProperties.Redis(500, 3),
+			new BidProperties.Optimistic(3),
+			new BidProperties.Sequencer(100, 5000),
+			new BidProperties.GroupCommit(1, 500)
+		);
+		bidGroupCommitWriter = new BidGroupCommitWriter(acceptedBidWriter, properties);
+		bidGroupCommitWriter.start();
+		bidSequencer = new BidSequencer(auctionRepository, bidGroupCommitWriter, properties);
+
+		User seller = mock(User.class);
+		when(seller.getId()).thenReturn(SELLER_ID);
+		Product product = mock(Product.class);
+		when(product.getSeller()).thenReturn(seller);
+		Auction auction = mock(Auction.class);
+		when(auction.getProduct()).thenReturn(product);
+		when(auction.getStatus()).thenReturn(Auction.AuctionStatus.LIVE);
+		when(auction.getEndAt()).thenReturn(LocalDateTime.now().plusHours(1));
+		when(auction.getCurrentPrice()).thenReturn(10_000);
+		when(auction.getMinBidStep()).thenReturn(1_000);
+		when(auctionRepository.findByIdWithSeller(AUCTION_ID)).thenReturn(Optional.of(auction));
+	}
+
+	@AfterEach
+	void tearDown() {
+		bidSequencer.shutdown();
+		bidGroupCommitWriter.stop();
+	}
+
+	@Test
+	@DisplayName("같은 경매의 입찰은 도착 순서대로 메모리 현재가 기준으로 검증된다")
+	void submit_validatesInArrivalOrder() throws Exception {
+		CompletableFuture<BidResponseDto> first = bidSequencer.submit(AUCTION_ID, 2L, 11_000L);
+		CompletableFuture<BidResponseDto> second = bidSequencer.submit(AUCTION_ID, 3L, 11_500L);
+		CompletableFuture<BidResponseDto> third = bidSequencer.submit(AUCTION_ID, 4L, 12_000L);
+
+		assertThat(first.get(1, TimeUnit.SECONDS).currentHighestBid()).isEqualTo(11_000L);
+		assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.cause()
+			.isInstanceOf(ServiceException.class)
+			.extracting(e -> ((ServiceException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW);
+		assertThat(third.get(1, TimeUnit.SECONDS).currentHighestBid()).isEqualTo(12_000L);
+
+		verify(auctionRepository, times(1)).findByIdWithSeller(AUCTION_ID);
+		verify(acceptedBidWriter, atLeastOnce()).write(anyList());
+	}
+
+	@Test
+	@DisplayName("판매자 입찰은 저장 없이 거절된다")
+	void submit_ownerRejected() {
+		CompletableFuture<BidResponseDto> result = bidSequencer.submit(AUCTION_ID, SELLER_ID, 20_000L);
+
+		assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.cause()
+			.extracting(e -> ((ServiceException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AUCTION_BIDDER_CANNOT_BE_OWNER);
+		verify(acceptedBidWriter, never()).write(anyList());
+	}
+
+	@Test
+	@DisplayName("저장에 실패하면 입찰은 실패하고 다음 처리 때 DB 상태를 다시 읽는다")
+	void submit_writeFailure_reloadsState() throws Exception {
+		doThrow(new IllegalStateException("db down")).doNothing().when(acceptedBidWriter).write(anyList());
+
+		CompletableFuture<BidResponseDto> failed = bidSequencer.submit(AUCTION_ID, 2L, 11_000L);
+		assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+		BidResponseDto retried = bidSequencer.submit(AUCTION_ID, 2L, 11_000L).get(1, TimeUnit.SECONDS);
+
+		assertThat(retried.currentHighestBid()).isEqualTo(11_000L);
+		verify(auctionRepository, times(2)).findByIdWithSeller(AUCTION_ID);
+		verify(acceptedBidWriter, times(2)).write(anyList());
+	}
+
+	@Test
+	@DisplayName("처리 전에 취소된 입찰은 검증/저장하지 않는다")
+	void submit_cancelledBeforeProcessing_isSkipped() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await();
+			return null;
+		}).when(acceptedBidWriter).write(anyList());
+
+		CompletableFuture<BidResponseDto> first = bidSequencer.submit(AUCTION_ID, 2L, 11_000L);
+		assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<BidResponseDto> cancelled = bidSequencer.submit(AUCTION_ID, 3L, 12_000L);
+
+		assertThat(cancelled.cancel(false)).isTrue();
+		release.countDown();
+
+		assertThat(first.get(1, TimeUnit.SECONDS).currentHighestBid()).isEqualTo(11_000L);
+		BidResponseDto next = bidSequencer.submit(AUCTION_ID, 4L, 12_000L).get(1, TimeUnit.SECONDS);
+
+		assertThat(next.currentHighestBid()).isEqualTo(12_000L);
+		verify(acceptedBidWriter, times(2)).write(anyList());
+	}
+
+	@Test
+	@DisplayName("마감 요청은 먼저 들어온 입찰이 저장된 뒤에 끝난다")
+	void closeAdmission_waitsForQueuedBids() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await();
+			return null;
+		}).when(acceptedBidWriter).write(anyList());
+
+		CompletableFuture<BidResponseDto> bid = bidSequencer.submit(AUCTION_ID, 2L, 11_000L);
+		assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Void> closed = bidSequencer.closeAdmission(AUCTION_ID);
+
+		assertThat(closed).isNotDone();
+		release.countDown();
+
+		closed.get(1, TimeUnit.SECONDS);
+		assertThat(bid).isCompleted();
+	}
+
+	@Test
+	@DisplayName("메일박스가 없는 경매의 마감 요청은 바로 끝난다")
+	void closeAdmission_withoutMailbox_completesImmediately() {
+		assertThat(bidSequencer.closeAdmission(999L)).isCompleted();
+	}
+
+	@Test
+	@DisplayName("마감 연장 구간의 입찰은 늦춘 종료 시각을 함께 저장하고 이후 입찰은 늦춘 시각 기준으로 검증한다")
+	@SuppressWarnings("unchecked")
+	void submit_withinSoftCloseWindow_extendsEndAt() throws Exception {
+		Long auctionId = 2L;
+		LocalDateTime endAt = LocalDateTime.now().plusSeconds(10);
+		User seller = mock(User.class);
+		when(seller.getId()).thenReturn(SELLER_ID);
+		Product product = mock(Product.class);
+		when(product.getSeller()).thenReturn(seller);
+		Auction auction = mock(Auction.class);
+		when(auction.getProduct()).thenReturn(product);
+		when(auction.getStatus()).thenReturn(Auction.AuctionStatus.LIVE);
+		when(auction.getEndAt()).thenReturn(endAt);
+		when(auction.getCurrentPrice()).thenReturn(10_000);
+		when(auction.getMinBidStep()).thenReturn(1_000);
+		when(auction.getSoftCloseWindowSeconds()).thenReturn(60);
+		when(auction.getSoftCloseExtensionSeconds()).thenReturn(30);
+		when(auctionRepository.findByIdWithSeller(auctionId)).thenReturn(Optional.of(auction));
+
+		bidSequencer.submit(auctionId, 2L, 11_000L).get(1, TimeUnit.SECONDS);
+		bidSequencer.submit(auctionId, 3L, 12_000L).get(1, TimeUnit.SECONDS);
+
+		ArgumentCaptor<List<AcceptedBid>> written = ArgumentCaptor.forClass(List.class);
+		verify(acceptedBidWriter, times(2)).write(written.capture());
+		assertThat(written.getAllValues().stream().flatMap(List::stream).toList())
+			.extracting(AcceptedBid::extendedEndAt)
+			.containsExactly(endAt.plusSeconds(30), endAt.plusSeconds(60));
+	}
+}
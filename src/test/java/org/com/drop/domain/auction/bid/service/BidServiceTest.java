@@ -3,6 +3,7 @@ package org.com.drop.domain.auction.bid.service;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 import org.com.drop.BaseIntegrationTest;
@@ -83,6 +84,21 @@ class BidServiceTest extends BaseIntegrationTest {
 		return auctionRepository.save(auction);
 	}
 
+	private Auction createSoftCloseAuction(Product product, LocalDateTime endAt) {
+		Auction auction = Auction.builder()
+			.product(product)
+			.startPrice(10_000)
+			.minBidStep(1_000)
+			.startAt(endAt.minusHours(1))
+			.endAt(endAt)
+			.status(Auction.AuctionStatus.LIVE)
+			.softCloseWindowSeconds(60)
+			.softCloseExtensionSeconds(30)
+			.build();
+
+		return auctionRepository.save(auction);
+	}
+
 	// @Test
 	// void 유효한_입찰이면_Bid가_저장되고_Auction_현재가가_갱신된다() {}
 
@@ -125,6 +141,42 @@ class BidServiceTest extends BaseIntegrationTest {
 
 	}
 
+	@DisplayName("마감_연장_구간_안에_입찰하면_종료_시각이_연장_시간만큼_늦춰진다")
+	@Test
+	void extendsEndAtWhenBidInSoftCloseWindow() {
+		// given
+		User bidder = createDummyUser("입찰자1");
+		User seller = createDummyUser("판매자1");
+		Product product = createDummyProduct(seller, "테스트 상품");
+		LocalDateTime endAt = LocalDateTime.now().plusSeconds(30).truncatedTo(ChronoUnit.SECONDS);
+		Auction auction = createSoftCloseAuction(product, endAt);
+
+		// when
+		bidService.placeBid(auction.getId(), bidder.getId(), new BidRequestDto(11_000L));
+
+		// then
+		Auction updated = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(updated.getEndAt()).isEqualTo(endAt.plusSeconds(30));
+	}
+
+	@DisplayName("마감_연장_구간_밖의_입찰은_종료_시각을_바꾸지_않는다")
+	@Test
+	void keepsEndAtWhenBidOutsideSoftCloseWindow() {
+		// given
+		User bidder = createDummyUser("입찰자1");
+		User seller = createDummyUser("판매자1");
+		Product product = createDummyProduct(seller, "테스트 상품");
+		LocalDateTime endAt = LocalDateTime.now().plusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+		Auction auction = createSoftCloseAuction(product, endAt);
+
+		// when
+		bidService.placeBid(auction.getId(), bidder.getId(), new BidRequestDto(11_000L));
+
+		// then
+		Auction updated = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(updated.getEndAt()).isEqualTo(endAt);
+	}
+
 	// @Test
 	// void 현재_최고가_이하로_입찰하면_예외가_발생한다() {}
 	//
@@ -0,0 +1,151 @@
+package org.com.drop.domain.auction.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.com.drop.BaseIntegrationTest;
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.domain.auction.bid.repository.BidRepository;
+import org.com.drop.domain.auction.product.entity.Product;
+import org.com.drop.domain.auction.product.repository.ProductRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OptimisticBidPlacementTest extends BaseIntegrationTest {
+
+	@Autowired
+	private OptimisticBidPlacement optimisticBidPlacement;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private User createDummyUser(String name) {
+		return userRepository.save(User.builder()
+			.email(name + "+" + UUID.randomUUID() + "@example.com")
+			.nickname(name + UUID.randomUUID())
+			.password("12345678")
+			.loginType(User.LoginType.LOCAL)
+			.role(User.UserRole.USER)
+			.createdAt(LocalDateTime.now())
+			.penaltyCount(0)
+			.build());
+	}
+
+	private Auction createLiveAuction(User seller) {
+		return createLiveAuction(seller, LocalDateTime.now().plusHours(1));
+	}
+
+	private Auction createLiveAuction(User seller, LocalDateTime endAt) {
+		Product product = productRepository.save(Product.builder()
+			.seller(seller)
+			.name("낙관적 입찰 상품")
+			.description("테스트용 상품 설명입니다.")
+			.category(Product.Category.STARGOODS)
+			.subcategory(Product.SubCategory.ETC)
+			.createdAt(LocalDateTime.now())
+			.bookmarkCount(0)
+			.build());
+
+		return auctionRepository.save(new Auction(
+			product,
+			10_000,
+			null,
+			1_000,
+			LocalDateTime.now().minusHours(1),
+			endAt,
+			Auction.AuctionStatus.LIVE
+		));
+	}
+
+	@Test
+	@DisplayName("유효한 입찰이면 현재가와 입찰 수가 한 번의 UPDATE로 갱신된다")
+	void place_success_updatesPriceAndBidCount() {
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Auction auction = createLiveAuction(seller);
+
+		BidResponseDto response = optimisticBidPlacement.place(auction.getId(), bidder.getId(), 12_000L);
+
+		Auction updated = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(response.currentHighestBid()).isEqualTo(12_000L);
+		assertThat(updated.getCurrentPrice()).isEqualTo(12_000);
+		assertThat(updated.getBidCount()).isEqualTo(1);
+		assertThat(updated.getPopularityScore()).isEqualTo(1);
+		assertThat(bidRepository.findTopByAuction_IdOrderByBidAmountDesc(auction.getId()))
+			.hasValueSatisfying(bid -> assertThat(bid.getBidAmount()).isEqualTo(12_000L));
+	}
+
+	@Test
+	@DisplayName("최소 입찰 단위를 만족하지 못하면 현재가가 바뀌지 않는다")
+	void place_tooLow_keepsPrice() {
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Auction auction = createLiveAuction(seller);
+
+		assertThatThrownBy(() -> optimisticBidPlacement.place(auction.getId(), bidder.getId(), 10_500L))
+			.isInstanceOf(ServiceException.class)
+			.extracting(e -> ((ServiceException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW);
+
+		Auction updated = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(updated.getCurrentPrice()).isEqualTo(10_000);
+		assertThat(updated.getBidCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("마감 연장 구간의 입찰이면 종료 시각을 연장 시간만큼 늦춘다")
+	void place_withinSoftCloseWindow_extendsEndAt() {
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Auction auction = createLiveAuction(seller, LocalDateTime.now().plusSeconds(10));
+		auction.configureSoftClose(60, 30);
+		auctionRepository.saveAndFlush(auction);
+		LocalDateTime endAt = auction.getEndAt();
+
+		optimisticBidPlacement.place(auction.getId(), bidder.getId(), 12_000L);
+
+		Auction updated = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(updated.getEndAt()).isCloseTo(endAt.plusSeconds(30), within(1, ChronoUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("마감 연장 구간 밖의 입찰은 종료 시각을 바꾸지 않는다")
+	void place_outsideSoftCloseWindow_keepsEndAt() {
+		User seller = createDummyUser("seller");
+		User bidder = createDummyUser("bidder");
+		Auction auction = createLiveAuction(seller);
+		auction.configureSoftClose(60, 30);
+		auctionRepository.saveAndFlush(auction);
+		LocalDateTime endAt = auction.getEndAt();
+
+		optimisticBidPlacement.place(auction.getId(), bidder.getId(), 12_000L);
+
+		Auction updated = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(updated.getEndAt()).isCloseTo(endAt, within(1, ChronoUnit.SECONDS));
+	}
+}
@@ -0,0 +1,133 @@
+package org.com.drop.domain.auction.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.com.drop.domain.auction.auction.entity.Auction;
+import org.com.drop.domain.auction.auction.event.AuctionEndExtendedEvent;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.bid.dto.response.BidResponseDto;
+import org.com.drop.domain.auction.bid.store.BidAdmissionResult;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.com.drop.global.exception.ErrorCode;
+import org.com.drop.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBidPlacementTest {
+
+	@Mock
+	RedisBidAdmissionStore admissionStore;
+
+	@Mock
+	AuctionRepository auctionRepository;
+
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	RedisBidPlacement placement;
+
+	@Test
+	@DisplayName("Redis에서 승인되면 DB 조회 없이 응답한다")
+	void place_accepted_withoutDb() {
+		when(admissionStore.admit(eq(1L), eq(2L), eq(15_000L), any()))
+			.thenReturn(BidAdmissionResult.ACCEPTED);
+
+		BidResponseDto response = placement.place(1L, 2L, 15_000L);
+
+		assertThat(response.isHighestBidder()).isTrue();
+		assertThat(response.currentHighestBid()).isEqualTo(15_000L);
+		verifyNoInteractions(auctionRepository);
+	}
+
+	@Test
+	@DisplayName("마감이 연장되면 Redis의 새 종료 시각을 바로 DB에 저장하고 연장 이벤트를 발행한다")
+	void place_extended_persistsEndAt() {
+		LocalDateTime endAt = LocalDateTime.now().plusSeconds(40);
+		when(admissionStore.admit(eq(1L), eq(2L), eq(15_000L), any()))
+			.thenReturn(BidAdmissionResult.EXTENDED);
+		when(admissionStore.endAt(1L)).thenReturn(endAt);
+		when(auctionRepository.extendEndAt(1L, endAt)).thenReturn(1);
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+
+		BidResponseDto response = placement.place(1L, 2L, 15_000L);
+
+		assertThat(response.currentHighestBid()).isEqualTo(15_000L);
+		verify(auctionRepository).extendEndAt(1L, endAt);
+		verify(eventPublisher).publishEvent(new AuctionEndExtendedEvent(1L, endAt));
+	}
+
+	@Test
+	@DisplayName("연장된 종료 시각 저장에 실패해도 승인된 입찰은 그대로 응답한다")
+	void place_extended_persistFailure_stillAccepted() {
+		when(admissionStore.admit(eq(1L), eq(2L), eq(15_000L), any()))
+			.thenReturn(BidAdmissionResult.EXTENDED);
+		when(admissionStore.endAt(1L)).thenReturn(LocalDateTime.now().plusSeconds(40));
+		doThrow(new IllegalStateException("db down")).when(transactionTemplate).executeWithoutResult(any());
+
+		BidResponseDto response = placement.place(1L, 2L, 15_000L);
+
+		assertThat(response.isHighestBidder()).isTrue();
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("금액이 낮으면 DB 조회 없이 거절한다")
+	void place_tooLow_withoutDb() {
+		when(admissionStore.admit(eq(1L), eq(2L), eq(100L), any()))
+			.thenReturn(BidAdmissionResult.TOO_LOW);
+
+		assertThatThrownBy(() -> placement.place(1L, 2L, 100L))
+			.isInstanceOf(ServiceException.class)
+			.extracting(e -> ((ServiceException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AUCTION_BID_AMOUNT_TOO_LOW);
+		verifyNoInteractions(auctionRepository);
+	}
+
+	@Test
+	@DisplayName("Redis에 경매 상태가 없으면 DB에서 적재 후 다시 승인한다")
+	void place_notLoaded_primesFromDb() {
+		Auction auction = mock(Auction.class);
+		when(auctionRepository.findByIdWithSeller(1L)).thenReturn(Optional.of(auction));
+		when(admissionStore.admit(eq(1L), eq(2L), eq(15_000L), any()))
+			.thenReturn(BidAdmissionResult.NOT_LOADED, BidAdmissionResult.ACCEPTED);
+
+		BidResponseDto response = placement.place(1L, 2L, 15_000L);
+
+		assertThat(response.currentHighestBid()).isEqualTo(15_000L);
+		verify(admissionStore).prime(eq(auction), any());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 경매면 AUCTION_NOT_FOUND")
+	void place_notFound() {
+		when(auctionRepository.findByIdWithSeller(1L)).thenReturn(Optional.empty());
+		when(admissionStore.admit(eq(1L), eq(2L), eq(15_000L), any()))
+			.thenReturn(BidAdmissionResult.NOT_LOADED);
+
+		assertThatThrownBy(() -> placement.place(1L, 2L, 15_000L))
+			.isInstanceOf(ServiceException.class)
+			.extracting(e -> ((ServiceException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AUCTION_NOT_FOUND);
+	}
+}
@@ -1,24 +1,37 @@
 package org.com.drop.domain.auction.bid.service;
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.com.drop.BaseIntegrationTest;
+import org.com.drop.global.sse.ReactiveSseHub;
+import org.com.drop.global.sse.SseConnection;
+import org.com.drop.global.sse.SseFanoutMode;
+import org.com.drop.global.sse.SseProperties;
+import org.com.drop.global.sse.SseWriterPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.transaction.Transactional;
 
 @SpringBootTest
@@ -28,16 +41,18 @@ import jakarta.transaction.Transactional;
 class SseServiceTest extends BaseIntegrationTest {
 	@Autowired
 	private SseService sseService;
-	private Map<Long, List<SseEmitter>> sseEmitters;
+	private Map<Long, List<SseConnection>> sseConnections;
 	private Long auctionId = 1L;
 	private Long price = Long.MAX_VALUE;
 
 	@BeforeEach
 	void setUp() throws Exception {
-		sseService = new SseService();
-		Field field = SseService.class.getDeclaredField("sseEmitters");
+		SseProperties properties = new SseProperties(SseFanoutMode.LOCAL, new SseProperties.Writer(32, 5000),
+			new SseProperties.Heartbeat(Duration.ofSeconds(15), Duration.ofMillis(250)));
+		sseService = new SseService(new SseWriterPool(properties, new SimpleMeterRegistry()), new ReactiveSseHub());
+		Field field = SseService.class.getDeclaredField("sseConnections");
 		field.setAccessible(true);
-		sseEmitters = (Map<Long, List<SseEmitter>>) field.get(sseService);
+		sseConnections = (Map<Long, List<SseConnection>>) field.get(sseService);
 	}
 
 	@Nested
@@ -48,7 +63,7 @@ class SseServiceTest extends BaseIntegrationTest {
 			SseEmitter emitter = sseService.subscribe(auctionId);
 
 			assertThat(emitter).isNotNull();
-			assertThat(sseEmitters.get(auctionId)).contains(emitter);
+			assertThat(sseConnections.get(auctionId)).extracting(SseConnection::getEmitter).contains(emitter);
 			assertThat(emitter.getTimeout()).isEqualTo(60 * 60 * 1000L);
 		}
 
@@ -66,20 +81,54 @@ class SseServiceTest extends BaseIntegrationTest {
 		@DisplayName("최고가 알림-성공")
 		void t2() throws Exception {
 			SseEmitter emitter = spy(new SseEmitter());
-			sseEmitters.put(auctionId, new CopyOnWriteArrayList<>(List.of(emitter)));
+			SseConnection connection = sseService.register(auctionId, emitter);
 
 			sseService.notifyHighestPrice(auctionId, price);
+			sseService.flushPrices();
 
-			verify(emitter, times(1))
-				.send(any(SseEmitter.SseEventBuilder.class));
+			verify(emitter, timeout(1000).times(1)).send(anySet());
 
-			assertThat(sseEmitters.get(auctionId)).contains(emitter);
+			assertThat(sseConnections.get(auctionId)).contains(connection);
+		}
+
+		@Test
+		@DisplayName("최고가 알림-tick 사이의 입찰은 최고가 한 번으로 합쳐짐")
+		void t2_2() throws Exception {
+			SseEmitter emitter = mock(SseEmitter.class);
+			sseService.register(auctionId, emitter);
+
+			sseService.notifyHighestPrice(auctionId, 1000L);
+			sseService.notifyHighestPrice(auctionId, 3000L);
+			sseService.notifyHighestPrice(auctionId, 2000L);
+			sseService.flushPrices();
+			sseService.flushPrices();
+
+			ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.captor();
+			verify(emitter, timeout(1000).times(1)).send(captor.capture());
+			byte[] frame = (byte[])captor.getValue().iterator().next().getData();
+			assertThat(new String(frame, StandardCharsets.UTF_8)).isEqualTo("event:highestPrice\ndata:3000\n\n");
+		}
+
+		@Test
+		@DisplayName("입찰 수 알림-tick 사이의 입찰 수는 합산해서 한 번 전송")
+		void t2_3() throws Exception {
+			SseEmitter emitter = mock(SseEmitter.class);
+			sseService.register(auctionId, emitter);
+
+			sseService.notifyBidCount(auctionId, 1);
+			sseService.notifyBidCount(auctionId, 3);
+			sseService.flushPrices();
+			sseService.flushPrices();
+
+			ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.captor();
+			verify(emitter, timeout(1000).times(1)).send(captor.capture());
+			assertThat(frameText(captor.getValue())).isEqualTo("event:bidCount\ndata:4\n\n");
 		}
 
 		@Test
 		@DisplayName("최고가 알림-실패-emitter 비었음")
 		void t2_1() throws Exception {
-			sseEmitters.put(auctionId, new CopyOnWriteArrayList<>());
+			sseConnections.put(auctionId, new CopyOnWriteArrayList<>());
 
 			assertThatCode(() ->
 				sseService.notifyHighestPrice(auctionId, price)
@@ -87,6 +136,48 @@ class SseServiceTest extends BaseIntegrationTest {
 		}
 	}
 
+	@Nested
+	class AuctionEventTest {
+		@Test
+		@DisplayName("경매 이벤트-상태 변경은 tick을 기다리지 않고 바로 전송")
+		void t5() throws Exception {
+			SseEmitter emitter = mock(SseEmitter.class);
+			sseService.register(auctionId, emitter);
+
+			sseService.sendEvent(auctionId, SseService.STATUS_EVENT, "{\"status\":\"ENDED\"}");
+
+			ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.captor();
+			verify(emitter, timeout(1000).times(1)).send(captor.capture());
+			assertThat(frameText(captor.getValue())).isEqualTo("event:status\ndata:{\"status\":\"ENDED\"}\n\n");
+		}
+
+		@Test
+		@DisplayName("서버 시각 동기화-모든 경매 연결에 serverTime 전송")
+		void t5_1() throws Exception {
+			SseEmitter first = mock(SseEmitter.class);
+			SseEmitter second = mock(SseEmitter.class);
+			sseService.register(auctionId, first);
+			sseService.register(auctionId + 1, second);
+
+			sseService.syncServerTime();
+
+			for (SseEmitter emitter : List.of(first, second)) {
+				ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.captor();
+				verify(emitter, timeout(1000).times(1)).send(captor.capture());
+				assertThat(frameText(captor.getValue())).startsWith("event:serverTime\ndata:");
+			}
+		}
+	}
+
+	private static String frameText(Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+		StringBuilder text = new StringBuilder();
+		for (ResponseBodyEmitter.DataWithMediaType data : payload) {
+			Object value = data.getData();
+			text.append(value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : value);
+		}
+		return text.toString();
+	}
+
 	@Nested
 	class RemoveTest {
 		@Test
@@ -101,20 +192,23 @@ class SseServiceTest extends BaseIntegrationTest {
 				callback.run();
 			}
 
-			assertThat(sseEmitters.get(auctionId)).doesNotContain(emitter);
+			assertThat(sseConnections.get(auctionId)).extracting(SseConnection::getEmitter).doesNotContain(emitter);
 		}
 
 		@Test
 		@DisplayName("Emitter가 제거-전송중 오류 발생")
 		void t4() throws Exception {
 			SseEmitter mockEmitter = mock(SseEmitter.class);
-			doThrow(IOException.class).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+			doThrow(IOException.class).when(mockEmitter).send(anySet());
 
-			sseEmitters.put(auctionId, new CopyOnWriteArrayList<>(List.of(mockEmitter)));
+			SseConnection connection = sseService.register(auctionId, mockEmitter);
 
 			sseService.notifyHighestPrice(auctionId, price);
+			sseService.flushPrices();
 
-			assertThat(sseEmitters.get(auctionId)).doesNotContain(mockEmitter);
+			await()
+				.atMost(1, TimeUnit.SECONDS)
+				.untilAsserted(() -> assertThat(sseConnections.get(auctionId)).doesNotContain(connection));
 		}
 	}
 }
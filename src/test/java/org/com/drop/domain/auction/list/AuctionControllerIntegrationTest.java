@@ -208,6 +208,35 @@ class AuctionControllerIntegrationTest extends BaseIntegrationTest {
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.data.items").isArray());
 		}
+
+		@Test
+		@DisplayName("인기순 커서 페이징 - 점수가 같으면 ID 역순으로 이어진다")
+		void t5() throws Exception {
+			ResultActions firstPage = mockMvc.perform(
+				get("/api/v1/auctions")
+					.param("sortType", "popular")
+					.param("size", "1")
+					.contentType(MediaType.APPLICATION_JSON)
+			).andDo(print());
+
+			firstPage
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.items[0].auctionId").value(endedAuction.getId()))
+				.andExpect(jsonPath("$.data.cursor").isNotEmpty());
+
+			String responseBody = firstPage.andReturn().getResponse().getContentAsString();
+			String nextCursor = objectMapper.readTree(responseBody).path("data").path("cursor").asText();
+
+			mockMvc.perform(
+					get("/api/v1/auctions")
+						.param("sortType", "popular")
+						.param("cursor", nextCursor)
+						.param("size", "1")
+						.contentType(MediaType.APPLICATION_JSON)
+				).andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.items[0].auctionId").value(liveAuction.getId()));
+		}
 	}
 
 	@Nested
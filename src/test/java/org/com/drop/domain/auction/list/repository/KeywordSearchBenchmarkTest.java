@@ -0,0 +1,132 @@
+package org.com.drop.domain.auction.list.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 키워드 검색 LIKE vs FULLTEXT(ngram) 비교 벤치마크.
+ * 데이터 적재에 시간이 오래 걸려 기본 테스트에서는 제외하고, DROP_BENCHMARK=true 일 때만 실행한다.
+ * (예: DROP_BENCHMARK=true ./gradlew test --tests "*KeywordSearchBenchmarkTest")
+ */
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "DROP_BENCHMARK", matches = "true")
+class KeywordSearchBenchmarkTest {
+
+	private static final String[] WORDS = {
+		"한정판", "아이돌", "굿즈", "포토카드", "앨범", "사인", "피규어", "레고", "건담", "프라모델",
+		"게임", "닌텐도", "스위치", "플레이스테이션", "엘피", "바이닐", "초판", "미개봉", "중고", "희귀",
+		"poster", "limited", "edition", "figure", "vinyl", "signed", "retro", "console", "card", "album"
+	};
+	private static final String[] KEYWORDS = {"포토카드", "미개봉 건담", "limited edition", "플레이스테이션"};
+	private static final int INSERT_BATCH = 5_000;
+	private static final int REPEAT = 5;
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+		.withUrlParam("rewriteBatchedStatements", "true");
+
+	@ParameterizedTest(name = "products={0}")
+	@ValueSource(ints = {100_000, 1_000_000})
+	@DisplayName("LIKE 검색과 FULLTEXT 인덱스 검색의 응답 시간을 비교한다")
+	void compareLikeAndFullText(int productCount) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(
+			MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())) {
+			seed(connection, productCount);
+
+			for (String keyword : KEYWORDS) {
+				long likeMs = medianMillis(connection, likeQuery(keyword));
+				long fullTextMs = medianMillis(connection, fullTextQuery(keyword));
+				System.out.printf("[BENCHMARK] products=%d keyword='%s' LIKE=%dms FULLTEXT=%dms%n",
+					productCount, keyword, likeMs, fullTextMs);
+			}
+		}
+	}
+
+	private void seed(Connection connection, int productCount) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE IF EXISTS products");
+			statement.execute("CREATE TABLE products (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+				+ "name VARCHAR(255) NOT NULL, description TEXT NOT NULL) ENGINE=InnoDB");
+		}
+
+		Random random = new Random(42);
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+			"INSERT INTO products (name, description) VALUES (?, ?)")) {
+			for (int i = 1; i <= productCount; i++) {
+				insert.setString(1, sentence(random, 4));
+				insert.setString(2, sentence(random, 30));
+				insert.addBatch();
+				if (i % INSERT_BATCH == 0) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+			insert.executeBatch();
+			connection.commit();
+		}
+		connection.setAutoCommit(true);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE products ADD FULLTEXT INDEX ft_product_name_description "
+				+ "(name, description) WITH PARSER ngram");
+		}
+	}
+
+	private String sentence(Random random, int wordCount) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < wordCount; i++) {
+			sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+		}
+		return sentence.toString().trim();
+	}
+
+	private String likeQuery(String keyword) {
+		StringBuilder sql = new StringBuilder("SELECT id FROM products WHERE 1 = 1");
+		for (String kw : keyword.split("\\s+")) {
+			sql.append(" AND (LOWER(name) LIKE '%").append(kw.toLowerCase())
+				.append("%' OR LOWER(description) LIKE '%").append(kw.toLowerCase()).append("%')");
+		}
+		return sql.append(" ORDER BY id DESC LIMIT 21").toString();
+	}
+
+	private String fullTextQuery(String keyword) {
+		StringBuilder against = new StringBuilder();
+		for (String kw : keyword.split("\\s+")) {
+			against.append("+\"").append(kw).append("\" ");
+		}
+		return "SELECT id FROM products WHERE MATCH(name, description) AGAINST('" + against.toString().trim()
+			+ "' IN BOOLEAN MODE) ORDER BY id DESC LIMIT 21";
+	}
+
+	private long medianMillis(Connection connection, String sql) throws SQLException {
+		List<Long> elapsed = new ArrayList<>();
+		for (int i = 0; i < REPEAT; i++) {
+			long start = System.nanoTime();
+			try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+				while (rs.next()) {
+					rs.getLong(1);
+				}
+			}
+			elapsed.add((System.nanoTime() - start) / 1_000_000);
+		}
+		Collections.sort(elapsed);
+		return elapsed.get(REPEAT / 2);
+	}
+}
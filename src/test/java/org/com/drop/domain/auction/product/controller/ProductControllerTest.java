@@ -244,6 +244,7 @@ public class ProductControllerTest extends BaseIntegrationTest {
 				for	(int i = 0; i < productImages.size(); i++ ) {
 					assertThat(productImages.get(i).getImageUrl()).isEqualTo(images.get(i));
 				}
+				assertThat(productRepository.findById(3L).get().getThumbnailKey()).isEqualTo(images.getFirst());
 
 			}
 
@@ -13,16 +13,21 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.com.drop.BaseIntegrationTest;
+import org.com.drop.domain.notification.dto.NotificationResponse;
+import org.com.drop.domain.notification.dto.NotificationSummary;
 import org.com.drop.domain.notification.entity.Notification;
 import org.com.drop.domain.notification.repository.NotificationEmitterRepository;
 import org.com.drop.domain.notification.repository.NotificationRepository;
 import org.com.drop.domain.notification.service.NotificationService;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -35,6 +40,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.jayway.jsonpath.JsonPath;
+
 import jakarta.transaction.Transactional;
 
 @SpringBootTest
@@ -55,6 +62,8 @@ public class NotificationControllerTest extends BaseIntegrationTest {
 	private NotificationEmitterRepository notificationEmitterRepository;
 	@Autowired
 	private NotificationRepository notificationRepository;
+	@Autowired
+	private UserRepository userRepository;
 
 	@Nested
 	class Sse {
@@ -71,12 +80,62 @@ public class NotificationControllerTest extends BaseIntegrationTest {
 
 			notificationService.sendTo(userId, "Hello SSE!");
 
-			String content = mvcResult.getResponse().getContentAsString();
-			assertThat(content).contains("Hello SSE!");
+			// 전송은 writer 스레드에서 비동기로 이루어진다.
+			await()
+				.atMost(3, TimeUnit.SECONDS)
+				.untilAsserted(() -> assertThat(mvcResult.getResponse().getContentAsString()).contains("Hello SSE!"));
 
 			System.out.println("최종 응답 결과: " + mvcResult.getResponse().getContentAsString());
 		}
 
+		@Test
+		@WithMockUser(username = "user1@example.com", roles = {"USER"})
+		@DisplayName("SSE 여러 탭 연결 후 알림 발송 - 모든 연결에 전달")
+		void t1_1() throws Exception {
+			MvcResult first = mvc.perform(get("/api/v1/notifications/subscribe"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+			MvcResult second = mvc.perform(get("/api/v1/notifications/subscribe"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+			notificationService.sendTo(userId, "Hello Tabs!");
+
+			assertThat(notificationEmitterRepository.get(userId)).hasSize(2);
+			await()
+				.atMost(3, TimeUnit.SECONDS)
+				.untilAsserted(() -> {
+					assertThat(first.getResponse().getContentAsString()).contains("Hello Tabs!");
+					assertThat(second.getResponse().getContentAsString()).contains("Hello Tabs!");
+				});
+		}
+
+		@Test
+		@WithMockUser(username = "user1@example.com", roles = {"USER"})
+		@DisplayName("Last-Event-ID로 재연결 - 놓친 알림 재전송")
+		void t1_2() throws Exception {
+			// 알림 파이프라인이 저장 후 전송하는 과정을 그대로 재현한다.
+			User user = userRepository.findById(userId).get();
+			Notification seen = notificationRepository.save(new Notification(user, "재연결 전 알림1"));
+			Notification missed = notificationRepository.save(new Notification(user, "재연결 전 알림2"));
+			notificationService.deliver(new NotificationResponse(seen));
+			notificationService.deliver(new NotificationResponse(missed));
+			Long lastSeenId = seen.getId();
+
+			MvcResult mvcResult = mvc.perform(get("/api/v1/notifications/subscribe")
+					.header("Last-Event-ID", lastSeenId))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+			await()
+				.atMost(3, TimeUnit.SECONDS)
+				.untilAsserted(() -> {
+					String content = mvcResult.getResponse().getContentAsString();
+					assertThat(content).contains("id:" + missed.getId()).contains("재연결 전 알림2");
+					assertThat(content).doesNotContain("재연결 전 알림1");
+				});
+		}
+
 		@Test
 		@DisplayName("SSE 연결 종료 후 메모리 검증 - 성공")
 		@WithMockUser(username = "user1@example.com", roles = {"USER"})
@@ -86,12 +145,12 @@ public class NotificationControllerTest extends BaseIntegrationTest {
 				.andExpect(request().asyncStarted())
 				.andReturn();
 
-			SseEmitter emitter = notificationEmitterRepository.get(userId);
+			SseEmitter emitter = notificationEmitterRepository.get(userId).iterator().next().getEmitter();
 			emitter.complete();
 
 			mvc.perform(asyncDispatch(mvcResult));
 
-			assertNull(notificationEmitterRepository.get(userId));
+			assertThat(notificationEmitterRepository.get(userId)).isEmpty();
 		}
 
 		@Test
@@ -237,6 +296,39 @@ public class NotificationControllerTest extends BaseIntegrationTest {
 					.andDo(print());
 				resultActions.andExpect(status().isForbidden());
 			}
+
+			@Test
+			@DisplayName("알림함 커서 조회 - 성공 (첫 페이지 캐시, 다음 페이지 커서)")
+			@WithMockUser(username = "user1@example.com", roles = {"USER"})
+			void t5_2() throws Exception {
+				List<NotificationSummary> expected = notificationRepository.findInbox(userId, Limit.of(2));
+				long unreadCount = notificationRepository.countByUserIdAndReadAtIsNull(userId);
+
+				MvcResult first = mvc
+					.perform(
+						get("/api/v1/notifications/inbox").param("size", "1")
+					)
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.data.unreadCount").value(unreadCount))
+					.andExpect(jsonPath("$.data.items.length()").value(1))
+					.andExpect(jsonPath("$.data.items[0].id").value(expected.get(0).id()))
+					.andExpect(jsonPath("$.data.items[0].read").value(false))
+					.andExpect(jsonPath("$.data.hasNext").value(true))
+					.andReturn();
+
+				String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.data.cursor");
+
+				mvc
+					.perform(
+						get("/api/v1/notifications/inbox").param("size", "1").param("cursor", cursor)
+					)
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.data.items.length()").value(1))
+					.andExpect(jsonPath("$.data.items[0].id").value(expected.get(1).id()))
+					.andExpect(jsonPath("$.data.hasNext").value(false));
+			}
 		}
 
 		@Nested
@@ -310,6 +402,29 @@ public class NotificationControllerTest extends BaseIntegrationTest {
 					.andExpect(jsonPath("$.code").value("AUTH_ACCESS_DENIED"))
 					.andExpect(jsonPath("$.message").value("접근 권한이 없습니다."));
 			}
+
+			@Test
+			@DisplayName("알림 모두 읽기 - 성공 (upToId 이하만 읽음 처리)")
+			@WithMockUser(username = "user1@example.com", roles = {"USER"})
+			void t6_3() throws Exception {
+				User user = userRepository.findById(userId).get();
+				Notification later = notificationRepository.save(new Notification(user, "모두 읽기 이후 알림"));
+				long unreadUpTo = notificationRepository.findAllByUserId(userId, PageRequest.of(0, 20)).stream()
+					.filter(notification -> notification.getReadAt() == null && notification.getId() < later.getId())
+					.count();
+
+				mvc
+					.perform(
+						put("/api/v1/notifications/read-all").param("upToId", String.valueOf(later.getId() - 1))
+					)
+					.andDo(print())
+					.andExpect(handler().methodName("readAllNotifications"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.data").value(unreadUpTo));
+
+				assertThat(notificationRepository.countByUserIdAndReadAtIsNull(userId)).isEqualTo(1);
+				assertThat(notificationRepository.findById(later.getId()).get().getReadAt()).isNull();
+			}
 		}
 
 		@Nested
@@ -0,0 +1,103 @@
+package org.com.drop.domain.notification.inbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.config.NotificationStoreType;
+import org.com.drop.domain.notification.dto.NotificationSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemoryNotificationInboxCacheTest {
+
+	private static final Long USER_ID = 1L;
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	private MemoryNotificationInboxCache cache;
+
+	@BeforeEach
+	void setUp() {
+		NotificationProperties properties = new NotificationProperties(
+			new NotificationProperties.Replay(NotificationStoreType.MEMORY, 50, Duration.ofMinutes(10)),
+			new NotificationProperties.Batch(20, 200, 3, Duration.ofSeconds(1)),
+			new NotificationProperties.Inbox(NotificationStoreType.MEMORY, 2, Duration.ofMinutes(10)),
+			new NotificationProperties.Retention(Duration.ofDays(30), 500));
+		cache = new MemoryNotificationInboxCache(properties);
+	}
+
+	@Test
+	@DisplayName("채워지지 않은 사용자-갱신을 무시")
+	void t1() {
+		cache.add(USER_ID, summary(1L, false));
+		cache.markAsRead(USER_ID, 1L);
+
+		assertThat(cache.get(USER_ID)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("알림 추가-맨 앞에 넣고 capacity만큼만 보관")
+	void t2() {
+		fill(new NotificationInbox(1, 2, List.of(summary(2L, false), summary(1L, true))));
+
+		cache.add(USER_ID, summary(3L, false));
+
+		NotificationInbox inbox = cache.get(USER_ID).orElseThrow();
+		assertThat(inbox.unreadCount()).isEqualTo(2);
+		assertThat(inbox.totalCount()).isEqualTo(3);
+		assertThat(inbox.recent()).extracting(NotificationSummary::id).containsExactly(3L, 2L);
+	}
+
+	@Test
+	@DisplayName("읽음/삭제-안 읽은 수와 최근 알림에 반영")
+	void t3() {
+		fill(new NotificationInbox(2, 5, List.of(summary(2L, false), summary(1L, false))));
+
+		cache.markAsRead(USER_ID, 2L);
+		cache.remove(USER_ID, 1L, true);
+
+		NotificationInbox inbox = cache.get(USER_ID).orElseThrow();
+		assertThat(inbox.unreadCount()).isZero();
+		assertThat(inbox.totalCount()).isEqualTo(4);
+		assertThat(inbox.recent()).containsExactly(summary(2L, true));
+		assertThat(inbox.covers(2)).isFalse();
+	}
+
+	@Test
+	@DisplayName("채우는 중 갱신-읽어 둔 알림함을 저장하지 않음")
+	void t4() {
+		long fill = cache.beginFill(USER_ID);
+		NotificationInbox loaded = new NotificationInbox(1, 1, List.of(summary(1L, false)));
+
+		cache.markAsRead(USER_ID, 1L);
+		cache.putIfAbsent(USER_ID, loaded, fill);
+
+		assertThat(cache.get(USER_ID)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이미 반영된 갱신-다시 적용하지 않음")
+	void t5() {
+		fill(new NotificationInbox(0, 1, List.of(summary(1L, true))));
+
+		cache.add(USER_ID, summary(1L, true));
+		cache.markAsRead(USER_ID, 1L);
+
+		NotificationInbox inbox = cache.get(USER_ID).orElseThrow();
+		assertThat(inbox.unreadCount()).isZero();
+		assertThat(inbox.totalCount()).isEqualTo(1);
+		assertThat(inbox.recent()).containsExactly(summary(1L, true));
+	}
+
+	private void fill(NotificationInbox inbox) {
+		cache.putIfAbsent(USER_ID, inbox, cache.beginFill(USER_ID));
+	}
+
+	private static NotificationSummary summary(Long id, boolean read) {
+		return new NotificationSummary(id, "알림" + id, NOW.plusSeconds(id), read);
+	}
+}
@@ -0,0 +1,169 @@
+package org.com.drop.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.com.drop.domain.notification.config.NotificationProperties;
+import org.com.drop.domain.notification.config.NotificationStoreType;
+import org.com.drop.domain.notification.dto.NotificationResponse;
+import org.com.drop.domain.notification.dto.NotificationSummary;
+import org.com.drop.domain.notification.event.NotificationRequestedEvent;
+import org.com.drop.domain.notification.inbox.NotificationInboxCache;
+import org.com.drop.domain.notification.repository.NotificationBulkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class NotificationBatchWriterTest {
+
+	private NotificationBulkRepository notificationBulkRepository;
+	private NotificationService notificationService;
+	private NotificationInboxCache notificationInboxCache;
+	private NotificationBatchWriter notificationBatchWriter;
+
+	@BeforeEach
+	void setUp() {
+		notificationBulkRepository = mock(NotificationBulkRepository.class);
+		notificationService = mock(NotificationService.class);
+		notificationInboxCache = mock(NotificationInboxCache.class);
+		notificationBatchWriter = writer(Duration.ofMillis(10));
+		notificationBatchWriter.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		notificationBatchWriter.stop();
+	}
+
+	@Test
+	@DisplayName("구간 안에 들어온 알림-한 번의 INSERT로 저장 후 생성 id로 전송")
+	void t1() {
+		when(notificationBulkRepository.insertAll(anyList(), any())).thenReturn(List.of(11L, 12L, 13L));
+
+		notificationBatchWriter.submit(new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다."));
+		notificationBatchWriter.submit(new NotificationRequestedEvent(2L, "경매가 낙찰되었습니다."));
+		notificationBatchWriter.submit(new NotificationRequestedEvent(3L, "경매가 유찰되었습니다."));
+
+		ArgumentCaptor<NotificationResponse> delivered = ArgumentCaptor.forClass(NotificationResponse.class);
+		verify(notificationService, timeout(1000).times(3)).deliver(delivered.capture());
+		verify(notificationBulkRepository, times(1)).insertAll(anyList(), any());
+		assertThat(delivered.getAllValues())
+			.extracting(NotificationResponse::id, NotificationResponse::userId)
+			.containsExactly(tuple(11L, 1L), tuple(12L, 2L), tuple(13L, 3L));
+		verify(notificationInboxCache).add(eq(1L), argThat((NotificationSummary summary) -> summary.id() == 11L));
+	}
+
+	@Test
+	@DisplayName("저장 실패-전송하지 않음")
+	void t2() {
+		when(notificationBulkRepository.insertAll(anyList(), any())).thenThrow(new IllegalStateException("db down"));
+
+		notificationBatchWriter.submit(new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다."));
+
+		verify(notificationBulkRepository, timeout(1000)).insertAll(anyList(), any());
+		verify(notificationService, after(300).never()).deliver(any());
+		verify(notificationService, never()).sendTo(any(), any());
+		verify(notificationInboxCache, never()).add(any(), any());
+	}
+
+	@Test
+	@DisplayName("묶음 저장 실패-한 건씩 다시 저장해 정상 알림은 전송")
+	void t3() {
+		NotificationRequestedEvent good = new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다.");
+		NotificationRequestedEvent poison = new NotificationRequestedEvent(2L, "경매가 유찰되었습니다.");
+		when(notificationBulkRepository.insertAll(eq(List.of(good, poison)), any()))
+			.thenThrow(new IllegalStateException("constraint"));
+		when(notificationBulkRepository.insertAll(eq(List.of(good)), any())).thenReturn(List.of(11L));
+		when(notificationBulkRepository.insertAll(eq(List.of(poison)), any()))
+			.thenThrow(new IllegalStateException("constraint"));
+
+		notificationBatchWriter.submit(good);
+		notificationBatchWriter.submit(poison);
+
+		ArgumentCaptor<NotificationResponse> delivered = ArgumentCaptor.forClass(NotificationResponse.class);
+		verify(notificationService, timeout(1000)).deliver(delivered.capture());
+		assertThat(delivered.getValue().id()).isEqualTo(11L);
+		verify(notificationBulkRepository, timeout(1000).times(3)).insertAll(eq(List.of(poison)), any());
+		verify(notificationBulkRepository, after(300).times(3)).insertAll(eq(List.of(poison)), any());
+	}
+
+	@Test
+	@DisplayName("일시적인 저장 실패-다시 시도해 전송")
+	void t4() {
+		when(notificationBulkRepository.insertAll(anyList(), any()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(List.of(11L));
+
+		notificationBatchWriter.submit(new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다."));
+
+		verify(notificationService, timeout(1000)).deliver(any());
+	}
+
+	@Test
+	@DisplayName("종료-큐에 남은 알림을 저장 후 전송")
+	void t5() {
+		when(notificationBulkRepository.insertAll(anyList(), any())).thenReturn(List.of(11L));
+		notificationBatchWriter.submit(new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다."));
+
+		notificationBatchWriter.stop();
+
+		verify(notificationBulkRepository).insertAll(anyList(), any());
+		verify(notificationService).deliver(any());
+	}
+
+	@Test
+	@DisplayName("생성 id 없음-알림 응답 형식으로 전송")
+	void t6() {
+		when(notificationBulkRepository.insertAll(anyList(), any())).thenReturn(List.of());
+
+		notificationBatchWriter.submit(new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다."));
+
+		ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+		verify(notificationService, timeout(1000)).sendTo(eq(1L), sent.capture());
+		assertThat(sent.getValue()).isInstanceOfSatisfying(NotificationResponse.class, response -> {
+			assertThat(response.id()).isNull();
+			assertThat(response.userId()).isEqualTo(1L);
+			assertThat(response.message()).isEqualTo("경매가 낙찰되었습니다.");
+		});
+		verify(notificationService, never()).deliver(any());
+	}
+
+	@Test
+	@DisplayName("재시도 대기-다시 시도할 알림을 기다리는 동안에도 다른 알림은 저장 후 전송")
+	void t7() {
+		notificationBatchWriter.stop();
+		notificationBatchWriter = writer(Duration.ofSeconds(30));
+		notificationBatchWriter.start();
+		NotificationRequestedEvent failing = new NotificationRequestedEvent(1L, "경매가 낙찰되었습니다.");
+		NotificationRequestedEvent next = new NotificationRequestedEvent(2L, "경매가 유찰되었습니다.");
+		when(notificationBulkRepository.insertAll(eq(List.of(failing)), any()))
+			.thenThrow(new IllegalStateException("db down"));
+		when(notificationBulkRepository.insertAll(eq(List.of(next)), any())).thenReturn(List.of(12L));
+
+		notificationBatchWriter.submit(failing);
+		verify(notificationBulkRepository, timeout(1000)).insertAll(eq(List.of(failing)), any());
+		notificationBatchWriter.submit(next);
+
+		ArgumentCaptor<NotificationResponse> delivered = ArgumentCaptor.forClass(NotificationResponse.class);
+		verify(notificationService, timeout(1000)).deliver(delivered.capture());
+		assertThat(delivered.getValue().id()).isEqualTo(12L);
+		verify(notificationBulkRepository, times(1)).insertAll(eq(List.of(failing)), any());
+	}
+
+	private NotificationBatchWriter writer(Duration retryDelay) {
+		NotificationProperties properties = new NotificationProperties(
+			new NotificationProperties.Replay(NotificationStoreType.MEMORY, 50, Duration.ofMinutes(10)),
+			new NotificationProperties.Batch(200, 200, 3, retryDelay),
+			new NotificationProperties.Inbox(NotificationStoreType.MEMORY, 20, Duration.ofMinutes(10)),
+			new NotificationProperties.Retention(Duration.ofDays(30), 500));
+		return new NotificationBatchWriter(
+			notificationBulkRepository, notificationService, notificationInboxCache, properties);
+	}
+}
@@ -0,0 +1,100 @@
+package org.com.drop.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.com.drop.BaseIntegrationTest;
+import org.com.drop.domain.notification.entity.Notification;
+import org.com.drop.domain.notification.repository.NotificationRepository;
+import org.com.drop.domain.user.entity.User;
+import org.com.drop.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationCompactorTest extends BaseIntegrationTest {
+
+	@Autowired
+	private NotificationCompactor notificationCompactor;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User createDummyUser(String name) {
+		return userRepository.save(User.builder()
+			.email(name + "+" + UUID.randomUUID() + "@example.com")
+			.nickname(name + UUID.randomUUID())
+			.password("12345678")
+			.loginType(User.LoginType.LOCAL)
+			.role(User.UserRole.USER)
+			.createdAt(LocalDateTime.now())
+			.penaltyCount(0)
+			.build());
+	}
+
+	private Notification saveNotification(User user, LocalDateTime sendAt, LocalDateTime readAt) {
+		Notification notification = notificationRepository.save(new Notification(user, "정리 대상 알림"));
+		entityManager.flush();
+		entityManager.createNativeQuery("UPDATE notifications SET send_at = ?1, read_at = ?2 WHERE id = ?3")
+			.setParameter(1, sendAt)
+			.setParameter(2, readAt)
+			.setParameter(3, notification.getId())
+			.executeUpdate();
+		return notification;
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 읽은 알림만 삭제하고 기간 안의 알림을 만나면 멈춘다")
+	void compactChunk_deletesExpiredReadNotifications() {
+		User user = createDummyUser("notified");
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime cutoff = now.minusDays(30);
+
+		Notification expiredRead = saveNotification(user, now.minusDays(40), now.minusDays(39));
+		Notification expiredUnread = saveNotification(user, now.minusDays(35), null);
+		Notification recentRead = saveNotification(user, now.minusDays(1), now);
+		entityManager.clear();
+
+		Long lastId = notificationCompactor.compactChunk(expiredRead.getId() - 1, cutoff, 100);
+		entityManager.clear();
+
+		assertThat(lastId).isNull();
+		assertThat(notificationRepository.findById(expiredRead.getId())).isEmpty();
+		assertThat(notificationRepository.findById(expiredUnread.getId())).isPresent();
+		assertThat(notificationRepository.findById(recentRead.getId())).isPresent();
+	}
+
+	@Test
+	@DisplayName("한 번에 size개까지만 확인하고 마지막으로 확인한 알림 ID를 반환한다")
+	void compactChunk_returnsLastCheckedId() {
+		User user = createDummyUser("notified");
+		LocalDateTime now = LocalDateTime.now();
+
+		Notification first = saveNotification(user, now.minusDays(40), now.minusDays(39));
+		Notification second = saveNotification(user, now.minusDays(40), now.minusDays(39));
+		entityManager.clear();
+
+		Long lastId = notificationCompactor.compactChunk(first.getId() - 1, now.minusDays(30), 1);
+		entityManager.clear();
+
+		assertThat(lastId).isEqualTo(first.getId());
+		assertThat(notificationRepository.findById(first.getId())).isEmpty();
+		assertThat(notificationRepository.findById(second.getId())).isPresent();
+	}
+}
@@ -27,6 +27,7 @@ import org.com.drop.domain.user.entity.User;
 import org.com.drop.domain.user.repository.UserRepository;
 import org.com.drop.domain.winner.repository.WinnerRepository;
 import org.com.drop.global.aws.AmazonS3Client;
+import org.com.drop.global.aws.ImageUrlResolver;
 import org.com.drop.global.exception.ErrorCode;
 import org.com.drop.global.exception.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +75,9 @@ class UserServiceTest {
 	@Mock
 	private AmazonS3Client amazonS3Client;
 
+	@Mock
+	private ImageUrlResolver imageUrlResolver;
+
 	private User mockUser;
 
 	@BeforeEach
@@ -135,7 +139,7 @@ class UserServiceTest {
 			doNothing().when(amazonS3Client)
 				.verifyImage(List.of("new_image_key"));
 
-			when(amazonS3Client.getPresignedUrl("new_image_key"))
+			when(imageUrlResolver.resolve("new_image_key"))
 				.thenReturn("new_image_url");
 
 			// When
@@ -181,7 +185,7 @@ class UserServiceTest {
 
 			ProductImage img = ProductImage.builder().product(product).imageUrl("img_url").build();
 			when(productImageRepository.findAllByProductIdIn(anyList())).thenReturn(List.of(img));
-			when(amazonS3Client.getPresignedUrl("img_url")).thenReturn("img_url");
+			when(imageUrlResolver.resolve("img_url")).thenReturn("img_url");
 			// When
 			MyBookmarkPageResponse response = userService.getMyBookmarks(mockUser, page);
 
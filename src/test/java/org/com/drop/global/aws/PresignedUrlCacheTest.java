@@ -0,0 +1,48 @@
+package org.com.drop.global.aws;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PresignedUrlCacheTest {
+
+	private final PresignedUrlCache cache = new PresignedUrlCache();
+
+	@Test
+	@DisplayName("만료까지 여유가 있는 URL은 같은 key로 다시 쓴다")
+	void get_hit() {
+		cache.put("products/1.png", "https://bucket/products/1.png?sig=a", Instant.now().plus(Duration.ofHours(1)));
+
+		assertThat(cache.get("products/1.png")).isEqualTo("https://bucket/products/1.png?sig=a");
+	}
+
+	@Test
+	@DisplayName("저장한 적 없는 key는 비어 있다")
+	void get_miss() {
+		assertThat(cache.get("products/unknown.png")).isNull();
+	}
+
+	@Test
+	@DisplayName("만료 직전(안전 여유 안)의 URL은 재사용하지 않는다")
+	void get_expiringWithinMargin() {
+		cache.put("products/1.png", "https://bucket/products/1.png?sig=a", Instant.now().plus(Duration.ofMinutes(1)));
+
+		assertThat(cache.get("products/1.png")).isNull();
+	}
+
+	@Test
+	@DisplayName("정리 작업은 재사용할 수 없는 URL만 지운다")
+	void evictExpired_removesOnlyExpired() {
+		cache.put("products/old.png", "https://bucket/old", Instant.now().minus(Duration.ofMinutes(1)));
+		cache.put("products/new.png", "https://bucket/new", Instant.now().plus(Duration.ofHours(1)));
+
+		cache.evictExpired();
+
+		assertThat(cache.get("products/old.png")).isNull();
+		assertThat(cache.get("products/new.png")).isEqualTo("https://bucket/new");
+	}
+}
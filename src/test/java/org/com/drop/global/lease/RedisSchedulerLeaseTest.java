@@ -0,0 +1,44 @@
+package org.com.drop.global.lease;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisSchedulerLeaseTest {
+
+	private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+	private final RedisSchedulerLease lease = new RedisSchedulerLease(stringRedisTemplate);
+
+	@Test
+	@DisplayName("임대 스크립트가 1을 돌려주면 임대를 얻는다")
+	void t1() {
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+
+		assertThat(lease.tryAcquire("auction-sweep", Duration.ofSeconds(30))).isTrue();
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 임대를 가지고 있으면 실행하지 않는다")
+	void t2() {
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+
+		assertThat(lease.tryAcquire("auction-sweep", Duration.ofSeconds(30))).isFalse();
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 임대를 확인하지 못하면 이번 실행을 건너뛴다")
+	void t3() {
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+			.thenThrow(new RedisConnectionFailureException("redis down"));
+
+		assertThat(lease.tryAcquire("auction-sweep", Duration.ofSeconds(30))).isFalse();
+	}
+}
@@ -0,0 +1,79 @@
+package org.com.drop.global.sse;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import reactor.core.Disposable;
+
+class ReactiveSseHubTest {
+
+	private final ReactiveSseHub hub = new ReactiveSseHub();
+
+	private static ServerSentEvent<Object> event(String name, Object data) {
+		return ServerSentEvent.builder(data).event(name).build();
+	}
+
+	@Test
+	@DisplayName("구독한 토픽의 이벤트만 받는다")
+	void emit_deliversToTopicSubscribers() {
+		List<Object> auction1 = new CopyOnWriteArrayList<>();
+		List<Object> auction2 = new CopyOnWriteArrayList<>();
+		Disposable first = hub.stream("auction:1", true).subscribe(sse -> auction1.add(sse.data()));
+		Disposable second = hub.stream("auction:2", true).subscribe(sse -> auction2.add(sse.data()));
+
+		hub.emit("auction:1", event("highestPrice", 15_000L));
+
+		assertThat(auction1).containsExactly(15_000L);
+		assertThat(auction2).isEmpty();
+		first.dispose();
+		second.dispose();
+	}
+
+	@Test
+	@DisplayName("구독자가 없는 토픽으로 보낸 이벤트는 버려진다")
+	void emit_withoutSubscribers_isDropped() {
+		hub.emit("auction:1", event("highestPrice", 15_000L));
+
+		List<Object> received = new CopyOnWriteArrayList<>();
+		Disposable subscription = hub.stream("auction:1", true).subscribe(sse -> received.add(sse.data()));
+
+		assertThat(received).isEmpty();
+		subscription.dispose();
+	}
+
+	@Test
+	@DisplayName("마지막 구독자가 취소하면 토픽을 정리한다")
+	void cancel_releasesTopic() {
+		Disposable first = hub.stream("user:1", false).subscribe();
+		Disposable second = hub.stream("user:1", false).subscribe();
+		assertThat(hub.hasSubscribers("user:1")).isTrue();
+
+		first.dispose();
+		assertThat(hub.hasSubscribers("user:1")).isTrue();
+
+		second.dispose();
+		assertThat(hub.hasSubscribers("user:1")).isFalse();
+	}
+
+	@Test
+	@DisplayName("접두사가 같은 모든 토픽에 같은 이벤트를 보낸다")
+	void emitAll_deliversToMatchingTopics() {
+		List<Object> auction = new CopyOnWriteArrayList<>();
+		List<Object> user = new CopyOnWriteArrayList<>();
+		Disposable first = hub.stream("auction:1", true).subscribe(sse -> auction.add(sse.event()));
+		Disposable second = hub.stream("user:1", false).subscribe(sse -> user.add(sse.event()));
+
+		hub.emitAll("auction:", event("serverTime", 1L));
+
+		assertThat(auction).containsExactly("serverTime");
+		assertThat(user).isEmpty();
+		first.dispose();
+		second.dispose();
+	}
+}
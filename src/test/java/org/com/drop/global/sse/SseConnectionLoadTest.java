@@ -0,0 +1,92 @@
+package org.com.drop.global.sse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 로컬에 띄운 인스턴스에 SSE 스트림을 N개 동시에 열고 연결당 힙 사용량을 측정하는 부하 테스트.
+ * 대상 인스턴스는 메트릭 엔드포인트를 열어서 실행해야 한다.
+ * (예: ./gradlew bootRun --args='--management.endpoints.web.exposure.include=health,metrics')
+ * 기본 테스트에서는 제외하고 DROP_BENCHMARK=true 일 때만 실행한다.
+ * (예: DROP_BENCHMARK=true DROP_SSE_STREAMS=5000 ./gradlew test --tests "*SseConnectionLoadTest")
+ */
+@EnabledIfEnvironmentVariable(named = "DROP_BENCHMARK", matches = "true")
+class SseConnectionLoadTest {
+
+	private static final String TARGET = env("DROP_SSE_TARGET", "http://localhost:8080");
+	private static final int STREAMS = Integer.parseInt(env("DROP_SSE_STREAMS", "2000"));
+	private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.E+-]+)");
+	private static final Duration SETTLE = Duration.ofSeconds(5);
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+
+	@ParameterizedTest(name = "{0}")
+	@ValueSource(strings = {"/sse/auctions/1", "/sse/v2/auctions/1"})
+	@DisplayName("SseEmitter 스트림과 Flux 스트림의 연결당 메모리를 비교한다")
+	void measureMemoryPerConnection(String path) throws Exception {
+		double heapBefore = metric("jvm.memory.used?tag=area:heap");
+		double threadsBefore = metric("jvm.threads.live");
+
+		List<CompletableFuture<HttpResponse<Stream<String>>>> streams = new ArrayList<>(STREAMS);
+		HttpRequest request = HttpRequest.newBuilder(URI.create(TARGET + path))
+			.header("Accept", "text/event-stream")
+			.build();
+		for (int i = 0; i < STREAMS; i++) {
+			streams.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofLines()));
+		}
+
+		int opened = 0;
+		try {
+			for (CompletableFuture<HttpResponse<Stream<String>>> stream : streams) {
+				if (stream.get(30, TimeUnit.SECONDS).statusCode() == 200) {
+					opened++;
+				}
+			}
+			Thread.sleep(SETTLE.toMillis());
+
+			double heapAfter = metric("jvm.memory.used?tag=area:heap");
+			double threadsAfter = metric("jvm.threads.live");
+			System.out.printf("[BENCHMARK] path=%s streams=%d heapDelta=%.1fMB perConnection=%.1fKB threadDelta=%.0f%n",
+				path, opened, (heapAfter - heapBefore) / (1024 * 1024), (heapAfter - heapBefore) / 1024 / opened,
+				threadsAfter - threadsBefore);
+		} finally {
+			for (CompletableFuture<HttpResponse<Stream<String>>> stream : streams) {
+				stream.thenAccept(response -> response.body().close());
+			}
+		}
+	}
+
+	private double metric(String name) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(TARGET + "/actuator/metrics/" + name)).build();
+		String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+		Matcher matcher = METRIC_VALUE.matcher(body);
+		if (!matcher.find()) {
+			throw new IllegalStateException("메트릭을 읽을 수 없습니다. 메트릭 엔드포인트가 열려 있는지 확인하세요: " + body);
+		}
+		return Double.parseDouble(matcher.group(1));
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
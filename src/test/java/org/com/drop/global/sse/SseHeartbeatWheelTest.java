@@ -0,0 +1,47 @@
+package org.com.drop.global.sse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseHeartbeatWheelTest {
+
+	private final SseWriterPool sseWriterPool = new SseWriterPool(
+		new SseProperties(SseFanoutMode.LOCAL, new SseProperties.Writer(32, 5000),
+			new SseProperties.Heartbeat(Duration.ofSeconds(15), Duration.ofMillis(250))),
+		new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("tick마다 버킷 하나씩 방문-연결이 버킷에 고르게 나뉘고 이벤트가 있던 연결은 제외")
+	void t1() {
+		SseHeartbeatWheel wheel = new SseHeartbeatWheel(Duration.ofSeconds(1), Duration.ofMillis(250));
+		List<SseConnection> connections = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			SseConnection connection = sseWriterPool.open(mock(SseEmitter.class), "auction", "1", c -> { });
+			connection.assignHeartbeatBucket(wheel.add(connection));
+			connections.add(connection);
+		}
+		long now = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+		connections.get(4).touch(now);
+
+		List<SseConnection> beaten = new ArrayList<>();
+		wheel.advance(now, beaten::add);
+		// 버킷 0 = 연결 0, 4 (연결 4는 방금 이벤트를 보냄)
+		assertThat(beaten).containsExactly(connections.get(0));
+
+		beaten.clear();
+		for (int i = 0; i < 3; i++) {
+			wheel.advance(now, beaten::add);
+		}
+		assertThat(beaten).hasSize(6).doesNotContain(connections.get(4));
+	}
+}
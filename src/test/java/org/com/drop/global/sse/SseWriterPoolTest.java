@@ -0,0 +1,115 @@
+package org.com.drop.global.sse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseWriterPoolTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private SseWriterPool sseWriterPool;
+	private SseEmitter emitter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		sseWriterPool = new SseWriterPool(
+			new SseProperties(SseFanoutMode.LOCAL, new SseProperties.Writer(2, 0),
+				new SseProperties.Heartbeat(Duration.ofSeconds(15), Duration.ofMillis(250))), meterRegistry);
+		// 첫 전송에서 release 전까지 멈추는 느린 클라이언트
+		emitter = mock(SseEmitter.class);
+		doAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(emitter).send(anySet());
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		sseWriterPool.shutdown();
+	}
+
+	@Test
+	@DisplayName("최신 값 프레임-전송 대기 중인 이전 프레임을 대체")
+	void t1() throws Exception {
+		SseConnection connection = sseWriterPool.open(emitter, "auction", "1", c -> { });
+
+		sseWriterPool.send(connection, SseFrame.latest("highestPrice", "1000"));
+		await().atMost(1, TimeUnit.SECONDS).until(() -> connection.queueDepth() == 0);
+
+		sseWriterPool.send(connection, SseFrame.latest("highestPrice", "2000"));
+		sseWriterPool.send(connection, SseFrame.latest("highestPrice", "3000"));
+		sseWriterPool.send(connection, SseFrame.latest("highestPrice", "4000"));
+		assertThat(connection.queueDepth()).isEqualTo(1);
+		release.countDown();
+
+		ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.captor();
+		verify(emitter, timeout(1000).times(2)).send(captor.capture());
+		byte[] last = (byte[])captor.getAllValues().get(1).iterator().next().getData();
+		assertThat(new String(last, StandardCharsets.UTF_8)).isEqualTo("event:highestPrice\ndata:4000\n\n");
+		assertThat(meterRegistry.counter("sse.frames.dropped", "stream", "auction").count())
+			.isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("송신 큐가 계속 가득 찬 연결-연결 종료")
+	void t2() throws Exception {
+		AtomicReference<SseConnection> closed = new AtomicReference<>();
+		SseConnection connection = sseWriterPool.open(emitter, "notification", "all", closed::set);
+
+		sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("a")));
+		await().atMost(1, TimeUnit.SECONDS).until(() -> connection.queueDepth() == 0);
+		sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("b")));
+		sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("c")));
+		sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("d")));
+
+		assertThat(connection.isClosed()).isTrue();
+		assertThat(closed.get()).isSameAs(connection);
+		assertThat(connection.queueDepth()).isZero();
+		verify(emitter, timeout(1000)).complete();
+		assertThat(meterRegistry.counter("sse.connections.evicted", "stream", "notification").count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("멈춘 연결 종료-emitter 완료를 기다리지 않고 호출 스레드 반환")
+	void t3() throws Exception {
+		// 실제 emitter는 send 중인 writer가 잡은 잠금을 complete도 기다린다.
+		doAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(emitter).complete();
+		SseConnection connection = sseWriterPool.open(emitter, "auction", "1", c -> { });
+		sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("a")));
+		await().atMost(1, TimeUnit.SECONDS).until(() -> connection.queueDepth() == 0);
+
+		CompletableFuture.runAsync(() -> {
+			sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("b")));
+			sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("c")));
+			sseWriterPool.send(connection, SseFrame.of(SseEmitter.event().data("d")));
+		}).get(1, TimeUnit.SECONDS);
+
+		assertThat(connection.isClosed()).isTrue();
+		assertThat(connection.queueDepth()).isZero();
+		verify(emitter, timeout(1000)).complete();
+	}
+}
@@ -0,0 +1,68 @@
+package org.com.drop.scheduler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.com.drop.domain.auction.auction.config.AuctionProperties;
+import org.com.drop.domain.auction.auction.repository.AuctionRepository;
+import org.com.drop.domain.auction.auction.service.AuctionService;
+import org.com.drop.domain.auction.bid.service.AuctionClosePipeline;
+import org.com.drop.global.lease.SchedulerLease;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSchedulerTest {
+
+	@Mock
+	AuctionRepository auctionRepository;
+
+	@Mock
+	AuctionService auctionService;
+
+	@Mock
+	AuctionClosePipeline auctionClosePipeline;
+
+	@Mock
+	AuctionProperties auctionProperties;
+
+	@Mock
+	SchedulerLease schedulerLease;
+
+	@InjectMocks
+	AuctionScheduler auctionScheduler;
+
+	@Test
+	@DisplayName("다른 인스턴스가 임대를 가지고 있으면 경매를 조회하지 않는다")
+	void skipsWithoutLease() {
+		when(schedulerLease.tryAcquire(eq("auction-sweep"), any(Duration.class))).thenReturn(false);
+
+		auctionScheduler.runAuctionScheduler();
+
+		verifyNoInteractions(auctionRepository, auctionService, auctionClosePipeline);
+	}
+
+	@Test
+	@DisplayName("임대를 얻으면 시각이 지난 경매를 묶음 단위로 시작하고 마감한다")
+	void runsWithLease() {
+		when(schedulerLease.tryAcquire(eq("auction-sweep"), any(Duration.class))).thenReturn(true);
+		when(auctionProperties.batch()).thenReturn(new AuctionProperties.Batch(2));
+		when(auctionService.startDueAuctions(2)).thenReturn(List.of(1L, 5L), List.of(6L));
+		when(auctionRepository.findDueToCloseIds(any(), eq(0L), any())).thenReturn(List.of(2L, 3L));
+		when(auctionRepository.findDueToCloseIds(any(), eq(3L), any())).thenReturn(List.of(4L));
+		when(auctionRepository.findDueToCloseIds(any(), eq(4L), any())).thenReturn(List.of());
+
+		auctionScheduler.runAuctionScheduler();
+
+		verify(auctionService, times(2)).startDueAuctions(2);
+		verify(auctionClosePipeline).close(List.of(2L, 3L));
+		verify(auctionClosePipeline).close(List.of(4L));
+	}
+}
@@ -0,0 +1,95 @@
+package org.com.drop.scheduler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.com.drop.domain.auction.bid.config.BidMode;
+import org.com.drop.domain.auction.bid.config.BidProperties;
+import org.com.drop.domain.auction.bid.service.AcceptedBid;
+import org.com.drop.domain.auction.bid.service.AcceptedBidWriter;
+import org.com.drop.domain.auction.bid.store.RedisBidAdmissionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+class BidFlushSchedulerTest {
+
+	private static final int BATCH_SIZE = 500;
+
+	private RedisBidAdmissionStore admissionStore;
+	private AcceptedBidWriter acceptedBidWriter;
+	private BidFlushScheduler bidFlushScheduler;
+
+	private final AcceptedBid good = new AcceptedBid(1L, 2L, 11_000L, LocalDateTime.now(), null);
+	private final AcceptedBid poison = new AcceptedBid(1L, 999L, 12_000L, LocalDateTime.now(), null);
+
+	@BeforeEach
+	void setUp() {
+		admissionStore = mock(RedisBidAdmissionStore.class);
+		acceptedBidWriter = mock(AcceptedBidWriter.class);
+		BidProperties properties = new BidProperties(
+			BidMode.REDIS,
+			new BidProperties.Redis(BATCH_SIZE, 3),
+			new BidProperties.Optimistic(3),
+			new BidProperties.Sequencer(100, 5000),
+			new BidProperties.GroupCommit(10, 500)
+		);
+		bidFlushScheduler = new BidFlushScheduler(properties, admissionStore, acceptedBidWriter);
+
+		when(admissionStore.drainAccepted(BATCH_SIZE)).thenReturn(List.of(good, poison));
+		doThrow(new DataIntegrityViolationException("fk")).when(acceptedBidWriter).write(List.of(good, poison));
+		doThrow(new DataIntegrityViolationException("fk")).when(acceptedBidWriter).write(List.of(poison));
+	}
+
+	@Test
+	@DisplayName("묶음 반영이 실패하면 정상 입찰은 반영하고 실패한 입찰만 큐에 되돌린다")
+	void flush_isolatesFailingBid() {
+		when(admissionStore.recordFailure(poison)).thenReturn(1L);
+
+		bidFlushScheduler.flushAcceptedBids();
+
+		verify(acceptedBidWriter).write(List.of(good));
+		verify(admissionStore).acknowledge(List.of(good));
+		verify(admissionStore).requeue(List.of(poison));
+		verify(admissionStore, never()).deadLetter(any());
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수만큼 실패한 입찰은 dead-letter 큐로 옮긴다")
+	void flush_deadLettersAfterMaxAttempts() {
+		when(admissionStore.recordFailure(poison)).thenReturn(3L);
+
+		bidFlushScheduler.flushAcceptedBids();
+
+		verify(admissionStore).deadLetter(poison);
+		verify(admissionStore, never()).requeue(anyList());
+	}
+
+	@Test
+	@DisplayName("일시적인 DB 장애는 시도 횟수를 세지 않고 남은 입찰을 모두 되돌린다")
+	void flush_transientFailure_requeuesAll() {
+		doThrow(new QueryTimeoutException("timeout")).when(acceptedBidWriter).write(anyList());
+
+		bidFlushScheduler.flushAcceptedBids();
+
+		verify(admissionStore).requeue(List.of(good, poison));
+		verify(admissionStore, never()).recordFailure(any());
+		verify(admissionStore, never()).acknowledge(List.of(good, poison));
+	}
+
+	@Test
+	@DisplayName("묶음 반영에 성공하면 반영한 입찰을 미반영 입찰 수에서 뺀다")
+	void flush_acknowledgesWrittenBids() {
+		doNothing().when(acceptedBidWriter).write(List.of(good, poison));
+
+		bidFlushScheduler.flushAcceptedBids();
+
+		verify(admissionStore).acknowledge(List.of(good, poison));
+		verify(admissionStore, never()).requeue(anyList());
+	}
+}